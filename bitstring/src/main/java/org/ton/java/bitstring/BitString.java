@@ -1,108 +1,126 @@
 package org.ton.java.bitstring;
 
-import org.apache.commons.lang3.StringUtils;
 import org.ton.java.address.Address;
 import org.ton.java.utils.Utils;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static java.util.Objects.isNull;
 
 /**
- * Implements BitString where each bit is actually a Boolean variable in memory.
- * Not efficient, but perfect for educational purposes.
- * See RealBitString implementation where each element of BitString stored as real bit in a memory.
+ * Implements BitString where bits are packed into 64-bit words, most significant bit first.
+ * Bits are appended at writeCursor and consumed from readCursor, i.e. BitString behaves like a queue of bits.
+ * Copies and sub-strings are views sharing the same words until one of them is written to.
+ * See RealBitString implementation where each element of BitString stored as real bit in a byte array.
  */
 public class BitString implements Bits<Boolean> {
 
-    Deque<Boolean> array;
+    long[] words;
+    int readCursor;
+    int writeCursor;
+
+    /**
+     * words are borrowed from another BitString and must be copied before writing
+     */
+    private boolean view;
+
+    /**
+     * words are borrowed by views and must not be compacted in place
+     */
+    private boolean shared;
 
     private static final int MAX_LENGTH = 1023;
 
     private final int initialLength;
 
     public BitString(BitString bs) {
-        array = new ArrayDeque<>(bs.array.size());
-        for (Boolean b : bs.array) {
-            writeBit(b);
-        }
-        initialLength = bs.array.size() == 0 ? MAX_LENGTH : bs.array.size();
+        this(bs, bs.readCursor, bs.writeCursor, bs.getUsedBits() == 0 ? MAX_LENGTH : bs.getUsedBits());
+    }
+
+    /**
+     * Creates view on bits [from, to) of another BitString without copying them
+     */
+    private BitString(BitString source, int from, int to, int length) {
+        words = source.words;
+        readCursor = from;
+        writeCursor = to;
+        view = true;
+        source.shared = true;
+        initialLength = length;
     }
 
     public BitString(byte[] bytes) {
-        this(Utils.signedBytesToUnsigned(bytes));
+        this(bytes, bytes.length * 8);
     }
 
     public BitString(int[] bytes) {
-        if (bytes.length == 0) {
-            array = new ArrayDeque<>(0);
-            initialLength = 0;
-        } else {
-            String bits = StringUtils.leftPad(Utils.bytesToBitString(bytes), bytes.length * 8, '0');
-
-            array = new ArrayDeque<>(bits.length());
-            for (int i = 0; i < bits.length(); i++) { // whole length
-                if (bits.charAt(i) == '1') {
-                    array.addLast(true);
-                } else if (bits.charAt(i) == '0') {
-                    array.addLast(false);
-                } else {
-                    // else '-' sign - do nothing
-                }
-            }
-            initialLength = bits.length();
+        words = new long[wordsFor(bytes.length * 8)];
+        for (int b : bytes) {
+            writeBits(b & 0xFF, 8);
         }
+        initialLength = bytes.length * 8;
     }
 
-//    public BitString(byte[] bytes, int size) {
-//        this(Utils.signedBytesToUnsigned(bytes), size); // todo redo below
-//    }
-
     public BitString(byte[] bytes, int size) {
         if (bytes.length == 0) {
-            array = new ArrayDeque<>(0);
+            words = new long[0];
             initialLength = 0;
         } else {
-            String bits = StringUtils.leftPad(Utils.bytesToBitString(bytes), bytes.length * 8, '0');
-
-            array = new ArrayDeque<>(bits.length());
-            for (int i = 0; i < size; i++) { // specified length
-                if (bits.charAt(i) == '1') {
-                    array.addLast(true);
-                } else if (bits.charAt(i) == '0') {
-                    array.addLast(false);
-                } else {
-                    // else '-' sign - do nothing
-                }
+            if (size > bytes.length * 8) {
+                throw new Error("BitString overflow. size[" + size + "] > length[" + bytes.length * 8 + "]");
             }
-            initialLength = bits.length();
+            words = new long[wordsFor(bytes.length * 8)];
+            writeBitsFromBytes(bytes, 0, size);
+            initialLength = bytes.length * 8;
         }
     }
 
+    /**
+     * Create BitString from size bits of the byte array starting at byte offset
+     *
+     * @param bytes  byte[]
+     * @param offset int    offset in bytes
+     * @param size   int    length of BitString in bits
+     */
+    public BitString(byte[] bytes, int offset, int size) {
+        if (offset + ((size + 7) >>> 3) > bytes.length) {
+            throw new Error("BitString overflow. size[" + size + "] > length[" + (bytes.length - offset) * 8 + "]");
+        }
+        words = new long[wordsFor(size)];
+        writeBitsFromBytes(bytes, offset * 8, size);
+        initialLength = size;
+    }
+
     /**
      * Create BitString limited by length
      *
      * @param length int    length of BitString in bits
      */
     public BitString(int length) {
-        array = new ArrayDeque<>(length);
+        words = new long[wordsFor(length)];
         initialLength = length;
     }
 
     public BitString() {
-        array = new ArrayDeque<>(MAX_LENGTH);
+        words = new long[wordsFor(MAX_LENGTH)];
         initialLength = MAX_LENGTH;
     }
 
+    private static int wordsFor(int bits) {
+        return bits <= 0 ? 0 : (bits + 63) >>> 6;
+    }
+
     /**
      * Return free bits, that derives from total length minus bits written
      *
      * @return int
      */
     public int getFreeBits() {
-        return initialLength - array.size();
+        return initialLength - getUsedBits();
     }
 
     /**
@@ -111,14 +129,14 @@ public class BitString implements Bits<Boolean> {
      * @return int
      */
     public int getUsedBits() {
-        return array.size();
+        return writeCursor - readCursor;
     }
 
     /**
      * @return int
      */
     public int getUsedBytes() {
-        return (int) Math.ceil(array.size() / (double) 8);
+        return (getUsedBits() + 7) >>> 3;
     }
 
     /**
@@ -127,17 +145,148 @@ public class BitString implements Bits<Boolean> {
      * @return Boolean    bit value at position `n`
      */
     public Boolean get() {
-        return array.peekFirst();
+        if (readCursor == writeCursor) {
+            return null;
+        }
+        return bitAt(readCursor);
     }
 
     /**
-     * Check if bit at position n is reachable
+     * Check if n bits can be read
      *
      * @param n int
      */
     private void checkRange(int n) {
-        if (n > getLength()) {
-            throw new Error("BitString overflow");
+        if (n > getUsedBits()) {
+            throw new Error("BitString overflow. Can't read " + n + " bits, " + getUsedBits() + " bits left.");
+        }
+    }
+
+    /**
+     * Makes sure n more bits can be written. Words fully consumed by reading are dropped on reallocation.
+     * A view gets its own copy of the words first.
+     *
+     * @param n int
+     */
+    private void ensureCapacity(int n) {
+        int required = writeCursor + n;
+        if (!view && required <= (words.length << 6)) {
+            return;
+        }
+        int consumedWords = readCursor >>> 6;
+        int usedWords = wordsFor(writeCursor) - consumedWords;
+        int requiredWords = wordsFor(required) - consumedWords;
+        if (!view && !shared && requiredWords <= words.length) {
+            System.arraycopy(words, consumedWords, words, 0, usedWords);
+            Arrays.fill(words, usedWords, words.length, 0L);
+        } else {
+            int capacity = view ? wordsFor(initialLength) : words.length * 2;
+            long[] extended = new long[Math.max(requiredWords, capacity)];
+            System.arraycopy(words, consumedWords, extended, 0, usedWords);
+            if (view && (writeCursor & 63) != 0) {
+                // drop bits of the source that follow this view
+                extended[usedWords - 1] &= -1L << (64 - (writeCursor & 63));
+            }
+            words = extended;
+            view = false;
+            shared = false;
+        }
+        readCursor -= consumedWords << 6;
+        writeCursor -= consumedWords << 6;
+    }
+
+    /**
+     * Removes all bits, so that the BitString can be written again from the start.
+     * Memory is reused unless it is shared with views.
+     */
+    public void clear() {
+        if (view || shared) {
+            words = new long[wordsFor(initialLength)];
+            view = false;
+            shared = false;
+        } else {
+            Arrays.fill(words, 0, Math.min(words.length, wordsFor(writeCursor)), 0L);
+        }
+        readCursor = 0;
+        writeCursor = 0;
+    }
+
+    private boolean bitAt(int position) {
+        return (words[position >>> 6] << (position & 63)) < 0;
+    }
+
+    /**
+     * Returns n bits (n &lt;= 64) starting at absolute position, aligned to the right.
+     */
+    private long bitsAt(int position, int n) {
+        if (n == 0) {
+            return 0;
+        }
+        int index = position >>> 6;
+        int offset = position & 63;
+        long value = words[index] << offset;
+        if (64 - offset < n) {
+            value |= words[index + 1] >>> (64 - offset);
+        }
+        return value >>> (64 - n);
+    }
+
+    /**
+     * Appends lowest n bits (n &lt;= 64) of value, most significant first.
+     */
+    private void writeBits(long value, int n) {
+        if (n == 0) {
+            return;
+        }
+        ensureCapacity(n);
+        if (n < 64) {
+            value &= (1L << n) - 1;
+        }
+        int index = writeCursor >>> 6;
+        int free = 64 - (writeCursor & 63);
+        if (n <= free) {
+            words[index] |= value << (free - n);
+        } else {
+            words[index] |= value >>> (n - free);
+            words[index + 1] |= value << (64 - n + free);
+        }
+        writeCursor += n;
+    }
+
+    private void writeBitsFromBytes(byte[] bytes, int from, int n) {
+        ensureCapacity(n);
+        int position = from;
+        int end = from + n;
+        while ((position & 7) != 0 && position < end) {
+            writeBits((bytes[position >>> 3] >>> (7 - (position & 7))) & 1, 1);
+            position++;
+        }
+        while (end - position >= 64) {
+            long value = 0;
+            int i = position >>> 3;
+            for (int j = 0; j < 8; j++) {
+                value = (value << 8) | (bytes[i + j] & 0xFF);
+            }
+            writeBits(value, 64);
+            position += 64;
+        }
+        while (end - position >= 8) {
+            writeBits(bytes[position >>> 3] & 0xFF, 8);
+            position += 8;
+        }
+        if (position < end) {
+            writeBits((bytes[position >>> 3] & 0xFF) >>> (8 - (end - position)), end - position);
+        }
+    }
+
+    private void copyFrom(BitString source, int from, int n) {
+        ensureCapacity(n);
+        int position = from;
+        int end = from + n;
+        while (position < end) {
+            int chunk = Math.min(64, end - position);
+            writeBits(source.bitsAt(position, chunk), chunk);
+            position += chunk;
         }
     }
 
@@ -147,7 +296,7 @@ public class BitString implements Bits<Boolean> {
      * @param b Boolean
      */
     public void writeBit(Boolean b) {
-        array.addLast(b);
+        writeBits(b ? 1 : 0, 1);
     }
 
 
@@ -157,11 +306,7 @@ public class BitString implements Bits<Boolean> {
      * @param b byte
      */
     void writeBit(byte b) {
-        if ((b) > 0) {
-            array.addLast(true);
-        } else {
-            array.addLast(false);
-        }
+        writeBits(b > 0 ? 1 : 0, 1);
     }
 
     /**
@@ -199,15 +344,17 @@ public class BitString implements Bits<Boolean> {
             throw new Error("bitLength is too small for number, got number=" + number + ", bitLength=" + bitLength);
         }
 
-        String s = number.toString(2);
-
-        if (s.length() != bitLength) {
-            s = repeatZeros(bitLength - s.length()) + s;
+        if (bitLength <= 64) {
+            writeBits(number.longValue(), bitLength);
+            return;
         }
 
-        for (int i = 0; i < bitLength; i++) {
-            writeBit(s.charAt(i) == '1');
+        int valueLength = number.bitLength();
+        for (int zeros = bitLength - valueLength; zeros > 0; zeros -= 64) {
+            writeBits(0, Math.min(64, zeros));
         }
+        byte[] bytes = number.toByteArray();
+        writeBitsFromBytes(bytes, bytes.length * 8 - valueLength, valueLength);
     }
 
     public String repeatZeros(int count) {
@@ -223,7 +370,19 @@ public class BitString implements Bits<Boolean> {
      * @param bitLength size of uint in bits
      */
     public void writeUint(long number, int bitLength) {
-        writeUint(BigInteger.valueOf(number), bitLength);
+        if (number < 0) {
+            throw new Error("Unsigned number cannot be less than 0");
+        }
+        if (bitLength == 0 || (64 - Long.numberOfLeadingZeros(number) > bitLength)) {
+            if (number == 0) {
+                return;
+            }
+            throw new Error("bitLength is too small for number, got number=" + number + ", bitLength=" + bitLength);
+        }
+        for (int zeros = bitLength - 64; zeros > 0; zeros -= 64) {
+            writeBits(0, Math.min(64, zeros));
+        }
+        writeBits(number, Math.min(64, bitLength));
     }
 
     /**
@@ -246,8 +405,7 @@ public class BitString implements Bits<Boolean> {
         } else {
             if (number.signum() == -1) {
                 writeBit(true);
-                BigInteger b = BigInteger.valueOf(2);
-                BigInteger nb = b.pow(bitLength - 1);
+                BigInteger nb = BigInteger.ONE.shiftLeft(bitLength - 1);
                 writeUint(nb.add(number), bitLength - 1);
             } else {
                 writeBit(false);
@@ -256,13 +414,39 @@ public class BitString implements Bits<Boolean> {
         }
     }
 
+    /**
+     * Write signed int
+     *
+     * @param number    value
+     * @param bitLength size of int in bits
+     */
+    public void writeInt(long number, int bitLength) {
+        if (bitLength < 1 || bitLength > 64) {
+            writeInt(BigInteger.valueOf(number), bitLength);
+            return;
+        }
+        if (bitLength < 64) {
+            long bound = 1L << (bitLength - 1);
+            if ((number < -bound) || (number >= bound)) {
+                throw new Error("bitLength is too small for number, got number=" + number + ", bitLength=" + bitLength);
+            }
+        }
+        writeBits(number, bitLength);
+    }
+
     /**
      * Write unsigned 8-bit int
      *
      * @param ui8 int
      */
     public void writeUint8(int ui8) {
-        writeUint(BigInteger.valueOf(ui8), 8);
+        if (ui8 < 0) {
+            throw new Error("Unsigned number cannot be less than 0");
+        }
+        if (ui8 > 0xFF) {
+            throw new Error("bitLength is too small for number, got number=" + ui8 + ", bitLength=8");
+        }
+        writeBits(ui8, 8);
     }
 
     /**
@@ -271,9 +455,7 @@ public class BitString implements Bits<Boolean> {
      * @param ui8 byte[]
      */
     public void writeBytes(byte[] ui8) {
-        for (byte b : ui8) {
-            writeUint8(b & 0xff);
-        }
+        writeBitsFromBytes(ui8, 0, ui8.length * 8);
     }
 
     /**
@@ -303,31 +485,33 @@ public class BitString implements Bits<Boolean> {
         if (amount.signum() == -1) {
             throw new Error("Coins value must be positive.");
         }
+        int bytesSize = (amount.bitLength() + 7) >>> 3;
+        if (bytesSize >= 16) {
+            throw new Error("Amount is too big. Maximum amount 2^120-1");
+        }
+        writeBits(bytesSize, 4);
+        writeUint(amount, bytesSize * 8);
+    }
 
-        if (amount.compareTo(BigInteger.ZERO) == 0) {
-            writeUint(BigInteger.ZERO, 4);
-        } else {
-            int bytesSize = (int) Math.ceil((amount.bitLength() / (double) 8));
-            if (bytesSize >= 16) {
-                throw new Error("Amount is too big. Maximum amount 2^120-1");
-            }
-            writeUint(BigInteger.valueOf(bytesSize), 4);
-            writeUint(amount, bytesSize * 8);
+    /**
+     * @param amount positive amount in nano-coins
+     */
+    public void writeCoins(long amount) {
+        if (amount < 0) {
+            throw new Error("Coins value must be positive.");
         }
+        int bytesSize = (64 - Long.numberOfLeadingZeros(amount) + 7) >>> 3;
+        writeBits(bytesSize, 4);
+        writeBits(amount, bytesSize * 8);
     }
 
     public void writeVarUint(BigInteger value, int bitLength) {
-
-        if (value.compareTo(BigInteger.ZERO) == 0) {
-            writeUint(BigInteger.ZERO, bitLength);
-        } else {
-            int bytesSize = (int) Math.ceil((value.bitLength() / (double) 8));
-            if (bytesSize >= bitLength) {
-                throw new Error("Amount is too big. Should fit in " + bitLength + " bits");
-            }
-            writeUint(BigInteger.valueOf(bytesSize), bitLength);
-            writeUint(value, bytesSize * 8);
+        int bytesSize = (value.bitLength() + 7) >>> 3;
+        if (bytesSize != 0 && bytesSize >= bitLength) {
+            throw new Error("Amount is too big. Should fit in " + bitLength + " bits");
         }
+        writeUint(bytesSize, bitLength);
+        writeUint(value, bytesSize * 8);
     }
 
     /**
@@ -342,24 +526,24 @@ public class BitString implements Bits<Boolean> {
      */
     public void writeAddress(Address address) {
         if (isNull(address)) {
-            writeUint(0, 2);
+            writeBits(0, 2);
         } else {
-            writeUint(2, 2);
-            writeUint(0, 1);
-            writeInt(BigInteger.valueOf(address.wc), 8);
+            writeBits(0b100, 3);
+            writeBits(address.wc, 8);
             writeBytes(address.hashPart);
         }
     }
 
     /**
-     * Write another BitString to this BitString
+     * Write another BitString to this BitString. Bits of another BitString are consumed.
      *
      * @param anotherBitString BitString
      */
     public void writeBitString(BitString anotherBitString) {
-        for (Boolean b : anotherBitString.array) {
-            writeBit(anotherBitString.readBit());
-        }
+        int n = anotherBitString.getUsedBits();
+        ensureCapacity(n);
+        copyFrom(anotherBitString, anotherBitString.readCursor, n);
+        anotherBitString.readCursor = anotherBitString.writeCursor;
     }
 
     /**
@@ -377,21 +561,44 @@ public class BitString implements Bits<Boolean> {
      * @return true or false
      */
     public Boolean readBit() {
-//        return array.getFirst();
-        return array.pollFirst();
+        if (readCursor == writeCursor) {
+            return null;
+        }
+        return bitAt(readCursor++);
+    }
+
+    /**
+     * Read bit at position n counting from the current one, without removing it
+     *
+     * @param n int
+     * @return true or false
+     */
+    public Boolean prereadBit(int n) {
+        checkRange(n + 1);
+        return bitAt(readCursor + n);
+    }
+
+    /**
+     * Skip n bits
+     *
+     * @param n integer
+     */
+    public void skipBits(int n) {
+        checkRange(n);
+        readCursor += Math.max(0, n);
     }
 
     /**
-     * Read n bits from the BitString
+     * Read n bits from the BitString. Result shares memory with the original BitString until written to.
      *
      * @param n integer
      * @return BitString with length n read from original Bitstring
      */
     public BitString readBits(int n) {
-        BitString result = new BitString(n);
-        for (int i = 0; i < n; i++) {
-            result.writeBit(readBit());
-        }
+        checkRange(n);
+        n = Math.max(0, n);
+        BitString result = new BitString(this, readCursor, readCursor + n, n);
+        readCursor += n;
         return result;
     }
 
@@ -401,11 +608,7 @@ public class BitString implements Bits<Boolean> {
      * @return BitString with length of read bits from original Bitstring
      */
     public BitString readBits() {
-        BitString result = new BitString(array.size());
-        for (int i = 0; i < array.size(); i++) {
-            result.writeBit(readBit());
-        }
-        return result;
+        return readBits(getUsedBits());
     }
 
     /**
@@ -415,21 +618,62 @@ public class BitString implements Bits<Boolean> {
      * @return BigInteger
      */
     public BigInteger preReadUint(int bitLength) {
-        BitString cloned = new BitString(this);
-
         if (bitLength < 1) {
             throw new Error("Incorrect bitLength");
         }
-        StringBuilder s = new StringBuilder();
-        for (int i = 0; i < bitLength; i++) {
-            Boolean b = cloned.readBit();
-            if (b) {
-                s.append("1");
-            } else {
-                s.append("0");
-            }
+        if (bitLength < 64) {
+            return BigInteger.valueOf(preReadUintLong(bitLength));
         }
-        return new BigInteger(s.toString(), 2);
+        BitString cloned = new BitString(this);
+        return cloned.readUint(bitLength);
+    }
+
+    /**
+     * Read signed int of bitLength without moving readCursor, i.e. modifying BitString
+     *
+     * @param bitLength length in bits
+     * @return BigInteger
+     */
+    public BigInteger preReadInt(int bitLength) {
+        BitString cloned = new BitString(this);
+        return cloned.readInt(bitLength);
+    }
+
+    /**
+     * Read bits of bitLength without moving readCursor, i.e. modifying BitString
+     *
+     * @param bitLength length in bits, up to 64
+     * @return long, where uint64 values above Long.MAX_VALUE are returned as negative numbers
+     */
+    public long preReadUintLong(int bitLength) {
+        if (bitLength < 1 || bitLength > 64) {
+            throw new Error("Incorrect bitLength");
+        }
+        checkRange(bitLength);
+        return bitsAt(readCursor, bitLength);
+    }
+
+    /**
+     * Read unsigned int of bitLength without allocating BigInteger
+     *
+     * @param bitLength length in bits, up to 64
+     * @return long, where uint64 values above Long.MAX_VALUE are returned as negative numbers
+     */
+    public long readUintLong(int bitLength) {
+        long value = preReadUintLong(bitLength);
+        readCursor += bitLength;
+        return value;
+    }
+
+    /**
+     * Read signed int of bitLength without allocating BigInteger
+     *
+     * @param bitLength length in bits, up to 64
+     * @return long
+     */
+    public long readIntLong(int bitLength) {
+        long value = readUintLong(bitLength);
+        return (value << (64 - bitLength)) >> (64 - bitLength);
     }
 
     /**
@@ -442,16 +686,19 @@ public class BitString implements Bits<Boolean> {
         if (bitLength < 1) {
             throw new Error("Incorrect bitLength");
         }
-        StringBuilder s = new StringBuilder();
-        for (int i = 0; i < bitLength; i++) {
-            Boolean b = readBit();
-            if (b) {
-                s.append("1");
-            } else {
-                s.append("0");
-            }
+        checkRange(bitLength);
+        if (bitLength < 64) {
+            return BigInteger.valueOf(readUintLong(bitLength));
+        }
+        byte[] magnitude = new byte[(bitLength + 7) >>> 3];
+        int head = bitLength - ((magnitude.length - 1) << 3);
+        magnitude[0] = (byte) bitsAt(readCursor, head);
+        readCursor += head;
+        for (int i = 1; i < magnitude.length; i++) {
+            magnitude[i] = (byte) bitsAt(readCursor, 8);
+            readCursor += 8;
         }
-        return new BigInteger(s.toString(), 2);
+        return new BigInteger(1, magnitude);
     }
 
     /**
@@ -464,17 +711,15 @@ public class BitString implements Bits<Boolean> {
         if (bitLength < 1) {
             throw new Error("Incorrect bitLength");
         }
-
-        Boolean sign = readBit();
-        if (bitLength == 1) {
-            return sign ? new BigInteger("-1") : BigInteger.ZERO;
+        checkRange(bitLength);
+        if (bitLength <= 64) {
+            return BigInteger.valueOf(readIntLong(bitLength));
         }
 
+        Boolean sign = readBit();
         BigInteger number = readUint(bitLength - 1);
         if (sign) {
-            BigInteger b = BigInteger.valueOf(2);
-            BigInteger nb = b.pow(bitLength - 1);
-            number = number.subtract(nb);
+            number = number.subtract(BigInteger.ONE.shiftLeft(bitLength - 1));
         }
         return number;
     }
@@ -512,14 +757,14 @@ public class BitString implements Bits<Boolean> {
     }
 
     public Address readAddress() {
-        BigInteger i = preReadUint(2);
-        if (i.intValue() == 0) {
+        long i = preReadUintLong(2);
+        if (i == 0) {
             readBits(2);
             return null;
         }
         readBits(2);
         readBits(1);
-        int workchain = readInt(8).intValue();
+        int workchain = (int) readIntLong(8);
         BigInteger hashPart = readUint(256);
 
         String address = workchain + ":" + String.format("%64s", hashPart.toString(16)).replace(' ', '0');
@@ -536,8 +781,25 @@ public class BitString implements Bits<Boolean> {
      * @return byte array
      */
     public byte[] readBytes(int length) {
-        BitString bitString = readBits(length);
-        return bitString.toByteArray();
+        byte[] result = new byte[(Math.max(0, length) + 7) >>> 3];
+        readBytes(result, 0, length);
+        return result;
+    }
+
+    /**
+     * Reads n bits directly into dst starting at offset, last byte is padded with zeros
+     *
+     * @param dst    byte[] with at least (n + 7) / 8 bytes after offset
+     * @param offset int
+     * @param n      length in bits
+     * @return number of bytes written
+     */
+    public int readBytes(byte[] dst, int offset, int n) {
+        checkRange(n);
+        n = Math.max(0, n);
+        int written = copyBytes(readCursor, readCursor + n, dst, offset);
+        readCursor += n;
+        return written;
     }
 
     /**
@@ -551,112 +813,108 @@ public class BitString implements Bits<Boolean> {
      * @return BitString from 0 to writeCursor
      */
     public String toBitString() {
-        BitString cloned = new BitString(this);
-        StringBuilder s = new StringBuilder();
-        for (Boolean b : cloned.array) {
-            s.append(b ? '1' : '0');
+        int size = getUsedBits();
+        char[] s = new char[size];
+        for (int i = 0; i < size; i++) {
+            s[i] = bitAt(readCursor + i) ? '1' : '0';
         }
-        return s.toString();
+        return new String(s);
     }
 
     public int getLength() {
-        return toBitString().length();
+        return getUsedBits();
     }
 
     /**
      * @return BitString from current position to writeCursor
      */
     public String getBitString() {
-        BitString cloned = clone();
-        StringBuilder s = new StringBuilder();
-        for (Boolean b : cloned.array) {
-            s.append(b ? '1' : '0');
-        }
-        return s.toString();
+        return toBitString();
+    }
+
+    /**
+     * Returns i-th group of up to 8 bits, where the last incomplete group is aligned to the right.
+     */
+    private int byteAt(int i) {
+        int position = readCursor + (i << 3);
+        return (int) bitsAt(position, Math.min(8, writeCursor - position));
     }
 
     public int[] toUnsignedByteArray() {
-        if (array.size() == 0) {
-            return new int[0];
-        }
-        String bin = getBitString();
-        int[] result = new int[(int) Math.ceil(bin.length() / (double) 8)];
-        int j = 0;
-        for (String str : bin.split("(?<=\\G.{8})")) {
-            result[j++] = Integer.parseInt(str, 2);
+        int[] result = new int[getUsedBytes()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = byteAt(i);
         }
         return result;
     }
 
     public byte[] toSignedByteArray() {
-        if (array.size() == 0) {
-            return new byte[0];
-        }
-        String bin = getBitString();
-        byte[] result = new byte[(int) Math.ceil(bin.length() / (double) 8)];
-        int j = 0;
-        for (String str : bin.split("(?<=\\G.{8})")) {
-            result[j++] = (byte) (Integer.parseInt(str, 2) & 0xFF);
+        byte[] result = new byte[getUsedBytes()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) byteAt(i);
         }
         return result;
     }
 
     public List<BigInteger> toByteList() {
-        if (array.size() == 0) {
-            return new ArrayList<>();
-        }
-        String bin = getBitString();
-        List<BigInteger> result = new ArrayList<>((int) Math.ceil(bin.length() / (double) 8));
-        int j = 0;
-        for (String str : bin.split("(?<=\\G.{8})")) {
-            result.add(new BigInteger(str, 2));
+        List<BigInteger> result = new ArrayList<>(getUsedBytes());
+        for (int i = 0; i < getUsedBytes(); i++) {
+            result.add(BigInteger.valueOf(byteAt(i)));
         }
         return result;
     }
 
     public byte[] toByteArray() {
-        if (array.size() == 0) {
-            return new byte[0];
-        }
-        String bin = getBitString();
-        byte[] result = new byte[(int) Math.ceil(bin.length() / (double) 8)];
-
-        for (int i = 0; i < bin.length(); i++) {
-            if (bin.charAt(i) == '1') {
-                result[(i / 8)] |= 1 << (7 - (i % 8));
-            } else {
-                result[(i / 8)] &= ~(1 << (7 - (i % 8)));
-            }
-        }
-
+        byte[] result = new byte[getUsedBytes()];
+        toByteArray(result, 0);
         return result;
     }
 
-    public int[] toUintArray() {
-        if (array.size() == 0) {
-            return new int[0];
-        }
-        String bin = getBitString();
-        int[] result = new int[(int) Math.ceil(bin.length() / (double) 8)];
+    /**
+     * Copies bits into dst starting at offset, last byte is padded with zeros like in toByteArray()
+     *
+     * @param dst    byte[] with at least getUsedBytes() bytes after offset
+     * @param offset int
+     * @return number of bytes written
+     */
+    public int toByteArray(byte[] dst, int offset) {
+        return copyBytes(readCursor, writeCursor, dst, offset);
+    }
 
-        for (int i = 0; i < bin.length(); i++) {
-            if (bin.charAt(i) == '1') {
-                result[(i / 8)] |= 1 << (7 - (i % 8));
-            } else {
-                result[(i / 8)] &= ~(1 << (7 - (i % 8)));
+    /**
+     * Copies bits [from, to) into dst starting at offset, 8 bytes at a time, last byte is padded with zeros.
+     */
+    private int copyBytes(int from, int to, byte[] dst, int offset) {
+        int position = from;
+        int i = offset;
+        while (to - position >= 64) {
+            long value = bitsAt(position, 64);
+            for (int j = 0; j < 8; j++) {
+                dst[i++] = (byte) (value >>> (56 - (j << 3)));
             }
+            position += 64;
         }
+        while (position < to) {
+            int n = Math.min(8, to - position);
+            dst[i++] = (byte) (bitsAt(position, n) << (8 - n));
+            position += n;
+        }
+        return i - offset;
+    }
 
+    public int[] toUintArray() {
+        byte[] bytes = toByteArray();
+        int[] result = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i] = bytes[i] & 0xFF;
+        }
         return result;
     }
 
     public Boolean[] toBooleanArray() {
-        String bin = getBitString();
-        Boolean[] result = new Boolean[bin.length()];
-        int i = 0;
-        for (Boolean b : array) {
-            result[i] = b;
-            i++;
+        Boolean[] result = new Boolean[getUsedBits()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bitAt(readCursor + i);
         }
         return result;
     }
@@ -665,11 +923,21 @@ public class BitString implements Bits<Boolean> {
         return new BitString(this);
     }
 
+    /**
+     * Copies unread bits into as few words as they need, e.g. to keep bits of a finished cell.
+     * The copy has no free bits.
+     *
+     * @return BitString
+     */
+    public BitString compact() {
+        BitString result = new BitString(getUsedBits());
+        result.copyFrom(this, readCursor, getUsedBits());
+        return result;
+    }
+
     public BitString cloneFrom(int from) {
         BitString cloned = clone();
-        for (int i = 0; i < from; i++) {
-            cloned.readBit();
-        }
+        cloned.readCursor += Math.max(0, Math.min(from, cloned.getUsedBits()));
         return cloned;
     }
 
@@ -679,11 +947,11 @@ public class BitString implements Bits<Boolean> {
      * @return String
      */
     public String toHex() {
-
-        if (array.size() % 4 == 0) {
+        int size = getUsedBits();
+        if (size % 4 == 0) {
             byte[] arr = toByteArray();
             String s = Utils.bytesToHex(arr).toUpperCase();
-            if (array.size() % 8 == 0) {
+            if (size % 8 == 0) {
                 return s;
             } else {
                 return s.substring(0, s.length() - 1);
@@ -691,7 +959,7 @@ public class BitString implements Bits<Boolean> {
         } else {
             BitString temp = clone();
             temp.writeBit(true);
-            while (temp.array.size() % 4 != 0) {
+            while (temp.getUsedBits() % 4 != 0) {
                 temp.writeBit(false);
             }
             return temp.toHex().toUpperCase() + '_';
@@ -243,4 +243,69 @@ public class TestBitString {
         Address address = Address.of("0QAs9VlT6S776tq3unJcP5Ogsj-ELLunLXuOb1EKcOQi4-QO");
         bitString.writeAddress(address);
     }
+
+    @Test
+    public void testBitStringWordBoundaries() {
+        BitString bitString = new BitString(1023);
+        bitString.writeUint(5, 3);
+        bitString.writeUint(new BigInteger("FEDCBA9876543210", 16), 64);
+        bitString.writeUint(new BigInteger("0123456789ABCDEF0123456789ABCDEF", 16), 128);
+        assertThat(bitString.getLength()).isEqualTo(195);
+        assertThat(bitString.readUint(3).intValue()).isEqualTo(5);
+        assertThat(bitString.readUint(64).toString(16)).isEqualTo("fedcba9876543210");
+        assertThat(bitString.readUint(128).toString(16)).isEqualTo("123456789abcdef0123456789abcdef");
+        assertThat(bitString.getLength()).isEqualTo(0);
+    }
+
+    @Test
+    public void testBitStringGrowsBeyondInitialLength() {
+        BitString bitString = new BitString(8);
+        for (int i = 0; i < 300; i++) {
+            bitString.writeBit(i % 3 == 0);
+            if (i % 2 == 0) {
+                assertThat(bitString.readBit()).isEqualTo((i / 2) % 3 == 0);
+            }
+        }
+        assertThat(bitString.getUsedBits()).isEqualTo(150);
+        BitString copy = new BitString(bitString.getUsedBits());
+        copy.writeBitString(bitString);
+        assertThat(bitString.getUsedBits()).isEqualTo(0);
+        assertThat(copy.getUsedBits()).isEqualTo(150);
+        assertThat(copy.readBit()).isEqualTo(150 % 3 == 0);
+    }
+
+    @Test
+    public void testBitStringByteArrays() {
+        BitString bitString = new BitString(16);
+        bitString.writeUint(0x1AB, 9);
+        assertThat(Utils.bytesToHex(bitString.toByteArray())).isEqualTo("d580");
+        assertThat(Utils.bytesToHex(bitString.toSignedByteArray())).isEqualTo("d501");
+        assertThat(bitString.toHex()).isEqualTo("D5C_");
+    }
+
+    @Test
+    public void testBitStringViews() {
+        BitString bitString = new BitString(1023);
+        bitString.writeUint(0xABCD, 16);
+        bitString.writeUint(new BigInteger("0123456789ABCDEF0123", 16), 80);
+
+        BitString sub = bitString.readBits(20);
+        BitString clone = bitString.clone();
+        assertThat(sub.toHex()).isEqualTo("ABCD0");
+        assertThat(clone.getLength()).isEqualTo(76);
+
+        // writing to a view must not touch the original bits and vice versa
+        sub.writeUint(0xF, 4);
+        bitString.writeUint(0xE, 4);
+        clone.writeUint(0x7, 4);
+        assertThat(sub.toHex()).isEqualTo("ABCD0F");
+        assertThat(bitString.toHex()).isEqualTo("123456789ABCDEF0123E");
+        assertThat(clone.toHex()).isEqualTo("123456789ABCDEF01237");
+
+        assertThat(bitString.prereadBit(3)).isTrue();
+        assertThat(bitString.preReadInt(8).intValue()).isEqualTo(0x12);
+        bitString.skipBits(8);
+        assertThat(bitString.readUint(8).intValue()).isEqualTo(0x34);
+        assertThat(clone.readUint(8).intValue()).isEqualTo(0x12);
+    }
 }
@@ -45,22 +45,33 @@ public class BinTree {
         }
     }
 
+    /**
+     * bt_leaf$0 {X:Type} leaf:X = BinTree X;
+     * bt_fork$1 {X:Type} left:^(BinTree X) right:^(BinTree X) = BinTree X;
+     * Leaves are loaded from left to right with CellWalker, pruned branches are skipped.
+     */
     public static List<ShardDescr> deserialize(CellSlice cs) {
         if (cs.isExotic()) {
             return Collections.emptyList();
         }
 
-        if (cs.loadBit()) {
-            List<ShardDescr> l = new ArrayList<>();
-            if (!cs.refs.isEmpty()) {
-                l.addAll(deserialize(CellSlice.beginParse(cs.loadRef())));
-            }
-            if (!cs.refs.isEmpty()) {
-                l.addAll(deserialize(CellSlice.beginParse(cs.loadRef())));
-            }
-            return l;
-        } else {
+        if (!cs.loadBit()) {
             return Collections.singletonList(ShardDescr.deserialize(cs));
         }
+        List<ShardDescr> l = new ArrayList<>();
+        for (int i = 0; i < 2 && !cs.refs.isEmpty(); i++) {
+            CellWalker.of(cs.loadRef()).walk((cell, depth, index) -> {
+                CellSlice node = CellSlice.beginParse(cell);
+                if (node.isExotic()) {
+                    return CellVisitor.Action.SKIP_REFS;
+                }
+                if (node.loadBit()) {
+                    return CellVisitor.Action.CONTINUE;
+                }
+                l.add(ShardDescr.deserialize(node));
+                return CellVisitor.Action.SKIP_REFS;
+            });
+        }
+        return l;
     }
 }
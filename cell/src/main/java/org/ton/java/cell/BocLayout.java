@@ -0,0 +1,152 @@
+package org.ton.java.cell;
+
+/**
+ * Positions of BoC parts within serialized bytes, read from BoC header without copying the data.
+ * <pre>
+ * serialized_boc#b5ee9c72 has_idx:(## 1) has_crc32c:(## 1) has_cache_bits:(## 1) flags:(## 2) { flags = 0 }
+ *   size:(## 3) { size <= 4 } off_bytes:(## 8) { off_bytes <= 8 }
+ *   cells:(##(size * 8)) roots:(##(size * 8)) { roots >= 1 } absent:(##(size * 8)) { roots + absent <= cells }
+ *   tot_cells_size:(##(off_bytes * 8)) root_list:(roots * ##(size * 8)) index:has_idx?(cells * ##(off_bytes * 8))
+ *   cell_data:(tot_cells_size * [ uint8 ]) crc32c:has_crc32c?uint32 = BagOfCells;
+ * </pre>
+ */
+final class BocLayout {
+
+    final byte[] data;
+    final boolean hasIdx;
+    final boolean hasCrc32c;
+    final boolean hasCacheBits;
+    final int size;
+    final int offBytes;
+    final int cellsNum;
+    final int[] rootList;
+    final long indexStart;
+    final long cellsStart;
+    final long cellsEnd;
+
+    BocLayout(byte[] data) {
+        this(data, data.length);
+    }
+
+    /**
+     * Parses BoC header when only its beginning is in memory, see headerLength()
+     *
+     * @param data   bytes starting from BoC magic and including at least the root list
+     * @param length length of the whole BoC
+     */
+    BocLayout(byte[] data, long length) {
+        if (data.length < 10) {
+            throw new Error("Invalid boc");
+        }
+        this.data = data;
+        int magic = (int) readUint(data, 0, 4);
+        if (magic != 0xb5ee9c72) {
+            throw new Error("Boc: magic not equal to 0xb5ee9c72, found 0x" + Integer.toHexString(magic));
+        }
+        hasIdx = (data[4] & 0x80) != 0;
+        hasCrc32c = (data[4] & 0x40) != 0;
+        hasCacheBits = (data[4] & 0x20) != 0;
+        size = data[4] & 7;
+        offBytes = data[5] & 0xFF;
+        if (size < 1 || size > 4 || offBytes < 1 || offBytes > 8 || (hasCacheBits && !hasIdx)) {
+            throw new Error("Invalid boc header");
+        }
+        int pos = 6;
+        if (data.length < pos + size * 3 + offBytes) {
+            throw new Error("Invalid boc");
+        }
+        long cells = readUint(data, pos, size);
+        long roots = readUint(data, pos + size, size);
+        if (cells > Integer.MAX_VALUE - 8 || roots > cells) {
+            throw new Error("Invalid boc: " + cells + " cells, " + roots + " roots");
+        }
+        cellsNum = (int) cells;
+        int rootsNum = (int) roots;
+        pos += size * 3; // cells, roots, absent
+        long totalCellsSize = readUint(data, pos, offBytes);
+        pos += offBytes;
+        if (totalCellsSize < 0) {
+            throw new Error("Invalid boc: cells size " + Long.toUnsignedString(totalCellsSize));
+        }
+
+        long required = pos + (long) rootsNum * size + (hasIdx ? (long) cellsNum * offBytes : 0) + totalCellsSize + (hasCrc32c ? 4 : 0);
+        if (cellsNum < 1 || rootsNum < 1 || rootsNum > cellsNum || length < required || data.length < pos + (long) rootsNum * size) {
+            throw new Error("Invalid boc");
+        }
+
+        rootList = new int[rootsNum];
+        for (int r = 0; r < rootsNum; r++) {
+            rootList[r] = (int) readUint(data, pos, size);
+            if (rootList[r] >= cellsNum) {
+                throw new Error("Invalid boc: root " + rootList[r] + " of " + cellsNum);
+            }
+            pos += size;
+        }
+        indexStart = pos;
+        cellsStart = pos + (hasIdx ? (long) cellsNum * offBytes : 0);
+        cellsEnd = cellsStart + totalCellsSize;
+    }
+
+    /**
+     * Returns length of BoC header up to the end of root list.
+     *
+     * @param prefix at least first 26 bytes of BoC, or the whole BoC if it is shorter
+     */
+    static int headerLength(byte[] prefix) {
+        if (prefix.length < 10) {
+            throw new Error("Invalid boc");
+        }
+        int size = prefix[4] & 7;
+        int offBytes = prefix[5] & 0xFF;
+        if (size < 1 || size > 4 || offBytes < 1 || offBytes > 8 || prefix.length < 6 + size * 3 + offBytes) {
+            throw new Error("Invalid boc header");
+        }
+        long rootsNum = readUint(prefix, 6 + size, size);
+        return (int) (6 + size * 3 + offBytes + rootsNum * size);
+    }
+
+    /**
+     * Offset of cell data relative to cellsStart, as stored in index entry of the previous cell
+     */
+    long indexToOffset(long entry) {
+        return hasCacheBits ? entry >>> 1 : entry;
+    }
+
+    /**
+     * Length of serialized cell by its descriptors
+     */
+    static int cellLength(int refsDescriptor, int bitsDescriptor, int refIndexSize) {
+        boolean hasHashes = (refsDescriptor & 16) != 0;
+        int hashCount = hasHashes ? Integer.bitCount(refsDescriptor >> 5) + 1 : 0;
+        return 2 + hashCount * (32 + 2) + (bitsDescriptor & 1) + (bitsDescriptor >> 1) + (refsDescriptor & 7) * refIndexSize;
+    }
+
+    /**
+     * Finds offsets of all cells by reading their descriptors only, data must hold the whole BoC
+     *
+     * @return offset of every cell in data
+     */
+    int[] cellOffsets() {
+        int[] offsets = new int[cellsNum];
+        int pos = (int) cellsStart;
+        for (int i = 0; i < cellsNum; i++) {
+            if (cellsEnd - pos < 2) {
+                throw new Error("Not enough bytes to encode cell descriptors");
+            }
+            offsets[i] = pos;
+            pos += cellLength(data[pos] & 0xFF, data[pos + 1] & 0xFF, size);
+        }
+        if (pos > cellsEnd) {
+            throw new Error("Not enough bytes to encode cell data");
+        }
+        return offsets;
+    }
+
+    static long readUint(byte[] data, int offset, int length) {
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result = (result << 8) | (data[offset + i] & 0xFF);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,337 @@
+package org.ton.java.cell;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reads cells of BoC directly from buffers outside of Java heap, e.g. from a memory-mapped file,
+ * so that a large BoC is never loaded as a whole. Files larger than 2GB are mapped in chunks.
+ * <p>
+ * Cell N is located through BoC index when BoC has one, see Cell.toBoc(withCrc, withIdx).
+ * Otherwise offsets of all cells are found by one pass over cell descriptors on first random access.
+ * <p>
+ * getCell() keeps deserialized cells by soft references, so a cell shared by several parents is deserialized once
+ * and resolved to the same instance while memory allows. References of a returned cell are deserialized
+ * when they are requested for the first time. The file must stay unchanged while cells are in use.
+ */
+public class BocReader implements AutoCloseable, Iterable<Cell> {
+
+    private static final int CHUNK_BITS = 30;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkBits;
+    private final FileChannel channel;
+    private final BocLayout layout;
+    private volatile long[] offsets;
+    private final SoftReference<Cell>[] cache;
+    private final LazyBoc cells = new LazyBoc() {
+        @Override
+        Cell cell(int index) {
+            return getCell(index);
+        }
+    };
+
+    private BocReader(ByteBuffer[] chunks, int chunkBits, long length, FileChannel channel) {
+        this.chunks = chunks;
+        this.chunkBits = chunkBits;
+        this.channel = channel;
+        int headerLength = BocLayout.headerLength(read(0, (int) Math.min(length, 26)));
+        if (headerLength > length) {
+            throw new Error("Invalid boc");
+        }
+        layout = new BocLayout(read(0, headerLength), length);
+        cache = newCache(layout.cellsNum);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SoftReference<Cell>[] newCache(int cellsNum) {
+        return new SoftReference[cellsNum];
+    }
+
+    /**
+     * Maps BoC file into memory for reading
+     *
+     * @param filename path to file with BoC
+     * @return BocReader which must be closed after use
+     */
+    public static BocReader open(String filename) {
+        return open(filename, CHUNK_BITS);
+    }
+
+    static BocReader open(String filename, int chunkBits) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+            return of(channel, chunkBits);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new Error("Cannot read BoC file " + filename + ", " + e.getMessage());
+        } catch (RuntimeException | Error e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the whole channel into memory for reading. The channel is closed when the reader is closed.
+     */
+    public static BocReader of(FileChannel channel) throws IOException {
+        return of(channel, CHUNK_BITS);
+    }
+
+    private static BocReader of(FileChannel channel, int chunkBits) throws IOException {
+        long size = channel.size();
+        long chunkSize = 1L << chunkBits;
+        ByteBuffer[] chunks = new ByteBuffer[(int) ((size + chunkSize - 1) >>> chunkBits)];
+        for (int i = 0; i < chunks.length; i++) {
+            long start = i * chunkSize;
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(chunkSize, size - start));
+        }
+        return new BocReader(chunks, chunkBits, size, channel);
+    }
+
+    /**
+     * Reads BoC from the buffer, starting at its current position
+     */
+    public static BocReader of(ByteBuffer buffer) {
+        ByteBuffer slice = buffer.slice();
+        return new BocReader(new ByteBuffer[]{slice}, 31, slice.limit(), null);
+    }
+
+    public int getCellsNum() {
+        return layout.cellsNum;
+    }
+
+    public int getRootsNum() {
+        return layout.rootList.length;
+    }
+
+    /**
+     * @return index in BoC of the i-th root cell
+     */
+    public int getRootIndex(int i) {
+        return layout.rootList[i];
+    }
+
+    public boolean hasIndex() {
+        return layout.hasIdx;
+    }
+
+    public Cell getRoot(int i) {
+        return getCell(layout.rootList[i]);
+    }
+
+    /**
+     * Returns cell by its index in BoC, deserializing it unless it is kept from the previous call
+     *
+     * @param index index of cell, from 0 to getCellsNum() - 1
+     * @return Cell with references resolved on demand
+     */
+    public Cell getCell(int index) {
+        checkIndex(index);
+        SoftReference<Cell> ref = cache[index];
+        Cell c = isNull(ref) ? null : ref.get();
+        if (isNull(c)) {
+            c = readCell(index);
+            cache[index] = new SoftReference<>(c);
+        }
+        return c;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= layout.cellsNum) {
+            throw new Error("Cell index " + index + " is out of range 0.." + (layout.cellsNum - 1));
+        }
+    }
+
+    /**
+     * Deserializes a new instance of the cell, not shared with other callers
+     */
+    private LazyCell readCell(int index) {
+        checkIndex(index);
+        long offset = offset(index);
+        int cellLength = cellLength(offset);
+        LazyCell c = Cell.deserializeLazyCell(read(offset, cellLength), 0, cellLength, layout.size);
+        return cells.attach(c, index, layout.cellsNum);
+    }
+
+    /**
+     * Iterates over all cells from the last one to the first one, so every cell comes after all cells it references.
+     * Hashes of returned cells are already calculated, while their references are deserialized only on request,
+     * so returned cells do not keep their subtrees in memory.
+     * <p>
+     * The iterator keeps a cell only until all cells referencing it are built, so it holds at most
+     * the widest level of the tree plus 4 bytes per cell for counting references.
+     */
+    @Override
+    public Iterator<Cell> iterator() {
+        int[] parents = countParents();
+        Map<Integer, Cell> pending = new HashMap<>();
+        return new Iterator<Cell>() {
+            private int next = layout.cellsNum - 1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Cell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = next--;
+                LazyCell c = readCell(index);
+                if (nonNull(c.refsIndexes)) {
+                    // link already built references to calculate hashes, then let them be resolved from BoC again
+                    int[] refsIndexes = c.refsIndexes;
+                    LazyBoc boc = c.lazyBoc;
+                    c.refsIndexes = null;
+                    c.lazyBoc = null;
+                    Cell[] refs = new Cell[refsIndexes.length];
+                    for (int i = 0; i < refs.length; i++) {
+                        int r = refsIndexes[i];
+                        refs[i] = pending.get(r);
+                        if (--parents[r] == 0) {
+                            pending.remove(r);
+                        }
+                    }
+                    c.refs = refs;
+                    c.getHash();
+                    c.refs = Cell.EMPTY_REFS;
+                    c.refsIndexes = refsIndexes;
+                    c.lazyBoc = boc;
+                } else {
+                    c.getHash();
+                }
+                if (parents[index] > 0) {
+                    pending.put(index, c);
+                }
+                return c;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    /**
+     * Counts cells referencing every cell by one pass over BoC, offsets are remembered if BoC has no index
+     */
+    private int[] countParents() {
+        int[] parents = new int[layout.cellsNum];
+        long[] scanned = (layout.hasIdx || nonNull(offsets)) ? null : new long[layout.cellsNum];
+        long pos = layout.cellsStart;
+        for (int i = 0; i < parents.length; i++) {
+            if (nonNull(scanned)) {
+                scanned[i] = pos;
+            }
+            int cellLength = cellLength(pos);
+            int refsNum = get(pos) & 7;
+            long refPos = pos + cellLength - (long) refsNum * layout.size;
+            for (int j = 0; j < refsNum; j++) {
+                long r = readUint(refPos, layout.size);
+                if (r <= i || r >= parents.length) {
+                    throw new Error("Invalid boc: reference from cell " + i + " to cell " + r);
+                }
+                parents[(int) r]++;
+                refPos += layout.size;
+            }
+            pos += cellLength;
+        }
+        if (nonNull(scanned)) {
+            offsets = scanned;
+        }
+        return parents;
+    }
+
+    private long offset(int index) {
+        if (!layout.hasIdx) {
+            long[] o = offsets;
+            if (isNull(o)) {
+                o = scanOffsets();
+                offsets = o;
+            }
+            return o[index];
+        }
+        if (index == 0) {
+            return layout.cellsStart;
+        }
+        long entry = layout.indexStart + (long) (index - 1) * layout.offBytes;
+        long offset = layout.cellsStart + layout.indexToOffset(readUint(entry, layout.offBytes));
+        if (offset < layout.cellsStart || offset > layout.cellsEnd) {
+            throw new Error("Invalid boc: offset of cell " + index + " is out of cell data");
+        }
+        return offset;
+    }
+
+    private long[] scanOffsets() {
+        long[] result = new long[layout.cellsNum];
+        long pos = layout.cellsStart;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pos;
+            pos += cellLength(pos);
+        }
+        return result;
+    }
+
+    /**
+     * Length of serialized cell at the given position, checked to fit into cell data
+     */
+    private int cellLength(long pos) {
+        if (layout.cellsEnd - pos < 2) {
+            throw new Error("Not enough bytes to encode cell descriptors");
+        }
+        int cellLength = BocLayout.cellLength(get(pos) & 0xFF, get(pos + 1) & 0xFF, layout.size);
+        if (cellLength > layout.cellsEnd - pos) {
+            throw new Error("Not enough bytes to encode cell data");
+        }
+        return cellLength;
+    }
+
+    private byte get(long pos) {
+        return chunks[(int) (pos >>> chunkBits)].get((int) (pos & ((1L << chunkBits) - 1)));
+    }
+
+    private long readUint(long offset, int length) {
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result = (result << 8) | (get(offset + i) & 0xFF);
+        }
+        return result;
+    }
+
+    /**
+     * Copies bytes with absolute reads, so buffers can be shared between threads
+     */
+    private byte[] read(long offset, int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = get(offset + i);
+        }
+        return result;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (nonNull(channel)) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Cannot close BoC file. " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package org.ton.java.cell;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ton.java.bitstring.BitString;
-import org.ton.java.tlb.types.Boc;
+import org.ton.java.utils.CRC32C;
 import org.ton.java.utils.Utils;
 
-import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -17,8 +17,10 @@ import static org.ton.java.cell.CellType.ORDINARY;
 import static org.ton.java.cell.CellType.UNKNOWN;
 
 /**
- * Implements Cell class, where BitString having elements of Boolean type.
- * Later will be supporting BitString where each element will be stored as one bit in memory.
+ * Implements Cell class, where BitString stores its bits packed into 64-bit words.
+ * <p>
+ * Cells returned by CellBuilder.endCell() and deserialized from BoC are immutable and can be shared
+ * between threads without copying. Read them with CellSlice.beginParse(), refAt() and refCount().
  */
 public class Cell {
 
@@ -29,106 +31,200 @@ public class Cell {
     public static final int MERKLE_UPDATE_CELL_TYPE = 0x04;
     public static final int UNKNOWN_CELL_TYPE = 0xFF;
 
+    static final Cell[] EMPTY_REFS = new Cell[0];
+
     BitString bits;
-    List<Cell> refs = new ArrayList<>();
+    Cell[] refs = EMPTY_REFS;
 
-    public CellType type;
-    private int[] refsIndexes;
+    private static final CellType[] CELL_TYPES = CellType.values();
 
-    String hash;
+    /**
+     * Cell type ordinal in bits 4-6, special flag in bit 3 and level mask in bits 0-2
+     */
+    private byte flags;
 
-    public int index;
-    public boolean special;
-    public LevelMask levelMask;
+    /**
+     * 32 bytes of representation hash per level followed by 2 bytes of depth per level, computed on first request
+     */
+    private volatile byte[] hashes;
+    private int hashCode;
 
-    public List<String> hashes = new ArrayList<>(); // todo private
-    public List<Integer> depths = new ArrayList<>(); // todo private
+    /**
+     * the cell is handed out by CellBuilder or BoC and its bits and refs never change
+     */
+    boolean frozen;
 
+    /**
+     * Returns bits of the cell. Bits of an immutable cell are returned as a view,
+     * so reading them does not affect the cell.
+     */
     public BitString getBits() {
-        return bits;
+        return frozen ? bits.clone() : bits;
     }
 
+    /**
+     * Returns refs of the cell, resolving them first if the cell is lazily deserialized.
+     * The array is owned by the cell and must not be modified.
+     */
+    Cell[] refs() {
+        return refs;
+    }
+
+    /**
+     * Returns a copy of refs, use refAt() and refCount() to read refs without copying
+     */
     public List<Cell> getRefs() {
-        return new ArrayList<>(refs);
+        return new ArrayList<>(Arrays.asList(refs()));
+    }
+
+    public Cell refAt(int i) {
+        return refs()[i];
+    }
+
+    /**
+     * Returns number of refs, refs of a lazily deserialized cell are not resolved
+     */
+    public int refCount() {
+        return refs.length;
+    }
+
+    public CellType getType() {
+        return CELL_TYPES[(flags >> 4) & 7];
+    }
+
+    public boolean isSpecial() {
+        return (flags & 8) != 0;
+    }
+
+    public LevelMask getLevelMask() {
+        return LevelMask.of(flags & 7);
+    }
+
+    void setType(CellType cellType) {
+        flags = (byte) ((flags & 0x0F) | (cellType.ordinal() << 4));
+    }
+
+    void setSpecial(boolean special) {
+        flags = (byte) (special ? (flags | 8) : (flags & ~8));
     }
 
+    void setLevelMask(LevelMask levelMask) {
+        int mask = levelMask.getMask();
+        if (mask < 0 || mask > 7) {
+            throw new Error("Invalid level mask " + mask);
+        }
+        flags = (byte) ((flags & ~7) | mask);
+    }
+
+    /**
+     * Last 4 bytes of representation hash, calculated once
+     */
     @Override
     public int hashCode() {
-        return new BigInteger(this.getHash()).intValue();
+        int h = hashCode;
+        if (h == 0) {
+            byte[] calculated = calculatedHashes();
+            int last = reprHashOffset(calculated) + 28;
+            h = ((calculated[last] & 0xFF) << 24) | ((calculated[last + 1] & 0xFF) << 16)
+                    | ((calculated[last + 2] & 0xFF) << 8) | (calculated[last + 3] & 0xFF);
+            hashCode = h;
+        }
+        return h;
     }
 
+    /**
+     * Cells are equal if their representation hashes are equal
+     */
     @Override
     public boolean equals(Object o) {
-        if (o instanceof Cell) {
-            return Arrays.equals(this.getHash(), ((Cell) o).getHash());
-        } else {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cell) || hashCode() != o.hashCode()) {
             return false;
         }
+        byte[] a = calculatedHashes();
+        byte[] b = ((Cell) o).calculatedHashes();
+        int aOffset = reprHashOffset(a);
+        int bOffset = reprHashOffset(b);
+        for (int i = 0; i < 32; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Representation hash of the cell is the last of calculated hashes
+     */
+    private static int reprHashOffset(byte[] calculated) {
+        return (calculated.length / (32 + 2) - 1) * 32;
+    }
+
+    private byte[] calculatedHashes() {
+        byte[] calculated = hashes;
+        if (calculated == null) {
+            calculateHashes();
+            calculated = hashes;
+        }
+        return calculated;
     }
 
     public Cell() {
         this.bits = new BitString();
-        this.special = false;
-        this.type = ORDINARY;
-        this.levelMask = new LevelMask(0);
     }
 
     public Cell(int bitSize) {
         this.bits = new BitString(bitSize);
-        this.special = false;
-        this.type = ORDINARY;
-        this.levelMask = resolveMask();
+        setLevelMask(resolveMask());
     }
 
     public Cell(BitString bits, List<Cell> refs) {
         this.bits = new BitString(bits.getLength());
         this.bits.writeBitString(bits.clone());
-        this.refs = new ArrayList<>(refs);
-        this.special = false;
-        this.type = ORDINARY;
-        this.levelMask = new LevelMask(0);
+        this.refs = refs.toArray(EMPTY_REFS);
     }
 
     public Cell(BitString bits, List<Cell> refs, int cellType) {
         this.bits = new BitString(bits.getLength());
         this.bits.writeBitString(bits.clone());
-        this.refs = new ArrayList<>(refs);
-        this.special = false;
-        this.type = toCellType(cellType);
-        this.levelMask = new LevelMask(0);
+        this.refs = refs.toArray(EMPTY_REFS);
+        setType(toCellType(cellType));
     }
 
     public Cell(BitString bits, int bitSize, List<Cell> refs, boolean special, LevelMask levelMask) {
         this.bits = new BitString(bitSize);
         this.bits.writeBitString(bits);
-        this.refs = new ArrayList<>(refs);
-        this.special = special;
-        this.type = ORDINARY;
-        this.levelMask = levelMask;
+        this.refs = refs.toArray(EMPTY_REFS);
+        setSpecial(special);
+        setLevelMask(levelMask);
     }
 
     public Cell(BitString bits, int bitSize, List<Cell> refs, boolean special, CellType cellType) {
         this.bits = new BitString(bitSize);
         this.bits.writeBitString(bits);
-        this.refs = new ArrayList<>(refs);
-        this.special = special;
-        this.type = cellType;
-        this.levelMask = resolveMask();
+        this.refs = refs.toArray(EMPTY_REFS);
+        setSpecial(special);
+        setType(cellType);
+        setLevelMask(resolveMask());
     }
 
-    public Cell(BitString bits, int[] refsIndexes, CellType cellType) {
-        this.bits = new BitString(bits);
-        this.refsIndexes = refsIndexes;
-        this.type = cellType;
-        this.levelMask = new LevelMask(0);
+    /**
+     * Creates cell which takes ownership of the given bits
+     */
+    Cell(BitString bits, CellType cellType, LevelMask levelMask) {
+        this.bits = bits;
+        setType(cellType);
+        setLevelMask(levelMask);
     }
 
     public Cell(BitString bits, int bitSize, List<Cell> refs, CellType cellType) {
         this.bits = new BitString(bitSize);
         this.bits.writeBitString(bits);
-        this.refs = new ArrayList<>(refs);
-        this.type = cellType;
-        this.levelMask = resolveMask();
+        this.refs = refs.toArray(EMPTY_REFS);
+        setType(cellType);
+        setLevelMask(resolveMask());
     }
 
     public static CellType toCellType(int cellType) {
@@ -150,37 +246,44 @@ public class Cell {
 
     public LevelMask resolveMask() {
         // taken from pytoniq-core
-        if (this.type == ORDINARY) {
+        CellType type = getType();
+        if (type == ORDINARY) {
             // Ordinary Cell level = max(Cell refs)
             int mask = 0;
-            for (Cell r : refs) {
+            for (Cell r : refs()) {
                 mask |= r.getMaxLevel();
             }
-            return new LevelMask(mask);
-        } else if (this.type == CellType.PRUNED_BRANCH) {
+            return LevelMask.of(mask);
+        } else if (type == CellType.PRUNED_BRANCH) {
             // prunned branch doesn't have refs
-            if (!refs.isEmpty()) {
+            if (refs().length != 0) {
                 throw new Error("Pruned branch must not has refs");
             }
             BitString bs = bits.clone();
             bs.readUint8();
 
-            return new LevelMask(bs.readUint8().intValue());
-        } else if (this.type == CellType.MERKLE_PROOF) {
+            return LevelMask.of(bs.readUint8().intValue());
+        } else if (type == CellType.MERKLE_PROOF) {
             // merkle proof cell has exactly one ref
-            return new LevelMask(refs.get(0).levelMask.getMask() >> 1);
-        } else if (this.type == CellType.MERKLE_UPDATE) {
+            return LevelMask.of(refs()[0].getLevelMask().getMask() >> 1);
+        } else if (type == CellType.MERKLE_UPDATE) {
             // merkle update cell has exactly 2 refs
-            return new LevelMask(refs.get(0).levelMask.getMask() | refs.get(1).levelMask.getMask() >> 1);
-        } else if (this.type == CellType.LIBRARY) {
-            return new LevelMask(0);
+            return LevelMask.of(refs()[0].getLevelMask().getMask() | refs()[1].getLevelMask().getMask() >> 1);
+        } else if (type == CellType.LIBRARY) {
+            return LevelMask.of(0);
         } else {
-            throw new Error("Unknown cell type " + this.type);
+            throw new Error("Unknown cell type " + type);
         }
     }
 
+    /**
+     * Calculates representation hashes and depths of all levels.
+     * Called on the first request of hash or depth, hashes of references are calculated on the way.
+     */
     public void calculateHashes() {
 
+        CellType type = getType();
+        LevelMask levelMask = getLevelMask();
         int totalHashCount = levelMask.getHashIndex() + 1;
         int hashCount = totalHashCount;
         if (type == CellType.PRUNED_BRANCH) {
@@ -190,7 +293,17 @@ public class Cell {
         int hashIndex = 0;
         int level = levelMask.getLevel();
 
-        int off;
+        // references first, the representation buffer is shared with them
+        for (Cell r : refs()) {
+            if (r.hashes == null) {
+                r.calculateHashes();
+            }
+        }
+
+        byte[] newHashes = new byte[hashCount * (32 + 2)];
+        CellHasher hasher = CellHasher.get();
+        int dataBytes = bits.getUsedBytes();
+        byte[] repr = hasher.buffer(2 + Math.max(32, dataBytes) + refs().length * (2 + 32));
 
         for (int li = 0; li < level + 1; li++) {
             if (!levelMask.isSignificant(li)) {
@@ -200,56 +313,135 @@ public class Cell {
                 hashIndex++;
                 continue;
             }
-            byte[] dsc = getDescriptors(levelMask.apply(li).getLevel());
-
-            byte[] hash = new byte[0];
-            hash = Utils.concatBytes(hash, dsc);
+            int pos = 0;
+            repr[pos++] = getRefsDescriptorByte(levelMask.apply(li).getMask());
+            repr[pos++] = getBitsDescriptorByte();
             if (hashIndex == hashIndexOffset) {
-                if ((li != 0) && (type == CellType.PRUNED_BRANCH)) {
+                if ((li != 0) && (type != CellType.PRUNED_BRANCH)) {
                     throw new Error("neither pruned nor 0");
                 }
-                byte[] data = getDataBytes();
-                hash = Utils.concatBytes(hash, data);
-            } else {
-                if ((li != 0) && (type == CellType.PRUNED_BRANCH)) {
-                    throw new Error("neither pruned nor 0");
+                pos += bits.toByteArray(repr, pos);
+                if ((bits.getLength() % 8) > 0) {
+                    // completion tag: append bit 1 and pad the rest of the byte with zeros
+                    repr[pos - 1] |= (byte) (1 << (7 - (bits.getLength() % 8)));
                 }
-                off = hashIndex - hashIndexOffset - 1;
-                hash = Utils.concatBytes(hash, Utils.hexToSignedBytes(hashes.get(off)));
+            } else {
+                System.arraycopy(newHashes, (hashIndex - hashIndexOffset - 1) * 32, repr, pos, 32);
+                pos += 32;
             }
             int depth = 0;
 
-            for (Cell r : refs) {
-                int refDepth;
-                if ((type == CellType.MERKLE_PROOF) || (type == CellType.MERKLE_UPDATE)) {
-                    refDepth = r.getDepth(li + 1);
-                } else {
-                    refDepth = r.getDepth(li);
-                }
-
-                hash = Utils.concatBytes(hash, Utils.intToByteArray(refDepth));
+            int childLevel = (type == CellType.MERKLE_PROOF) || (type == CellType.MERKLE_UPDATE) ? li + 1 : li;
+            for (Cell r : refs()) {
+                int refDepth = r.getDepth(childLevel);
+                repr[pos++] = (byte) (refDepth >>> 8);
+                repr[pos++] = (byte) refDepth;
                 if (refDepth > depth) {
                     depth = refDepth;
                 }
             }
-            if (refs.size() > 0) {
+            if (refs().length > 0) {
                 depth++;
                 if (depth >= 1024) {
                     throw new Error("depth is more than max depth (1023)");
                 }
             }
 
-            for (Cell r : refs) {
-                if ((type == CellType.MERKLE_PROOF) || (type == CellType.MERKLE_UPDATE)) {
-                    hash = Utils.concatBytes(hash, r.getHash(li + 1));
-                } else {
-                    hash = Utils.concatBytes(hash, r.getHash(li));
-                }
+            for (Cell r : refs()) {
+                r.copyHash(childLevel, repr, pos);
+                pos += 32;
             }
-            depths.add(depth);
-            hashes.add(Utils.sha256(hash));
+            newHashes[hashCount * 32 + (hashIndex - hashIndexOffset) * 2] = (byte) (depth >>> 8);
+            newHashes[hashCount * 32 + (hashIndex - hashIndexOffset) * 2 + 1] = (byte) depth;
+            hasher.hash(pos, newHashes, (hashIndex - hashIndexOffset) * 32);
             hashIndex++;
         }
+        hashes = newHashes;
+    }
+
+    /**
+     * Calculates hashes of the whole cell tree using the given pool.
+     * Cells are grouped by height above the leaves, every group is hashed in parallel after the group below it.
+     * Cells shared by several parents are hashed once, results are identical to calculateHashes().
+     *
+     * @param pool ForkJoinPool
+     */
+    public void computeHashesParallel(ForkJoinPool pool) {
+        if (hashes != null) {
+            return;
+        }
+        Map<Cell, Integer> heights = new IdentityHashMap<>();
+        List<List<Cell>> groups = new ArrayList<>();
+        Deque<Cell> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            Cell c = stack.peek();
+            if (heights.containsKey(c)) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            for (Cell r : c.refs()) {
+                if ((r.hashes == null) && !heights.containsKey(r)) {
+                    stack.push(r);
+                    ready = false;
+                }
+            }
+            if (!ready) {
+                continue;
+            }
+            stack.pop();
+            int height = 0;
+            for (Cell r : c.refs()) {
+                Integer refHeight = heights.get(r);
+                if ((refHeight != null) && (refHeight >= height)) {
+                    height = refHeight + 1;
+                }
+            }
+            heights.put(c, height);
+            if (groups.size() == height) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(height).add(c);
+        }
+        for (List<Cell> group : groups) {
+            pool.invoke(new HashTask(group, 0, group.size()));
+        }
+    }
+
+    private static class HashTask extends RecursiveAction {
+        private static final int THRESHOLD = 256;
+
+        private final List<Cell> cells;
+        private final int from;
+        private final int to;
+
+        HashTask(List<Cell> cells, int from, int to) {
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    cells.get(i).calculateHashes();
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new HashTask(cells, from, mid), new HashTask(cells, mid, to));
+            }
+        }
+    }
+
+    /**
+     * Drops hashes calculated so far, they are calculated again on the next request.
+     * Must be called after cell's bits or refs are modified.
+     */
+    void resetHashes() {
+        hashes = null;
+        hashCode = 0;
     }
 
     /**
@@ -284,32 +476,85 @@ public class Cell {
         return fromBocMultiRoot(data);
     }
 
+    /**
+     * Converts BoC to Cell, where cells equal to already known ones are replaced with canonical instances.
+     * Returned cells are shared and must not be modified.
+     *
+     * @param data     BoC bytes
+     * @param interner CellInterner
+     * @return Cell
+     */
+    public static Cell fromBoc(byte[] data, CellInterner interner) {
+        return fromBocMultiRoot(data, interner).get(0);
+    }
+
+    public static List<Cell> fromBocMultiRoots(byte[] data, CellInterner interner) {
+        return fromBocMultiRoot(data, interner);
+    }
+
     public String toString() {
         return bits.toHex();
     }
 
     public int getBitLength() {
-        return bits.toBitString().length();
+        return bits.getLength();
     }
 
+    /**
+     * Returns a mutable copy of the cell, immutable refs are shared with the copy
+     */
     public Cell clone() {
         Cell c = new Cell();
         c.bits = this.bits.clone();
-        for (Cell refCell : this.refs) {
-            c.refs.add(refCell.clone());
-        }
-        c.special = this.special;
-        c.type = this.type;
-        c.levelMask = this.levelMask.clone();
-        c.hashes = new ArrayList<>(this.hashes);
-        c.depths = new ArrayList<>(this.depths);
+        Cell[] refCells = this.refs();
+        c.refs = new Cell[refCells.length];
+        for (int i = 0; i < refCells.length; i++) {
+            c.refs[i] = refCells[i].frozen ? refCells[i] : refCells[i].clone();
+        }
+        c.flags = this.flags;
+        c.hashes = this.hashes;
         return c;
     }
 
     public void writeCell(Cell anotherCell) {
+        if (frozen) {
+            throw new Error("Cell is immutable, use CellBuilder.storeCell() instead");
+        }
         Cell cloned = anotherCell.clone();
         bits.writeBitString(cloned.bits);
-        refs.addAll(cloned.refs);
+        refs = concat(refs(), cloned.refs());
+        resetHashes();
+    }
+
+    static Cell[] concat(Cell[] refs, Cell[] added) {
+        Cell[] result = Arrays.copyOf(refs, refs.length + added.length);
+        System.arraycopy(added, 0, result, refs.length, added.length);
+        return result;
+    }
+
+    /**
+     * Copies the cell into an immutable one, where bits occupy as few words as they need.
+     * Refs are shared with the copy.
+     */
+    Cell compact() {
+        Cell c = new Cell(bits.compact(), getType(), getLevelMask());
+        c.refs = refs;
+        c.setSpecial(isSpecial());
+        c.frozen = true;
+        return c;
+    }
+
+    /**
+     * Returns an immutable copy of the cell with the given refs, which must be equal by hash to the current ones,
+     * so the copy shares bits and hashes with the cell
+     */
+    Cell withRefs(Cell[] newRefs) {
+        Cell c = new Cell(frozen ? bits : bits.compact(), getType(), getLevelMask());
+        c.refs = newRefs;
+        c.setSpecial(isSpecial());
+        c.hashes = calculatedHashes();
+        c.frozen = true;
+        return c;
     }
 
     public int getMaxRefs() {
@@ -317,11 +562,11 @@ public class Cell {
     }
 
     public int getFreeRefs() {
-        return getMaxRefs() - refs.size();
+        return getMaxRefs() - refs().length;
     }
 
     public int getUsedRefs() {
-        return refs.size();
+        return refs().length;
     }
 
     /**
@@ -363,13 +608,29 @@ public class Cell {
         }
     }
 
+    /**
+     * Deserializes a cell of lazily read BoC, the cell keeps indexes of its references, see LazyBoc
+     */
+    static LazyCell deserializeLazyCell(byte[] data, int offset, int end, int refIndexSize) {
+        return (LazyCell) deserializeCell(data, offset, end, refIndexSize, null, 0).getLeft();
+    }
+
     /**
      * taken from pytoniq-core
+     *
+     * @param data         BoC bytes
+     * @param offset       position of the cell in data
+     * @param end          end of cells data
+     * @param refIndexSize size of reference index in bytes
+     * @param refsIndexes  receives indexes of references of the cell at position at, LazyCell keeps them if null
+     * @return deserialized cell with unresolved references and position of the next cell
      */
-    static Pair<Cell, Integer> deserializeCell(byte[] data, int refIndexSize) {
-        int dataLen = data.length;
-        int refsDescriptor = data[0] & 0xFF;
-        int level = refsDescriptor >> 5;
+    static Pair<Cell, Integer> deserializeCell(byte[] data, int offset, int end, int refIndexSize, int[][] refsIndexes, int at) {
+        if (end - offset < 2) {
+            throw new Error("Not enough bytes to encode cell descriptors");
+        }
+        int refsDescriptor = data[offset] & 0xFF;
+        int mask = refsDescriptor >> 5;
         int totalRefs = refsDescriptor & 7;
         boolean hasHashes = (refsDescriptor & 16) != 0;
         boolean isExotic = (refsDescriptor & 8) != 0;
@@ -377,14 +638,15 @@ public class Cell {
         if (isAbsent) {
             throw new Error("Cannot deserialize absent cell");
         }
-        int bitsDescriptor = data[1] & 0xFF;
+        int bitsDescriptor = data[offset + 1] & 0xFF;
         boolean isAugmented = (bitsDescriptor & 1) != 0;
         int dataSize = (bitsDescriptor & 1) + (bitsDescriptor >> 1);
-        int hashesSize = (level + 1) * (hasHashes ? 32 : 0);
-        int depthSize = (level + 1) * (hasHashes ? 2 : 0);
-        int i = 2;
+        int hashCount = Integer.bitCount(mask) + 1;
+        int hashesSize = hashCount * (hasHashes ? 32 : 0);
+        int depthSize = hashCount * (hasHashes ? 2 : 0);
+        int i = offset + 2;
 
-        if ((dataLen - i) < (hashesSize + depthSize + dataSize + refIndexSize * totalRefs)) {
+        if ((end - i) < (hashesSize + depthSize + dataSize + refIndexSize * totalRefs)) {
             throw new Error("Not enough bytes to encode cell data");
         }
 
@@ -392,112 +654,138 @@ public class Cell {
             i += hashesSize + depthSize;
         }
 
-        byte[] ret = Arrays.copyOfRange(data, i, i + dataSize);
-        i += dataSize;
-
-        int end = 0;
-        if (isAugmented && ret.length != 0) {
-            // find last bit of byte which indicates the end and cut it and next        
+        int bitLength = dataSize * 8;
+        if (isAugmented && dataSize != 0) {
+            // find last bit of byte which indicates the end and cut it and next
+            int last = data[i + dataSize - 1];
             for (int y = 0; y < 8; y++) {
-                if (((ret[ret.length - 1] >> y) & 1) == 1) {
-                    end = y + 1;
+                if (((last >> y) & 1) == 1) {
+                    bitLength -= y + 1;
                     break;
                 }
             }
         }
 
-        BitString bits = new BitString(ret, ret.length * 8 - end);
+        BitString bits = new BitString(data, i, bitLength);
+        i += dataSize;
 
         int cellType = -1;
         if (isExotic) {
             if (bits.getLength() < 8) {
                 throw new Error("not enough bytes for an exotic cell type");
             }
-            cellType = bits.preReadUint(8).intValue();
+            cellType = (int) bits.preReadUintLong(8);
         }
 
         int[] cellRefsIndex = new int[totalRefs];
 
         for (int j = 0; j < totalRefs; j++) {
-            cellRefsIndex[j] = Utils.bytesToIntX(Arrays.copyOfRange(data, i, i + refIndexSize));
+            cellRefsIndex[j] = (int) BocLayout.readUint(data, i, refIndexSize);
             i += refIndexSize;
         }
 
-        Cell c = new Cell(bits, cellRefsIndex, toCellType(cellType));
+        Cell c;
+        if (isNull(refsIndexes)) {
+            c = new LazyCell(bits, toCellType(cellType), LevelMask.of(mask), cellRefsIndex);
+        } else {
+            c = new Cell(bits, toCellType(cellType), LevelMask.of(mask));
+            refsIndexes[at] = cellRefsIndex;
+        }
+        c.setSpecial(isExotic);
         return Pair.of(c, i);
     }
 
     static List<Cell> fromBocMultiRoot(byte[] data) {
-        if (data.length < 10) {
-            throw new Error("Invalid boc");
-        }
-        Boc boc = deserializeBocHeader(data);
-        Cell[] cells = new Cell[boc.getCells()];
-        int i = 0;
-        for (int x = 0; x < boc.getCells(); x++) {
-            byte[] ret = Arrays.copyOfRange(boc.getCellData(), i, boc.getCellData().length);
-            Pair<Cell, Integer> ci = deserializeCell(ret, boc.getSize());
-            i += ci.getRight();
+        return fromBocMultiRoot(data, null);
+    }
+
+    /**
+     * Deserializes BoC in a single pass over data, cells are parsed in place without copying the payload.
+     * Cells are interned bottom-up if interner is given.
+     */
+    static List<Cell> fromBocMultiRoot(byte[] data, CellInterner interner) {
+        BocLayout boc = new BocLayout(data);
+        int cellsNum = boc.cellsNum;
+        int pos = (int) boc.cellsStart;
+        int end = (int) boc.cellsEnd;
+        Cell[] cells = new Cell[cellsNum];
+        int[][] refsIndexes = new int[cellsNum][];
+        for (int x = 0; x < cellsNum; x++) {
+            Pair<Cell, Integer> ci = deserializeCell(data, pos, end, boc.size, refsIndexes, x);
+            pos = ci.getRight();
             cells[x] = ci.getLeft();
         }
 
-        for (int ci = boc.getCells() - 1; ci >= 0; ci--) {
+        for (int ci = cellsNum - 1; ci >= 0; ci--) {
             Cell c = cells[ci];
-            List<Cell> refs = new ArrayList<>();
-
-            for (int ri = 0; ri < c.refsIndexes.length; ri++) {
-                int r = c.refsIndexes[ri];
-                if (r < ci) {
+            int[] cellRefsIndex = refsIndexes[ci];
+            Cell[] refs = new Cell[cellRefsIndex.length];
+            for (int j = 0; j < refs.length; j++) {
+                int r = cellRefsIndex[j];
+                if (r <= ci) {
                     throw new Error("Topological order is broken");
                 }
-                refs.add(cells[r]);
+                if (r >= cellsNum) {
+                    throw new Error("Invalid boc: reference to cell " + r + " of " + cellsNum);
+                }
+                refs[j] = cells[r];
+            }
+            c.refs = refs;
+            refsIndexes[ci] = null;
+            c.frozen = true;
+            if (nonNull(interner)) {
+                cells[ci] = interner.intern(c);
             }
-
-            cells[ci] = new Cell(cells[ci].getBits(), refs, cells[ci].type.getValue());
-            cells[ci].calculateHashes();
         }
 
-        List<Cell> rootCells = new ArrayList<>();
-        for (int ri = 0; ri < boc.getRootList().size(); ri++) {
-            rootCells.add(cells[ri]);
+        List<Cell> rootCells = new ArrayList<>(boc.rootList.length);
+        for (int r : boc.rootList) {
+            rootCells.add(cells[r]);
         }
         return rootCells;
     }
 
-    private static Boc deserializeBocHeader(byte[] data) {
-        Cell rawCell = CellBuilder.beginCell(data.length * 8).storeBytes(data).endCell();
-        CellSlice cs = CellSlice.beginParse(rawCell);
-        return Boc.deserialize(cs);
+    /**
+     * Converts BoC to Cell without deserializing all its cells.
+     * Only offsets of cells are read upfront, a cell is deserialized when its parent's refs are requested,
+     * e.g. by CellSlice.beginParse() or loadRef(). Data array must not be modified while cells are in use.
+     *
+     * @param data BoC bytes
+     * @return root Cell
+     */
+    public static Cell fromBocLazy(byte[] data) {
+        return new InMemoryBoc(data).root(0);
+    }
+
+    public static List<Cell> fromBocMultiRootsLazy(byte[] data) {
+        InMemoryBoc boc = new InMemoryBoc(data);
+        List<Cell> rootCells = new ArrayList<>(boc.rootsNum());
+        for (int i = 0; i < boc.rootsNum(); i++) {
+            rootCells.add(boc.root(i));
+        }
+        return rootCells;
     }
 
     /**
-     * Recursively prints cell's content like Fift
+     * Prints cell's content like Fift, refs are indented by one space per level
      *
      * @return String
      */
     public String print(String indent) {
-        StringBuilder s = new StringBuilder(indent + "x{" + bits.toHex() + "}\n");
-        if (nonNull(refs) && refs.size() > 0) {
-            for (Cell i : refs) {
-                if (nonNull(i)) {
-                    s.append(i.print(indent + " "));
-                }
+        StringBuilder s = new StringBuilder();
+        CellWalker.of(this).walk((cell, depth, index) -> {
+            s.append(indent);
+            for (int i = 0; i < depth; i++) {
+                s.append(' ');
             }
-        }
+            s.append("x{").append(cell.bits.toHex()).append("}\n");
+            return CellVisitor.Action.CONTINUE;
+        });
         return s.toString();
     }
 
     public String print() {
-        String indent = "";
-        StringBuilder s = new StringBuilder(indent + "x{" + bits.toHex() + "}\n");
-        if (nonNull(refs) && refs.size() > 0) {
-            for (Cell i : refs) {
-                if (nonNull(i)) {
-                    s.append(i.print(indent + " "));
-                }
-            }
-        }
-        return s.toString();
+        return print("");
     }
 
     /**
@@ -513,6 +801,18 @@ public class Cell {
         }
     }
 
+    /**
+     * Saves BoC with index to file, so that it can be read cell by cell with BocReader
+     */
+    public void toFile(String filename, boolean withCrc, boolean withIdx) {
+        byte[] boc = toBoc(withCrc, withIdx);
+        try {
+            Files.write(Paths.get(filename), boc);
+        } catch (Exception e) {
+            System.err.println("Cannot write to file. " + e.getMessage());
+        }
+    }
+
     public void toFile(String filename) {
         toFile(filename, true);
     }
@@ -551,40 +851,58 @@ public class Cell {
     }
 
     public byte[] getHash() {
-        return getHash(levelMask.getLevel());
+        return getHash(getLevelMask().getLevel());
     }
 
     public byte[] getHash(int lvl) {
+        byte[] hash = new byte[32];
+        copyHash(lvl, hash, 0);
+        return hash;
+    }
+
+    /**
+     * Copies 32 bytes of hash of level lvl into dst at offset without intermediate arrays
+     */
+    void copyHash(int lvl, byte[] dst, int offset) {
+        LevelMask levelMask = getLevelMask();
         int hashIndex = levelMask.apply(lvl).getHashIndex();
-        if (type == CellType.PRUNED_BRANCH) {
+        if (getType() == CellType.PRUNED_BRANCH) {
             int prunedHashIndex = levelMask.getHashIndex();
             if (hashIndex != prunedHashIndex) {
-                return Arrays.copyOfRange(getDataBytes(), 2 + (hashIndex * 32), 2 + ((hashIndex + 1) * 32));
+                System.arraycopy(getDataBytes(), 2 + (hashIndex * 32), dst, offset, 32);
+                return;
             }
             hashIndex = 0;
         }
-        return Utils.hexToSignedBytes(hashes.get(hashIndex));
+        byte[] calculated = hashes;
+        if (calculated == null) {
+            calculateHashes();
+            calculated = hashes;
+        }
+        System.arraycopy(calculated, hashIndex * 32, dst, offset, 32);
     }
 
     byte[] getRefsDescriptor(int lvl) {
-        byte[] d1 = new byte[1];
-        d1[0] = (byte) (isNull(refs) ? 0 : refs.size() + ((special ? 1 : 0) * 8) + lvl * 32);
-        return d1;
+        return new byte[]{getRefsDescriptorByte(lvl)};
     }
 
     byte[] getBitsDescriptor() {
+        return new byte[]{getBitsDescriptorByte()};
+    }
+
+    private byte getRefsDescriptorByte(int lvl) {
+        return (byte) (isNull(refs()) ? 0 : refs().length + ((isSpecial() ? 1 : 0) * 8) + lvl * 32);
+    }
+
+    private byte getBitsDescriptorByte() {
         int bitsLength = bits.getLength();
-        byte d3 = (byte) (Math.floor((double) bitsLength / 8) * 2);
-        if ((bitsLength % 8) != 0) {
-            d3++;
-        }
-        return new byte[]{d3};
+        return (byte) ((bitsLength / 8) * 2 + ((bitsLength % 8) != 0 ? 1 : 0));
     }
 
     int getMaxLevel() {
         //TODO level calculation differ for exotic cells
         int maxLevel = 0;
-        for (Cell i : refs) {
+        for (Cell i : refs()) {
             if (i.getMaxLevel() > maxLevel) {
                 maxLevel = i.getMaxLevel();
             }
@@ -604,185 +922,141 @@ public class Cell {
         return toBoc(withCRC, withIdx, false, false, false);
     }
 
-    // taken from pytoniq - beautiful!
-    private Map<Cell, Integer> order(Map<Cell, Integer> result) {
-        if (result.containsKey(this)) {
-            result.remove(this);
-        }
-        result.put(this, null);
-        for (Cell ref : this.refs) {
-            ref.order(result);
+    /**
+     * Orders unique cells of the tree so that every cell goes after all cells referencing it.
+     * Gives the same order as pytoniq, where a cell is moved to the end each time it is visited in pre-order,
+     * i.e. reversed post-order with references visited from the last one. Cells equal by hash are stored once.
+     *
+     * @param indexes receives index of every unique cell
+     * @return cells in BoC order
+     */
+    private List<Cell> order(Map<Cell, Integer> indexes) {
+        List<Cell> postOrder = new ArrayList<>();
+        CellWalker.of(this).postOrder().unique().reversedRefs().walk((cell, depth, index) -> {
+            postOrder.add(cell);
+            return CellVisitor.Action.CONTINUE;
+        });
+        Collections.reverse(postOrder);
+        for (int i = 0; i < postOrder.size(); i++) {
+            indexes.put(postOrder.get(i), i);
         }
-        return result;
+        return postOrder;
     }
 
-    private byte[] serialize(Map<Cell, Integer> indexes, int byteLen) {
-        byte[] descriptors = getDescriptors(levelMask.getMask());
-        byte[] body = getDataBytes();
-
-        byte[] result = Utils.concatBytes(descriptors, body);
-        for (Cell ref : this.refs) {
-            result = Utils.concatBytes(result, Utils.dynamicIntBytes(BigInteger.valueOf(indexes.get(ref)), byteLen));
-        }
-        return result;
+    private int getSerializedSize(int refIndexSize) {
+        return 2 + bits.getUsedBytes() + refs().length * refIndexSize;
     }
 
-    public byte[] toBoc(boolean hasCrc32c, boolean hasIdx, boolean hasCacheBits, boolean hasTopHash, boolean hasIntHashes) {
-        Map<Cell, Integer> indexed = new LinkedHashMap<>();
-        this.order(indexed);
-        // recursively go through cells, build hash index and store unique in slice
-        int i = 0;
-        for (Map.Entry<Cell, Integer> entry : indexed.entrySet()) {
-            entry.setValue(i++);
-        }
-
-        BigInteger cellsNum = BigInteger.valueOf(indexed.size());
-        int cellsLen = (int) Math.floor((double) (cellsNum.bitLength() + 7) / 8);
-
-        byte[] payload = new byte[0];
-        List<BigInteger> serializedCellLen = new ArrayList<>();
-        for (Map.Entry<Cell, Integer> entry : indexed.entrySet()) {
-            byte[] serializeResult = entry.getKey().serialize(indexed, cellsLen);
-            payload = Utils.concatBytes(payload, serializeResult);
-            serializedCellLen.add(BigInteger.valueOf(serializeResult.length));
-        }
-
-//        System.out.println(Utils.bytesToHex(payload));
-        // bytes needed to store len of payload
-        int sizeBits = Utils.log2(payload.length + 1);
-        int sizeBytes = (int) Math.ceil((double) sizeBits / 8);
-
-        int numberOfRoots = 1;
-        int absent = 0;
-        BigInteger rootIndex = BigInteger.ZERO;
-
-        Boc boc = Boc.builder()
-                .hasIdx(hasIdx)
-                .hasCrc32c(hasCrc32c)
-                .hasCacheBits(hasCacheBits)
-                .hasTopHash(hasTopHash)
-                .hasIntHashes(hasIntHashes)
-                .size(cellsLen)
-                .offBytes(sizeBytes)
-                .cells(indexed.size())
-                .roots(numberOfRoots)
-                .absent(absent)
-                .totalCellsSize(payload.length)
-                .rootList(Collections.singletonList(rootIndex))
-                .index(serializedCellLen)
-                .cellData(payload)
-                .build();
-
-        return boc.toCell().getBits().toByteArray();
-    }
-
-    private List<Cell> flattenIndex(List<Cell> src, boolean hasTopHash, boolean hasIntHashes) {
-
-        List<Cell> pending = src;
-        Map<String, Cell> allCells = new HashMap<>();
-        Map<String, Cell> notPermCells = new HashMap<>();
-
-        Deque<String> sorted = new ArrayDeque<>();
-
-        while (pending.size() > 0) {
-            List<Cell> cells = new ArrayList<>(pending);
-            pending = new ArrayList<>();
-
-            for (Cell cell : cells) {
-                String hash = Utils.bytesToHex(cell.hash());
-                if (allCells.containsKey(hash)) {
-                    continue;
-                }
-                notPermCells.put(hash, null);
-                allCells.put(hash, cell);
-
-                pending.addAll(cell.refs);
-            }
+    private int serialize(byte[] out, int pos, Map<Cell, Integer> indexes, int refIndexSize) {
+        out[pos++] = getRefsDescriptorByte(getLevelMask().getMask());
+        out[pos++] = getBitsDescriptorByte();
+        pos += bits.toByteArray(out, pos);
+        if ((bits.getLength() % 8) > 0) {
+            // completion tag: append bit 1 and pad the rest of the byte with zeros
+            out[pos - 1] |= (byte) (1 << (7 - (bits.getLength() % 8)));
         }
-
-        Map<String, Boolean> tempMark = new HashMap<>();
-        while (notPermCells.size() > 0) {
-            for (String key : notPermCells.keySet()) {
-                visit(key, allCells, notPermCells, tempMark, sorted);
-                break;
-            }
+        for (Cell ref : refs()) {
+            pos = writeUint(out, pos, indexes.get(ref), refIndexSize);
         }
+        return pos;
+    }
 
-        Map<String, Integer> indexes = new HashMap<>();
-
-        Deque<String> tmpSorted = new ArrayDeque<>(sorted);
-        int len = tmpSorted.size();
-        for (int i = 0; i < len; i++) {
-            indexes.put(tmpSorted.pop(), i);
-        }
-        int x = 0;
-        for (String ignored : indexes.keySet()) {
-            x++;
-            if (x > 3) {
-                break;
-            }
+    private static int writeUint(byte[] out, int pos, long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            out[pos++] = (byte) (value >>> (i * 8));
         }
+        return pos;
+    }
 
-        List<Cell> result = new ArrayList<>();
-        for (String ent : sorted) {
-            Cell rrr = allCells.get(ent);
-            rrr.index = indexes.get(Utils.bytesToHex(rrr.hash()));
-            for (Cell ref : rrr.refs) {
-                ref.index = indexes.get(Utils.bytesToHex(ref.hash()));
-            }
-            result.add(rrr);
+    /**
+     * Serializes the cell tree into BoC. Sizes are calculated first, so BoC is written into exactly sized array.
+     * Index holds end offset of every cell relative to the start of cell data, so that reader can seek to any cell.
+     * With cache bits, the lowest bit of index entry tells whether the cell is referenced more than once.
+     */
+    public byte[] toBoc(boolean hasCrc32c, boolean hasIdx, boolean hasCacheBits, boolean hasTopHash, boolean hasIntHashes) {
+        if (hasCacheBits && !hasIdx) {
+            throw new Error("Cache bits can be stored only in BoC with index");
         }
+        Map<Cell, Integer> indexes = new HashMap<>();
+        List<Cell> cells = order(indexes);
 
-        return result;
-    }
+        int cellsNum = cells.size();
+        int cellsLen = (32 - Integer.numberOfLeadingZeros(cellsNum) + 7) / 8;
 
-    private void visit(String hash, Map<String, Cell> allCells, Map<String, Cell> notPermCells, Map<String, Boolean> tempMark, Deque<String> sorted) {
-        if (!notPermCells.containsKey(hash)) {
-            return;
+        long payloadSize = 0;
+        for (Cell cell : cells) {
+            payloadSize += cell.getSerializedSize(cellsLen);
         }
+        // bytes needed to store len of payload, offsets in index are doubled if cache bits are stored
+        int sizeBytes = Math.max(1, (64 - Long.numberOfLeadingZeros(hasCacheBits ? payloadSize * 2 : payloadSize) + 7) / 8);
 
-        if (tempMark.containsKey(hash)) {
-            System.err.println("Unknown branch, hash exists");
-            return;
+        long total = 4 + 1 + 1 + 3 * cellsLen + sizeBytes + cellsLen
+                + (hasIdx ? (long) cellsNum * sizeBytes : 0) + payloadSize + (hasCrc32c ? 4 : 0);
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new Error("BoC is too large: " + total + " bytes");
         }
 
-        tempMark.put(hash, true);
-
-        for (Cell ref : allCells.get(hash).refs) {
-            visit(Utils.bytesToHex(ref.hash()), allCells, notPermCells, tempMark, sorted);
+        byte[] out = new byte[(int) total];
+        int pos = writeUint(out, 0, 0xb5ee9c72L, 4);
+        out[pos++] = (byte) ((hasIdx ? 0x80 : 0) | (hasCrc32c ? 0x40 : 0) | (hasCacheBits ? 0x20 : 0)
+                | (hasTopHash ? 0x10 : 0) | (hasIntHashes ? 0x08 : 0) | cellsLen);
+        out[pos++] = (byte) sizeBytes;
+        pos = writeUint(out, pos, cellsNum, cellsLen);
+        pos = writeUint(out, pos, 1, cellsLen); // roots
+        pos = writeUint(out, pos, 0, cellsLen); // absent
+        pos = writeUint(out, pos, payloadSize, sizeBytes);
+        pos = writeUint(out, pos, 0, cellsLen); // root index
+        if (hasIdx) {
+            boolean[] shared = new boolean[cellsNum];
+            if (hasCacheBits) {
+                boolean[] referenced = new boolean[cellsNum];
+                for (Cell cell : cells) {
+                    for (Cell ref : cell.refs()) {
+                        int r = indexes.get(ref);
+                        shared[r] = referenced[r];
+                        referenced[r] = true;
+                    }
+                }
+            }
+            long offset = 0;
+            for (int i = 0; i < cellsNum; i++) {
+                offset += cells.get(i).getSerializedSize(cellsLen);
+                pos = writeUint(out, pos, hasCacheBits ? offset * 2 + (shared[i] ? 1 : 0) : offset, sizeBytes);
+            }
         }
 
-        sorted.addFirst(hash);
-        tempMark.remove(hash);
-        notPermCells.remove(hash);
-    }
-
-    private byte[] serialize(int refIndexSzBytes) {
-        byte[] body = Utils.unsignedBytesToSigned(CellSlice.beginParse(this).loadSlice(this.bits.getLength()));
-//        byte[] body1 = getDataBytes();
-        byte[] descriptors = getDescriptors(levelMask.getMask());
-        byte[] data = Utils.concatBytes(descriptors, body);
-
-        int unusedBits = 8 - (bits.getLength() % 8);
-
-        if (unusedBits != 8) {
-            data[2 + body.length - 1] = (byte) (data[2 + body.length - 1] + (1 << (unusedBits - 1)));
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(out, 0, pos);
+        for (Cell cell : cells) {
+            int start = pos;
+            pos = cell.serialize(out, pos, indexes, cellsLen);
+            crc32c.update(out, start, pos - start);
         }
 
-        for (Cell ref : refs) {
-            data = Utils.concatBytes(data, Utils.dynamicIntBytes(BigInteger.valueOf(ref.index), refIndexSzBytes));
-//            data = Utils.concatBytes(data, sortedCells);
+        if (hasCrc32c) {
+            long crc = crc32c.getValue();
+            for (int i = 0; i < 4; i++) {
+                out[pos++] = (byte) (crc >>> (i * 8));
+            }
         }
-        return data;
+        return out;
     }
 
     private byte[] getDescriptors(int lvl) {
         return Utils.concatBytes(getRefsDescriptor(lvl), getBitsDescriptor());
     }
 
-    private int getDepth(int lvlMask) {
+    /**
+     * Returns depth of the cell at its level, i.e. length of the longest path to a leaf cell
+     */
+    public int getDepth() {
+        return getDepth(getLevelMask().getLevel());
+    }
+
+    public int getDepth(int lvlMask) {
+        LevelMask levelMask = getLevelMask();
         int hashIndex = levelMask.apply(lvlMask).getHashIndex();
-        if (type == CellType.PRUNED_BRANCH) {
+        if (getType() == CellType.PRUNED_BRANCH) {
             int prunedHashIndex = levelMask.getHashIndex();
             if (hashIndex != prunedHashIndex) {
                 int off = 2 + 32 * prunedHashIndex + hashIndex * 2;
@@ -790,26 +1064,26 @@ public class Cell {
                 System.arraycopy(getDataBytes(), off, dst, 0, 2); // review
                 return Utils.bytesToIntX(dst);
             }
+            hashIndex = 0;
         }
-        return depths.get(hashIndex);
+        byte[] calculated = calculatedHashes();
+        int off = (calculated.length / (32 + 2)) * 32 + hashIndex * 2;
+        return ((calculated[off] & 0xFF) << 8) | (calculated[off + 1] & 0xFF);
     }
 
     private byte[] getDataBytes() {
-        if ((bits.getLength() % 8) > 0) {
-            String s = bits.toBitString();
-            s = s + "1";
-            if ((s.length() % 8) > 0) {
-                s = s + StringUtils.repeat("0", 8 - (s.length() % 8));
-            }
-            return Utils.bitStringToByteArray(s);
-        } else {
-            return bits.toByteArray();
+        int bitsLength = bits.getLength();
+        byte[] data = bits.toByteArray();
+        if ((bitsLength % 8) > 0) {
+            // completion tag: append bit 1 and pad the rest of the byte with zeros
+            data[data.length - 1] |= (byte) (1 << (7 - (bitsLength % 8)));
         }
+        return data;
     }
 
 
     public CellType getCellType() {
-        if (!special) {
+        if (!isSpecial()) {
             return ORDINARY;
         }
 
@@ -822,7 +1096,7 @@ public class Cell {
             case ORDINARY_CELL_TYPE: {
                 if (bits.getLength() >= 288) {
                     //int msk = clonedBits.readUint(8).intValue();
-                    LevelMask msk = new LevelMask(clonedBits.readUint(8).intValue());
+                    LevelMask msk = LevelMask.of(clonedBits.readUint(8).intValue());
 //                    byte msk = levelMask;
                     int lvl = msk.getLevel();
                     if ((lvl > 0) && (lvl <= 3) && (bits.getLength() >= 16 + (256 + 16) * msk.apply(lvl - 1).getHashIndex() + 1)) {
@@ -831,12 +1105,12 @@ public class Cell {
                 }
             }
             case MERKLE_PROOF_CELL_TYPE: {
-                if ((refs.size() == 1) && (bits.getLength() == 280)) {
+                if ((refs().length == 1) && (bits.getLength() == 280)) {
                     return CellType.MERKLE_PROOF;
                 }
             }
             case MERKLE_UPDATE_CELL_TYPE: {
-                if ((refs.size() == 1) && (bits.getLength() == 552)) {
+                if ((refs().length == 1) && (bits.getLength() == 552)) {
                     return CellType.MERKLE_UPDATE;
                 }
             }
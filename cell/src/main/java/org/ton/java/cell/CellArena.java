@@ -0,0 +1,336 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import java.util.Arrays;
+
+/**
+ * Cells of BoC kept in flat arrays instead of Cell objects, for bulk processing of large blocks and states.
+ * Cell data is read in place from BoC bytes, while offsets, bit lengths, descriptors and references
+ * of all cells are collected by one pass over BoC. A cell is addressed by its index in BoC.
+ * <p>
+ * Hashes are calculated for all cells at once on the first request and stored in hash slots,
+ * one slot of 32 bytes of hash and depth per significant level of a cell.
+ * <p>
+ * Read cells with CellArenaSlice, e.g. arena.beginParse(arena.getRoot(0)), or convert a cell with toCell().
+ * Data array must not be modified while the arena is in use.
+ */
+public final class CellArena {
+
+    final byte[] data;
+    /**
+     * offset of cell data in BoC bytes
+     */
+    final int[] dataOffsets;
+    final short[] bitLengths;
+    /**
+     * refs descriptor of every cell, holding number of refs, exotic flag and level mask
+     */
+    private final byte[] descriptors;
+    /**
+     * references of cell i are refs[firstRef[i]] .. refs[firstRef[i + 1] - 1]
+     */
+    final int[] firstRef;
+    final int[] refs;
+    /**
+     * hash slots of cell i are firstHash[i] .. firstHash[i + 1] - 1
+     */
+    private final int[] firstHash;
+    private final int[] roots;
+
+    private volatile byte[] hashes;
+    private char[] depths;
+
+    /**
+     * cells created by toCell(), allocated on the first call
+     */
+    private Cell[] converted;
+
+    private final LazyBoc cells = new LazyBoc() {
+        @Override
+        Cell cell(int index) {
+            return toCell(index);
+        }
+    };
+
+    private CellArena(BocLayout boc) {
+        data = boc.data;
+        roots = boc.rootList;
+        int cellsNum = boc.cellsNum;
+        dataOffsets = new int[cellsNum];
+        bitLengths = new short[cellsNum];
+        descriptors = new byte[cellsNum];
+        firstRef = new int[cellsNum + 1];
+        firstHash = new int[cellsNum + 1];
+        int[] refIndexes = new int[cellsNum];
+        int refsNum = 0;
+
+        int pos = (int) boc.cellsStart;
+        int end = (int) boc.cellsEnd;
+        for (int i = 0; i < cellsNum; i++) {
+            if (end - pos < 2) {
+                throw new Error("Not enough bytes to encode cell descriptors");
+            }
+            int refsDescriptor = data[pos] & 0xFF;
+            int bitsDescriptor = data[pos + 1] & 0xFF;
+            int cellLength = BocLayout.cellLength(refsDescriptor, bitsDescriptor, boc.size);
+            if (cellLength > end - pos) {
+                throw new Error("Not enough bytes to encode cell data");
+            }
+            int mask = refsDescriptor >> 5;
+            int totalRefs = refsDescriptor & 7;
+            boolean hasHashes = (refsDescriptor & 16) != 0;
+            boolean isExotic = (refsDescriptor & 8) != 0;
+            if ((totalRefs == 7) && hasHashes) {
+                throw new Error("Cannot deserialize absent cell");
+            }
+            int dataSize = (bitsDescriptor & 1) + (bitsDescriptor >> 1);
+            int dataOffset = pos + 2 + (hasHashes ? (Integer.bitCount(mask) + 1) * (32 + 2) : 0);
+
+            int bitLength = dataSize * 8;
+            int last = (dataSize == 0) ? 0 : data[dataOffset + dataSize - 1] & 0xFF;
+            if (((bitsDescriptor & 1) != 0) && last != 0) {
+                // completion tag is the lowest set bit of the last byte
+                bitLength -= Integer.numberOfTrailingZeros(last) + 1;
+            }
+            if (isExotic && bitLength < 8) {
+                throw new Error("not enough bytes for an exotic cell type");
+            }
+            dataOffsets[i] = dataOffset;
+            bitLengths[i] = (short) bitLength;
+            descriptors[i] = (byte) refsDescriptor;
+            boolean pruned = isExotic && (data[dataOffset] == Cell.PRUNED_CELL_TYPE);
+            firstHash[i + 1] = firstHash[i] + (pruned ? 1 : Integer.bitCount(mask) + 1);
+
+            if (refsNum + totalRefs > refIndexes.length) {
+                refIndexes = Arrays.copyOf(refIndexes, Math.max(refIndexes.length * 2, refsNum + totalRefs));
+            }
+            int refPos = dataOffset + dataSize;
+            for (int j = 0; j < totalRefs; j++) {
+                long r = BocLayout.readUint(data, refPos, boc.size);
+                if (r <= i) {
+                    throw new Error("Topological order is broken");
+                }
+                if (r >= cellsNum) {
+                    throw new Error("Invalid boc: reference to cell " + r + " of " + cellsNum);
+                }
+                refIndexes[refsNum++] = (int) r;
+                refPos += boc.size;
+            }
+            firstRef[i + 1] = refsNum;
+            pos += cellLength;
+        }
+        refs = (refsNum == refIndexes.length) ? refIndexes : Arrays.copyOf(refIndexes, refsNum);
+    }
+
+    /**
+     * Parses BoC into arena, the data array is used as cell storage without copying
+     *
+     * @param data BoC bytes
+     * @return CellArena
+     */
+    public static CellArena fromBoc(byte[] data) {
+        return new CellArena(new BocLayout(data));
+    }
+
+    public int getCellsNum() {
+        return dataOffsets.length;
+    }
+
+    public int getRootsNum() {
+        return roots.length;
+    }
+
+    /**
+     * @return index of the i-th root cell
+     */
+    public int getRoot(int i) {
+        return roots[i];
+    }
+
+    public int getBitLength(int cell) {
+        return bitLengths[cell];
+    }
+
+    public int getRefCount(int cell) {
+        return firstRef[cell + 1] - firstRef[cell];
+    }
+
+    /**
+     * @return index of the i-th reference of the cell
+     */
+    public int getRef(int cell, int i) {
+        if (i < 0 || i >= getRefCount(cell)) {
+            throw new Error("Cell " + cell + " has no ref " + i);
+        }
+        return refs[firstRef[cell] + i];
+    }
+
+    public boolean isExotic(int cell) {
+        return (descriptors[cell] & 8) != 0;
+    }
+
+    public CellType getCellType(int cell) {
+        return isExotic(cell) ? Cell.toCellType(data[dataOffsets[cell]] & 0xFF) : CellType.ORDINARY;
+    }
+
+    public LevelMask getLevelMask(int cell) {
+        return LevelMask.of((descriptors[cell] & 0xFF) >> 5);
+    }
+
+    /**
+     * Starts reading the cell, see CellArenaSlice.parse() to read many cells with one slice
+     */
+    public CellArenaSlice beginParse(int cell) {
+        return new CellArenaSlice(this).parse(cell);
+    }
+
+    /**
+     * Returns Cell object for the cell, its references are created when they are requested.
+     * Cell object is created once, so a cell shared by several parents is converted once.
+     */
+    public synchronized Cell toCell(int cell) {
+        if (converted == null) {
+            converted = new Cell[getCellsNum()];
+        }
+        Cell c = converted[cell];
+        if (c == null) {
+            LazyCell lazy = new LazyCell(new BitString(data, dataOffsets[cell], bitLengths[cell]), getCellType(cell), getLevelMask(cell),
+                    Arrays.copyOfRange(refs, firstRef[cell], firstRef[cell + 1]));
+            lazy.setSpecial(isExotic(cell));
+            c = cells.attach(lazy, cell, getCellsNum());
+            converted[cell] = c;
+        }
+        return c;
+    }
+
+    public byte[] getHash(int cell) {
+        byte[] hash = new byte[32];
+        copyHash(cell, getLevelMask(cell).getLevel(), hash, 0);
+        return hash;
+    }
+
+    public int getDepth(int cell) {
+        if (hashes == null) {
+            computeHashes();
+        }
+        return getDepth(cell, getLevelMask(cell).getLevel(), depths);
+    }
+
+    /**
+     * Calculates hashes and depths of all cells, from the last cell to the first one,
+     * so hashes of references are always known. Same as Cell.calculateHashes() for every cell.
+     */
+    public synchronized void computeHashes() {
+        if (hashes != null) {
+            return;
+        }
+        int cellsNum = getCellsNum();
+        byte[] newHashes = new byte[firstHash[cellsNum] * 32];
+        char[] newDepths = new char[firstHash[cellsNum]];
+        CellHasher hasher = CellHasher.get();
+        for (int i = cellsNum - 1; i >= 0; i--) {
+            calculateHashes(i, newHashes, newDepths, hasher);
+        }
+        depths = newDepths;
+        hashes = newHashes;
+    }
+
+    private void calculateHashes(int cell, byte[] newHashes, char[] newDepths, CellHasher hasher) {
+        LevelMask levelMask = getLevelMask(cell);
+        CellType type = getCellType(cell);
+        int hashCount = firstHash[cell + 1] - firstHash[cell];
+        int hashIndexOffset = levelMask.getHashIndex() + 1 - hashCount;
+        int hashIndex = 0;
+        int level = levelMask.getLevel();
+        int bitLength = bitLengths[cell];
+        int dataSize = (bitLength + 7) >>> 3;
+        int from = firstRef[cell];
+        int to = firstRef[cell + 1];
+        byte[] repr = hasher.buffer(2 + Math.max(32, dataSize) + (to - from) * (2 + 32));
+
+        for (int li = 0; li < level + 1; li++) {
+            if (!levelMask.isSignificant(li)) {
+                continue;
+            }
+            if (li < hashIndexOffset) {
+                hashIndex++;
+                continue;
+            }
+            int slot = firstHash[cell] + hashIndex - hashIndexOffset;
+            int pos = 0;
+            repr[pos++] = (byte) ((to - from) + (isExotic(cell) ? 8 : 0) + levelMask.apply(li).getMask() * 32);
+            repr[pos++] = (byte) ((bitLength / 8) * 2 + ((bitLength % 8) != 0 ? 1 : 0));
+            if (hashIndex == hashIndexOffset) {
+                if ((li != 0) && (type != CellType.PRUNED_BRANCH)) {
+                    throw new Error("neither pruned nor 0");
+                }
+                // data in BoC already ends with completion tag
+                System.arraycopy(data, dataOffsets[cell], repr, pos, dataSize);
+                pos += dataSize;
+            } else {
+                System.arraycopy(newHashes, (slot - 1) * 32, repr, pos, 32);
+                pos += 32;
+            }
+            int depth = 0;
+            int childLevel = (type == CellType.MERKLE_PROOF) || (type == CellType.MERKLE_UPDATE) ? li + 1 : li;
+            for (int r = from; r < to; r++) {
+                int refDepth = getDepth(refs[r], childLevel, newDepths);
+                repr[pos++] = (byte) (refDepth >>> 8);
+                repr[pos++] = (byte) refDepth;
+                if (refDepth > depth) {
+                    depth = refDepth;
+                }
+            }
+            if (to > from) {
+                depth++;
+                if (depth >= 1024) {
+                    throw new Error("depth is more than max depth (1023)");
+                }
+            }
+            for (int r = from; r < to; r++) {
+                copyHash(refs[r], childLevel, newHashes, repr, pos);
+                pos += 32;
+            }
+            newDepths[slot] = (char) depth;
+            hasher.hash(pos, newHashes, slot * 32);
+            hashIndex++;
+        }
+    }
+
+    private void copyHash(int cell, int lvl, byte[] dst, int offset) {
+        byte[] calculated = hashes;
+        if (calculated == null) {
+            computeHashes();
+            calculated = hashes;
+        }
+        copyHash(cell, lvl, calculated, dst, offset);
+    }
+
+    private void copyHash(int cell, int lvl, byte[] calculated, byte[] dst, int offset) {
+        LevelMask levelMask = getLevelMask(cell);
+        int hashIndex = levelMask.apply(lvl).getHashIndex();
+        if (getCellType(cell) == CellType.PRUNED_BRANCH) {
+            if (hashIndex != levelMask.getHashIndex()) {
+                System.arraycopy(data, dataOffsets[cell] + 2 + hashIndex * 32, dst, offset, 32);
+                return;
+            }
+            hashIndex = 0;
+        }
+        System.arraycopy(calculated, (firstHash[cell] + hashIndex) * 32, dst, offset, 32);
+    }
+
+    private int getDepth(int cell, int lvl, char[] calculated) {
+        LevelMask levelMask = getLevelMask(cell);
+        int hashIndex = levelMask.apply(lvl).getHashIndex();
+        if (getCellType(cell) == CellType.PRUNED_BRANCH) {
+            int prunedHashIndex = levelMask.getHashIndex();
+            if (hashIndex != prunedHashIndex) {
+                int off = dataOffsets[cell] + 2 + 32 * prunedHashIndex + hashIndex * 2;
+                return ((data[off] & 0xFF) << 8) | (data[off + 1] & 0xFF);
+            }
+            hashIndex = 0;
+        }
+        return calculated[firstHash[cell] + hashIndex];
+    }
+}
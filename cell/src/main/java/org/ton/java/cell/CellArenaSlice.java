@@ -0,0 +1,234 @@
+package org.ton.java.cell;
+
+import org.ton.java.address.Address;
+
+import java.math.BigInteger;
+
+/**
+ * Reads cells of CellArena like CellSlice, but without creating objects per cell.
+ * One slice can be moved from cell to cell with parse(), e.g. parse(loadRef()) to descend into a reference.
+ * Use toCellSlice() to pass the rest of the cell to code working with CellSlice.
+ */
+public final class CellArenaSlice {
+
+    private final CellArena arena;
+    private int cell;
+    private long bitPos;
+    private long bitEnd;
+    private int refPos;
+    private int refEnd;
+
+    CellArenaSlice(CellArena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Starts reading another cell of the same arena
+     */
+    public CellArenaSlice parse(int cell) {
+        this.cell = cell;
+        bitPos = arena.dataOffsets[cell] * 8L;
+        bitEnd = bitPos + arena.bitLengths[cell];
+        refPos = arena.firstRef[cell];
+        refEnd = arena.firstRef[cell + 1];
+        return this;
+    }
+
+    /**
+     * @return index of the cell being read
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    public int getRestBits() {
+        return (int) (bitEnd - bitPos);
+    }
+
+    public int getRefsCount() {
+        return refEnd - refPos;
+    }
+
+    public boolean isSliceEmpty() {
+        return bitPos == bitEnd;
+    }
+
+    public void endParse() {
+        if (bitPos != bitEnd) {
+            throw new Error("not all bits read");
+        }
+    }
+
+    public boolean loadBit() {
+        checkBitsOverflow(1);
+        return read(1) != 0;
+    }
+
+    public boolean preloadBit() {
+        checkBitsOverflow(1);
+        return bitAt(bitPos);
+    }
+
+    public CellArenaSlice skipBits(int length) {
+        checkBitsOverflow(length);
+        bitPos += length;
+        return this;
+    }
+
+    /**
+     * Loads unsigned integer of up to 64 bits, values of uint64 above Long.MAX_VALUE are returned as negative numbers
+     */
+    public long loadUintLong(int length) {
+        checkBitsOverflow(length);
+        return read(length);
+    }
+
+    public long preloadUintLong(int length) {
+        checkBitsOverflow(length);
+        long pos = bitPos;
+        long value = read(length);
+        bitPos = pos;
+        return value;
+    }
+
+    public long loadIntLong(int length) {
+        checkBitsOverflow(length);
+        long value = read(length);
+        return (length == 0 || length == 64) ? value : (value << (64 - length)) >> (64 - length);
+    }
+
+    public BigInteger loadUint(int length) {
+        checkBitsOverflow(length);
+        BigInteger result = BigInteger.ZERO;
+        int rest = length;
+        while (rest > 0) {
+            int n = Math.min(rest, 63);
+            result = result.shiftLeft(n).or(BigInteger.valueOf(read(n)));
+            rest -= n;
+        }
+        return result;
+    }
+
+    public BigInteger loadInt(int length) {
+        BigInteger result = loadUint(length);
+        if (length > 0 && result.testBit(length - 1)) {
+            return result.subtract(BigInteger.ONE.shiftLeft(length));
+        }
+        return result;
+    }
+
+    /**
+     * @param length in bits
+     * @return byte array, last byte is padded with zeros
+     */
+    public byte[] loadBytes(int length) {
+        checkBitsOverflow(length);
+        byte[] result = new byte[(length + 7) >>> 3];
+        if ((bitPos & 7) == 0 && (length & 7) == 0) {
+            System.arraycopy(arena.data, (int) (bitPos >>> 3), result, 0, result.length);
+            bitPos += length;
+            return result;
+        }
+        for (int i = 0; i < result.length; i++) {
+            int n = Math.min(8, length - i * 8);
+            result[i] = (byte) (read(n) << (8 - n));
+        }
+        return result;
+    }
+
+    /**
+     * Loads coins amount
+     * <p>
+     * nanograms$_ amount:(VarUInteger 16) = Grams;
+     */
+    public BigInteger loadCoins() {
+        int len = (int) loadUintLong(4);
+        return len == 0 ? BigInteger.ZERO : loadUint(len * 8);
+    }
+
+    public Address loadAddress() {
+        long i = preloadUintLong(2);
+        if (i == 0) {
+            skipBits(2);
+            return null;
+        }
+        skipBits(3);
+        int workchain = (int) loadIntLong(8);
+        BigInteger hashPart = loadUint(256);
+
+        String address = workchain + ":" + String.format("%64s", hashPart.toString(16)).replace(' ', '0');
+        return Address.of(address);
+    }
+
+    /**
+     * @return index of the next referenced cell
+     */
+    public int loadRef() {
+        checkRefsOverflow();
+        return arena.refs[refPos++];
+    }
+
+    public int preloadRef() {
+        checkRefsOverflow();
+        return arena.refs[refPos];
+    }
+
+    public CellArenaSlice skipRefs(int length) {
+        if (length > refEnd - refPos) {
+            throw new Error("Refs overflow. Can't skip " + length + " refs. " + (refEnd - refPos) + " refs left.");
+        }
+        refPos += length;
+        return this;
+    }
+
+    /**
+     * Returns CellSlice with bits and refs not read yet
+     */
+    public CellSlice toCellSlice() {
+        CellSlice cs = CellSlice.beginParse(arena.toCell(cell));
+        cs.skipBits((int) (bitPos - arena.dataOffsets[cell] * 8L));
+        cs.skipRefs(refPos - arena.firstRef[cell]);
+        return cs;
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder(getRestBits());
+        for (long i = bitPos; i < bitEnd; i++) {
+            s.append(bitAt(i) ? '1' : '0');
+        }
+        return s.toString();
+    }
+
+    private boolean bitAt(long position) {
+        return (arena.data[(int) (position >>> 3)] & (0x80 >>> (position & 7))) != 0;
+    }
+
+    /**
+     * Reads up to 64 bits starting at bitPos, byte by byte
+     */
+    private long read(int length) {
+        long result = 0;
+        int rest = length;
+        while (rest > 0) {
+            int bit = (int) (bitPos & 7);
+            int n = Math.min(8 - bit, rest);
+            int b = arena.data[(int) (bitPos >>> 3)] & 0xFF;
+            result = (result << n) | ((b >>> (8 - bit - n)) & ((1 << n) - 1));
+            bitPos += n;
+            rest -= n;
+        }
+        return result;
+    }
+
+    private void checkBitsOverflow(int length) {
+        if (length > bitEnd - bitPos) {
+            throw new Error("Bits overflow. Can't load " + length + " bits. " + getRestBits() + " bits left.");
+        }
+    }
+
+    private void checkRefsOverflow() {
+        if (refPos == refEnd) {
+            throw new Error("Refs overflow. No more refs.");
+        }
+    }
+}
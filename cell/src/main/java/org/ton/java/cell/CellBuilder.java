@@ -5,6 +5,8 @@ import org.ton.java.bitstring.BitString;
 import org.ton.java.utils.Utils;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.Objects.isNull;
@@ -35,63 +37,125 @@ public class CellBuilder {
     }
 
     /**
-     * Converts a builder into an ordinary cell.
+     * Converts a builder into an ordinary cell. The cell is an immutable copy
+     * where bits occupy as few words as they need, the builder can be reset and reused.
      */
     public Cell endCell() {
-        cell.calculateHashes();
+        return cell.frozen ? cell : cell.compact();
+    }
+
+    /**
+     * Returns the cell to store into, copying it first if it is an immutable cell taken from BoC
+     */
+    private Cell cell() {
+        if (cell.frozen) {
+            Cell copy = new Cell(cell.bits.getUsedBits() + cell.bits.getFreeBits());
+            copy.bits.writeBitString(cell.bits.clone());
+            copy.refs = cell.refs();
+            copy.setSpecial(cell.isSpecial());
+            copy.setType(cell.getType());
+            copy.setLevelMask(cell.getLevelMask());
+            cell = copy;
+        }
         return cell;
     }
 
+    /**
+     * Adds ref to the cell, immutable cells are stored as is, mutable ones are copied
+     */
+    private void storeRefCell(Cell c) {
+        Cell target = cell();
+        int n = target.refs.length;
+        target.refs = Arrays.copyOf(target.refs, n + 1);
+        target.refs[n] = c.frozen ? c : c.clone();
+    }
+
+    /**
+     * Clears the builder, so that one builder can be used for many cells, e.g. one per thread.
+     * Memory of stored bits is reused.
+     */
+    public CellBuilder reset() {
+        if (cell.frozen) {
+            cell = new Cell(cell.bits.getUsedBits() + cell.bits.getFreeBits());
+        } else {
+            cell.bits.clear();
+            cell.refs = Cell.EMPTY_REFS;
+            cell.setSpecial(false);
+            cell.setType(CellType.ORDINARY);
+            cell.setLevelMask(LevelMask.of(0));
+            cell.resetHashes();
+        }
+        return this;
+    }
+
+    /**
+     * Converts a builder into an ordinary cell and replaces it and its references with canonical instances.
+     */
+    public Cell endCell(CellInterner interner) {
+        return interner.internTree(endCell());
+    }
+
     public CellBuilder storeBit(Boolean bit) {
         checkBitsOverflow(1);
-        cell.bits.writeBit(bit);
+        cell().bits.writeBit(bit);
         return this;
     }
 
     public CellBuilder storeBits(List<Boolean> arrayBits) {
         checkBitsOverflow(arrayBits.size());
         for (Boolean bit : arrayBits) {
-            cell.bits.writeBit(bit);
+            cell().bits.writeBit(bit);
         }
         return this;
     }
 
     public CellBuilder storeBits(Boolean[] arrayBits) {
         checkBitsOverflow(arrayBits.length);
-        cell.bits.writeBitArray(arrayBits);
+        cell().bits.writeBitArray(arrayBits);
         return this;
     }
 
     public CellBuilder storeUint(long number, int bitLength) {
-        return storeUint(BigInteger.valueOf(number), bitLength);
+        checkBitsOverflow(bitLength);
+        checkSign(number);
+        cell().bits.writeUint(number, bitLength);
+        return this;
     }
 
     public CellBuilder storeUintMaybe(long number, int bitLength) {
-        return storeUintMaybe(BigInteger.valueOf(number), bitLength);
+        cell().bits.writeBit(true);
+        checkBitsOverflow(bitLength);
+        checkSign(number);
+        cell().bits.writeUint(number, bitLength);
+        return this;
     }
 
     public CellBuilder storeUint(int number, int bitLength) {
-        return storeUint(BigInteger.valueOf(number), bitLength);
+        return storeUint((long) number, bitLength);
     }
 
     public CellBuilder storeUintMaybe(int number, int bitLength) {
-        return storeUintMaybe(BigInteger.valueOf(number), bitLength);
+        return storeUintMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeUint(short number, int bitLength) {
-        return storeUint(BigInteger.valueOf(number), bitLength);
+        return storeUint((long) number, bitLength);
     }
 
     public CellBuilder storeUintMaybe(short number, int bitLength) {
-        return storeUintMaybe(BigInteger.valueOf(number), bitLength);
+        return storeUintMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeUint(Byte number, int bitLength) {
-        return storeUint(BigInteger.valueOf(number), bitLength);
+        return storeUint((long) number, bitLength);
     }
 
     public CellBuilder storeUintMaybe(Byte number, int bitLength) {
-        return storeUintMaybe(BigInteger.valueOf(number), bitLength);
+        if (isNull(number)) {
+            cell().bits.writeBit(false);
+            return this;
+        }
+        return storeUintMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeUint(String number, int bitLength) {
@@ -105,81 +169,96 @@ public class CellBuilder {
     public CellBuilder storeUint(BigInteger number, int bitLength) {
         checkBitsOverflow(bitLength);
         checkSign(number);
-        cell.bits.writeUint(isNull(number) ? BigInteger.ZERO : number, bitLength);
+        cell().bits.writeUint(isNull(number) ? BigInteger.ZERO : number, bitLength);
         return this;
     }
 
     public CellBuilder storeUintMaybe(BigInteger number, int bitLength) {
         if (isNull(number)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
+            cell().bits.writeBit(true);
             checkBitsOverflow(bitLength);
             checkSign(number);
-            cell.bits.writeUint(number, bitLength);
+            cell().bits.writeUint(number, bitLength);
         }
         return this;
     }
 
     public CellBuilder storeVarUint(BigInteger number, int bitLength) {
         checkSign(number);
-        cell.bits.writeVarUint(number, bitLength);
+        cell().bits.writeVarUint(number, bitLength);
         return this;
     }
 
     public CellBuilder storeVarUint(Byte number, int bitLength) {
         checkSign(BigInteger.valueOf(number));
-        cell.bits.writeVarUint(BigInteger.valueOf(number), bitLength);
+        cell().bits.writeVarUint(BigInteger.valueOf(number), bitLength);
         return this;
     }
 
     public CellBuilder storeVarUintMaybe(BigInteger number, int bitLength) {
         if (isNull(number)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
+            cell().bits.writeBit(true);
             checkSign(number);
-            cell.bits.writeVarUint(number, bitLength);
+            cell().bits.writeVarUint(number, bitLength);
         }
         return this;
     }
 
     public CellBuilder storeInt(long number, int bitLength) {
-        return storeInt(BigInteger.valueOf(number), bitLength);
+        if ((bitLength < 1) || (bitLength > 64)) {
+            return storeInt(BigInteger.valueOf(number), bitLength);
+        }
+        if (bitLength < 64) {
+            long sint = 1L << (bitLength - 1);
+            if ((number < -sint) || (number >= sint)) {
+                throw new Error("Can't store an Int, because its value allocates more space than provided.");
+            }
+        }
+        cell().bits.writeInt(number, bitLength);
+        return this;
     }
 
     public CellBuilder storeIntMaybe(long number, int bitLength) {
-        return storeIntMaybe(BigInteger.valueOf(number), bitLength);
+        cell().bits.writeBit(true);
+        cell().bits.writeInt(number, bitLength);
+        return this;
     }
 
     public CellBuilder storeInt(int number, int bitLength) {
-        return storeInt(BigInteger.valueOf(number), bitLength);
+        return storeInt((long) number, bitLength);
     }
 
     public CellBuilder storeIntMaybe(int number, int bitLength) {
-        return storeIntMaybe(BigInteger.valueOf(number), bitLength);
+        return storeIntMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeInt(short number, int bitLength) {
-        return storeInt(BigInteger.valueOf(number), bitLength);
+        return storeInt((long) number, bitLength);
     }
 
     public CellBuilder storeIntMaybe(short number, int bitLength) {
-        return storeIntMaybe(BigInteger.valueOf(number), bitLength);
+        return storeIntMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeInt(byte number, int bitLength) {
-        return storeInt(BigInteger.valueOf(number), bitLength);
+        return storeInt((long) number, bitLength);
     }
 
     public CellBuilder storeIntMaybe(byte number, int bitLength) {
-        return storeIntMaybe(BigInteger.valueOf(number), bitLength);
+        return storeIntMaybe((long) number, bitLength);
     }
 
     public CellBuilder storeInt(BigInteger number, int bitLength) {
+        if ((bitLength >= 1) && (bitLength <= 64) && (number.bitLength() < 64)) {
+            return storeInt(number.longValue(), bitLength);
+        }
         BigInteger sint = BigInteger.ONE.shiftLeft(bitLength - 1);
         if ((number.compareTo(sint.negate()) >= 0) && (number.compareTo(sint) < 0)) {
-            cell.bits.writeInt(number, bitLength);
+            cell().bits.writeInt(number, bitLength);
             return this;
         } else {
             throw new Error("Can't store an Int, because its value allocates more space than provided.");
@@ -188,33 +267,33 @@ public class CellBuilder {
 
     public CellBuilder storeIntMaybe(BigInteger number, int bitLength) {
         if (isNull(number)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
-            cell.bits.writeInt(number, bitLength);
+            cell().bits.writeBit(true);
+            cell().bits.writeInt(number, bitLength);
         }
         return this;
     }
 
     public CellBuilder storeBitString(BitString bitString) {
         checkBitsOverflow(bitString.getUsedBits());
-        cell.bits.writeBitString(bitString.clone());
+        cell().bits.writeBitString(bitString.clone());
         return this;
     }
 
     public CellBuilder storeBitStringUnsafe(BitString bitString) {
-        cell.bits.writeBitString(bitString.clone());
+        cell().bits.writeBitString(bitString.clone());
         return this;
     }
 
     public CellBuilder storeString(String str) {
         checkBitsOverflow(str.length() * 8);
-        cell.bits.writeString(str);
+        cell().bits.writeString(str);
         return this;
     }
 
     public CellBuilder storeSnakeString(String str) {
-        byte[] strBytes = str.getBytes();
+        byte[] strBytes = str.getBytes(StandardCharsets.UTF_8);
         Cell c = f(127 - 4, strBytes);
         return this.storeSlice(CellSlice.beginParse(c));
     }
@@ -238,26 +317,26 @@ public class CellBuilder {
 
     public CellBuilder storeAddress(Address address) {
         checkBitsOverflow(267);
-        cell.bits.writeAddress(address);
+        cell().bits.writeAddress(address);
         return this;
     }
 
     public CellBuilder storeBytes(byte[] number) {
         checkBitsOverflow(number.length * 8);
-        cell.bits.writeBytes(number);
+        cell().bits.writeBytes(number);
         return this;
     }
 
     public CellBuilder storeBytes(int[] number) {
         checkBitsOverflow(number.length * 8);
-        cell.bits.writeBytes(number);
+        cell().bits.writeBytes(number);
         return this;
     }
 
     public CellBuilder storeBytes(List<Byte> bytes) {
         checkBitsOverflow(bytes.size() * 8);
         for (Byte b : bytes) {
-            cell.bits.writeUint8(b);
+            cell().bits.writeUint8(b);
         }
         return this;
     }
@@ -265,36 +344,36 @@ public class CellBuilder {
     public CellBuilder storeList(List<BigInteger> bytes, int bitLength) {
         checkBitsOverflow(bitLength);
         for (BigInteger b : bytes) {
-            cell.bits.writeUint(b, bitLength);
+            cell().bits.writeUint(b, bitLength);
         }
         return this;
     }
 
     public CellBuilder storeBytes(byte[] number, int bitLength) {
         checkBitsOverflow(bitLength);
-        cell.bits.writeBytes(number);
+        cell().bits.writeBytes(number);
         return this;
     }
 
     public CellBuilder storeBytes(int[] number, int bitLength) {
         checkBitsOverflow(bitLength);
-        cell.bits.writeBytes(number);
+        cell().bits.writeBytes(number);
         return this;
     }
 
     public CellBuilder storeRef(Cell c) {
         checkRefsOverflow(1);
-        cell.refs.add(c.clone());
+        storeRefCell(c);
         return this;
     }
 
     public CellBuilder storeRefMaybe(Cell c) {
         if (isNull(c)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
+            cell().bits.writeBit(true);
             checkRefsOverflow(1);
-            cell.refs.add(c.clone());
+            storeRefCell(c);
         }
         return this;
     }
@@ -302,7 +381,7 @@ public class CellBuilder {
     public CellBuilder storeRefs(List<Cell> cells) {
         checkRefsOverflow(cells.size());
         for (Cell c : cells) {
-            cell.refs.add(c.clone());
+            storeRefCell(c);
         }
         return this;
     }
@@ -310,7 +389,7 @@ public class CellBuilder {
     public CellBuilder storeRefs(Cell... cells) {
         checkRefsOverflow(cells.length);
         for (Cell c : cells) {
-            cell.refs.add(c.clone());
+            storeRefCell(c);
         }
         return this;
     }
@@ -321,7 +400,7 @@ public class CellBuilder {
 
         storeBitString(cellSlice.bits);
         for (Cell c : cellSlice.refs) {
-            cell.refs.add(c.clone());
+            storeRefCell(c);
         }
         return this;
     }
@@ -332,21 +411,21 @@ public class CellBuilder {
             return this;
         }
         checkBitsOverflow(c.bits.getUsedBits());
-        checkRefsOverflow(c.refs.size());
+        checkRefsOverflow(c.refs().length);
 
         storeBitString(c.bits);
-        for (Cell cc : c.refs) {
-            cell.refs.add(cc.clone());
+        for (Cell cc : c.refs()) {
+            storeRefCell(cc);
         }
         return this;
     }
 
     public CellBuilder storeCellMaybe(Cell c) {
         if (isNull(c)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
-            storeCell(c.clone());
+            cell().bits.writeBit(true);
+            storeCell(c);
         }
         return this;
     }
@@ -363,7 +442,19 @@ public class CellBuilder {
      * @return CellBuilder
      */
     public CellBuilder storeCoins(BigInteger coins) {
-        cell.bits.writeCoins(isNull(coins) ? BigInteger.ZERO : coins);
+        cell().bits.writeCoins(isNull(coins) ? BigInteger.ZERO : coins);
+        return this;
+    }
+
+    /**
+     * Stores up to 2^63-1 nano-coins in Cell
+     *
+     * @param coins amount in nano-coins
+     * @return CellBuilder
+     */
+    public CellBuilder storeCoins(long coins) {
+        checkBitsOverflow(4 + (64 - Long.numberOfLeadingZeros(coins) + 7) / 8 * 8);
+        cell().bits.writeCoins(coins);
         return this;
     }
 
@@ -375,10 +466,10 @@ public class CellBuilder {
      */
     public CellBuilder storeCoinsMaybe(BigInteger coins) {
         if (isNull(coins)) {
-            cell.bits.writeBit(false);
+            cell().bits.writeBit(false);
         } else {
-            cell.bits.writeBit(true);
-            cell.bits.writeCoins(coins);
+            cell().bits.writeBit(true);
+            cell().bits.writeCoins(coins);
         }
         return this;
     }
@@ -411,9 +502,15 @@ public class CellBuilder {
         }
     }
 
+    void checkSign(long i) {
+        if (i < 0) {
+            throw new Error("Integer " + i + " must be unsigned");
+        }
+    }
+
     void checkRefsOverflow(int count) {
-        if (count > (4 - cell.refs.size())) {
-            throw new Error("Refs overflow. Can't add " + count + " cell.refs. " + (4 - cell.refs.size()) + " refs left.");
+        if (count > (4 - cell.refs.length)) {
+            throw new Error("Refs overflow. Can't add " + count + " cell.refs. " + (4 - cell.refs.length) + " refs left.");
         }
     }
 
@@ -0,0 +1,55 @@
+package org.ton.java.cell;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Per-thread SHA-256 digest together with a buffer for cell representation, both reused for every hashed cell.
+ */
+final class CellHasher {
+
+    /**
+     * d1 + d2 + 128 bytes of data + 4 refs * (2 bytes of depth + 32 bytes of hash)
+     */
+    static final int MAX_REPRESENTATION_SIZE = 2 + 128 + 4 * (2 + 32);
+
+    private static final ThreadLocal<CellHasher> HASHERS = ThreadLocal.withInitial(CellHasher::new);
+
+    private final MessageDigest digest;
+    private byte[] buffer = new byte[MAX_REPRESENTATION_SIZE];
+
+    private CellHasher() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new Error("SHA-256 is not available", e);
+        }
+    }
+
+    static CellHasher get() {
+        return HASHERS.get();
+    }
+
+    /**
+     * Returns buffer of at least size bytes. Cells built over 1023 bits do not fit into the default one.
+     */
+    byte[] buffer(int size) {
+        if (size > buffer.length) {
+            buffer = new byte[size];
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes sha256 of the first length bytes of the buffer into dst at offset
+     */
+    void hash(int length, byte[] dst, int offset) {
+        digest.update(buffer, 0, length);
+        try {
+            digest.digest(dst, offset, 32);
+        } catch (DigestException e) {
+            throw new Error("Cannot calculate cell hash", e);
+        }
+    }
+}
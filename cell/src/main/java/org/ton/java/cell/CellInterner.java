@@ -0,0 +1,213 @@
+package org.ton.java.cell;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps canonical instances of cells keyed by representation hash, so that equal subtrees
+ * deserialized or built many times are kept in memory only once.
+ * <p>
+ * Interned cells are shared between all their users, like all cells returned by CellBuilder and BoC.
+ */
+public class CellInterner {
+
+    private final Map<HashKey, Object> cells;
+    private final ReferenceQueue<Cell> queue;
+
+    private long hits;
+    private long misses;
+    private long bytesSaved;
+
+    private CellInterner(Map<HashKey, Object> cells, ReferenceQueue<Cell> queue) {
+        this.cells = cells;
+        this.queue = queue;
+    }
+
+    /**
+     * Creates interner which keeps a cell as long as it is referenced from somewhere else
+     */
+    public static CellInterner weak() {
+        return new CellInterner(new HashMap<>(), new ReferenceQueue<>());
+    }
+
+    /**
+     * Creates interner which keeps up to maxCells most recently used cells
+     */
+    public static CellInterner lru(int maxCells) {
+        if (maxCells < 1) {
+            throw new Error("maxCells must be positive, got " + maxCells);
+        }
+        return new CellInterner(new LinkedHashMap<HashKey, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HashKey, Object> eldest) {
+                return size() > maxCells;
+            }
+        }, null);
+    }
+
+    /**
+     * Returns canonical instance of the cell, the cell itself becomes canonical if no equal cell is known.
+     * References of the cell are not interned, see internTree().
+     *
+     * @param cell Cell
+     * @return Cell equal to the given one
+     */
+    public synchronized Cell intern(Cell cell) {
+        expunge();
+        HashKey key = new HashKey(cell.getHash());
+        Cell canonical = get(key);
+        if (canonical == null) {
+            misses++;
+            cells.put(key, isNull(queue) ? cell : new CellReference(cell, key, queue));
+            return cell;
+        }
+        if (canonical != cell) {
+            hits++;
+            bytesSaved += cell.bits.getUsedBytes() + (32L + 2) * (cell.getLevelMask().getHashIndex() + 1);
+        }
+        return canonical;
+    }
+
+    /**
+     * Interns the cell and all cells it references bottom-up. The given tree is not modified:
+     * a cell which refs are replaced with canonical instances is interned as a new cell with these refs.
+     *
+     * @param root Cell
+     * @return canonical instance of root
+     */
+    public synchronized Cell internTree(Cell root) {
+        Map<Cell, Cell> canonical = new IdentityHashMap<>();
+        Deque<Cell> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Cell c = stack.peek();
+            if (canonical.containsKey(c)) {
+                stack.pop();
+                continue;
+            }
+            Cell known = get(new HashKey(c.getHash()));
+            if (known != null) {
+                // canonical instance already references canonical cells, the subtree of c is not needed
+                canonical.put(c, intern(c));
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            Cell[] refs = c.refs();
+            for (Cell r : refs) {
+                if (!canonical.containsKey(r)) {
+                    stack.push(r);
+                    ready = false;
+                }
+            }
+            if (!ready) {
+                continue;
+            }
+            stack.pop();
+            Cell[] canonicalRefs = null;
+            for (int i = 0; i < refs.length; i++) {
+                Cell r = canonical.get(refs[i]);
+                if (r != refs[i]) {
+                    if (canonicalRefs == null) {
+                        canonicalRefs = refs.clone();
+                    }
+                    canonicalRefs[i] = r;
+                }
+            }
+            // the given cells are never modified, a cell with replaced refs becomes canonical as a new copy
+            Cell interned = (canonicalRefs == null) ? c : c.withRefs(canonicalRefs);
+            canonical.put(c, intern(interned));
+        }
+        return canonical.get(root);
+    }
+
+    /**
+     * @return number of cells replaced with already known canonical instances
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of cells which became canonical
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return bytes of cell data, hashes and depths not kept in memory thanks to replaced cells
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * @return number of canonical cells currently known
+     */
+    public synchronized int size() {
+        expunge();
+        return cells.size();
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        hits = 0;
+        misses = 0;
+        bytesSaved = 0;
+    }
+
+    private Cell get(HashKey key) {
+        Object value = cells.get(key);
+        if (value instanceof CellReference) {
+            return ((CellReference) value).get();
+        }
+        return (Cell) value;
+    }
+
+    private void expunge() {
+        if (isNull(queue)) {
+            return;
+        }
+        Reference<? extends Cell> ref;
+        while ((ref = queue.poll()) != null) {
+            HashKey key = ((CellReference) ref).key;
+            if (cells.get(key) == ref) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static final class CellReference extends WeakReference<Cell> {
+        private final HashKey key;
+
+        CellReference(Cell cell, HashKey key, ReferenceQueue<Cell> queue) {
+            super(cell, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class HashKey {
+        private final byte[] hash;
+        private final int hashCode;
+
+        HashKey(byte[] hash) {
+            this.hash = hash;
+            this.hashCode = ((hash[0] & 0xFF) << 24) | ((hash[1] & 0xFF) << 16) | ((hash[2] & 0xFF) << 8) | (hash[3] & 0xFF);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof HashKey) && Arrays.equals(hash, ((HashKey) o).hash);
+        }
+    }
+}
@@ -5,10 +5,11 @@ import org.ton.java.address.Address;
 import org.ton.java.bitstring.BitString;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 
@@ -27,9 +28,9 @@ public class CellSlice {
         this.refs = new ArrayList<>(refs);
     }
 
-    private CellSlice(BitString bits, List<Cell> refs, CellType cellType) {
+    private CellSlice(BitString bits, Cell[] refs, CellType cellType) {
         this.bits = bits.clone();
-        this.refs = new ArrayList<>(refs);
+        this.refs = new ArrayList<>(Arrays.asList(refs));
         this.type = cellType;
     }
 
@@ -38,7 +39,7 @@ public class CellSlice {
     }
 
     public static CellSlice beginParse(Cell cell) {
-        return new CellSlice(cell.getBits(), cell.refs, cell.type);
+        return new CellSlice(cell.bits, cell.refs(), cell.getType());
     }
 
     public static CellSlice beginParse(Object cell) {
@@ -172,6 +173,37 @@ public class CellSlice {
         return x;
     }
 
+    /**
+     * Loads HashMap with keys of up to 64 bits, the rest of the slice is the root edge
+     *
+     * @param n           - dict key size
+     * @param valueParser - value deserializor
+     * @return TonLongHashMap - dict
+     */
+    public TonLongHashMap loadDictLong(int n, Function<Cell, Object> valueParser) {
+        TonLongHashMap x = new TonLongHashMap(n);
+        x.deserialize(sliceToCell(), valueParser);
+        bits.skipBits(bits.getUsedBits());
+        refs.clear();
+        return x;
+    }
+
+    /**
+     * Loads HashMapE with keys of up to 64 bits
+     *
+     * @param n           - dict key size
+     * @param valueParser - value deserializor
+     * @return TonLongHashMapE - dict
+     */
+    public TonLongHashMapE loadDictLongE(int n, Function<Cell, Object> valueParser) {
+        TonLongHashMapE x = new TonLongHashMapE(n);
+        Cell root = loadMaybeRefX();
+        if (root != null) {
+            x.deserialize(root, valueParser);
+        }
+        return x;
+    }
+
     /**
      * Returns only value and extra of all edges, without extras of fork-nodes.
      */
@@ -200,6 +232,25 @@ public class CellSlice {
         }
     }
 
+    /**
+     * Loads HashMapE splitting it at forks of the first splitDepth levels into subtrees,
+     * which are loaded and parsed in parallel in the common ForkJoinPool. Parsers must be thread-safe.
+     *
+     * @param n           - dict key size
+     * @param keyParser   - key deserializor
+     * @param valueParser - value deserializor
+     * @param splitDepth  - number of fork levels to split at, up to 2^splitDepth subtrees, 0 to load in the current thread
+     * @return TonHashMapE - dict
+     */
+    public TonHashMapE loadDictE(int n, Function<BitString, Object> keyParser, Function<Cell, Object> valueParser, int splitDepth) {
+        TonHashMapE hashMap = new TonHashMapE(n);
+        Cell root = loadMaybeRefX();
+        if (root != null) {
+            hashMap.deserialize(root, keyParser, valueParser, splitDepth);
+        }
+        return hashMap;
+    }
+
     /**
      * Returns only value and extra of all edges, without extras of fork-nodes.
      */
@@ -217,6 +268,22 @@ public class CellSlice {
         }
     }
 
+    /**
+     * Loads HashMapAugE splitting it into subtrees, which are loaded and parsed in parallel, see loadDictE().
+     * Returns only value and extra of all edges, without extras of fork-nodes.
+     */
+    public TonHashMapAugE loadDictAugE(int n, Function<BitString, Object> keyParser, Function<CellSlice, Object> valueParser, Function<CellSlice, Object> extraParser, int splitDepth) {
+        TonHashMapAugE hashMap = new TonHashMapAugE(n);
+        if (this.isExotic()) {
+            return hashMap;
+        }
+        Cell root = loadMaybeRefX();
+        if (root != null) {
+            hashMap.deserialize(root, keyParser, valueParser, extraParser, splitDepth);
+        }
+        return hashMap;
+    }
+
     public TonPfxHashMap loadDictPfx(int n, Function<BitString, Object> keyParser, Function<Cell, Object> valueParser) {
         TonPfxHashMap x = new TonPfxHashMap(n);
         x.deserialize(this, keyParser, valueParser);
@@ -297,9 +364,7 @@ public class CellSlice {
 
     public boolean preloadBitAt(int position) {
         checkBitsOverflow(position);
-        BitString cloned = clone().bits;
-        cloned.readBits(position - 1);
-        return cloned.readBit();
+        return bits.prereadBit(position - 1);
     }
 
     public int getFreeBits() {
@@ -312,10 +377,7 @@ public class CellSlice {
 
     public CellSlice skipBits(int length) {
         checkBitsOverflow(length);
-        for (int i = 0; i < length; i++) {
-            bits.readBit();
-        }
-
+        bits.skipBits(length);
         return this;
     }
 
@@ -331,8 +393,7 @@ public class CellSlice {
      */
     public byte[] loadBytes(int length) {
         checkBitsOverflow(length);
-        BitString bitString = bits.readBits(length);
-        return bitString.toByteArray();
+        return bits.readBytes(length);
     }
 
     public List<BigInteger> loadList(int elementNum, int elementBitLength) {
@@ -360,115 +421,52 @@ public class CellSlice {
         return bitString.toSignedByteArray();
     }
 
+    /**
+     * @param length in bits
+     * @return unsigned byte array, last byte is padded with zeros
+     */
     public int[] loadSlice(int length) {
-        checkBitsOverflow(length);
-
-        int leftLength = length;
-        int unusedBits = 0;
-        int l = bits.getFreeBits() % 8;
-
-        if (l > 0 && bits.getLength() > 0) {
-            unusedBits = 8 - (l % 8);
-        }
-
-        List<Integer> loadedData = new ArrayList<>();
-
-        int oneMoreLeft = 0, oneMoreRight = 0;
-
-        if (unusedBits > 0 && length > unusedBits) {
-            oneMoreLeft = 1;
+        byte[] bytes = loadBytes(length);
+        int[] result = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i] = bytes[i] & 0xFF;
         }
-
-        if ((length - unusedBits) % 8 != 0 || (length - unusedBits) == 0) {
-            oneMoreRight = 1;
-        }
-
-        int ln = (length - unusedBits) / 8 + oneMoreLeft + oneMoreRight;
-
-        int i = oneMoreLeft;
-
-        while (leftLength > 0) {
-            int b = 0;
-            if (oneMoreLeft > 0) {
-                b = bits.toByteArray()[i - 1] << (8 - unusedBits); // (byte)
-                if (i < ln) {
-                    b += bits.toByteArray()[i] >> unusedBits;
-                }
-            } else {
-                b = bits.toByteArray()[i] & 0xFF;
-                if (unusedBits > 0) {
-                    b <<= (8 - unusedBits);
-                }
-            }
-
-            if (leftLength < 8) {
-                loadedData.add(b & 0xFF);
-                break;
-            }
-
-            if (i < ln) {
-                b &= 0xFF;
-                loadedData.add(b);
-            }
-
-            leftLength -= 8;
-            i++;
-        }
-
-        if (length > unusedBits) {
-            int usedBytes = (length - unusedBits) / 8;
-            if (unusedBits > 0) {
-                usedBytes++;
-            }
-        }
-
-        bits.readBits(length);
-
-        return loadedData.stream().mapToInt(Integer::intValue).toArray();
+        return result;
     }
 
+    /**
+     * @param length in bits
+     * @return UTF-8 string
+     */
     public String loadString(int length) {
-        checkBitsOverflow(length);
-        BitString bitString = bits.readBits(length);
-        return new String(bitString.toByteArray());
+        return new String(loadBytes(length), StandardCharsets.UTF_8);
     }
 
     /**
-     * Loads the very long string data,  from the rest of the cell and nested refs
+     * Loads the very long string data,  from the rest of the cell and nested refs.
+     * Total length is found first, so bytes of all cells are copied once into one array and decoded as UTF-8.
      *
-     * @return String
+     * @return String or null if refs do not form a snake
      */
     public String loadSnakeString() {
-        List<Integer> result = new ArrayList<>();
-        checkBitsOverflow(bits.getLength()); // bitsLeft
-        CellSlice ref = this.clone();
-
-        while (nonNull(ref)) {
-            try {
-                BitString bitString = ref.loadBits(ref.bits.getLength());
-
-                int[] uintArray = bitString.toUintArray();
-                List<Integer> resultList = new ArrayList<>(uintArray.length);
-                for (int value : uintArray) {
-                    resultList.add(value);
-                }
-                result.addAll(resultList);
-
-                if (ref.refs.size() > 1) {
-                    throw new Error("more than one ref, it is not snake string");
-                }
-
-                if (ref.refs.size() == 1) {
-                    ref = CellSlice.beginParse(ref.loadRef());
-                    continue;
-                }
-            } catch (Throwable e) {
+        int size = bits.getUsedBytes();
+        if (refs.size() > 1) {
+            return null; // more than one ref, it is not snake string
+        }
+        Cell first = refs.isEmpty() ? null : refs.get(0);
+        for (Cell next = first; nonNull(next); next = next.refs().length == 0 ? null : next.refs()[0]) {
+            if (next.refs().length > 1) {
                 return null;
             }
-            ref = null;
+            size += next.bits.getUsedBytes();
         }
 
-        return result.stream().map(m -> new String(new byte[]{m.byteValue()})).collect(Collectors.joining());
+        byte[] result = new byte[size];
+        int pos = bits.toByteArray(result, 0);
+        for (Cell next = first; nonNull(next); next = next.refs().length == 0 ? null : next.refs()[0]) {
+            pos += next.bits.toByteArray(result, pos);
+        }
+        return new String(result, StandardCharsets.UTF_8);
     }
 
     public BitString loadBits(int length) {
@@ -499,32 +497,52 @@ public class CellSlice {
     public BigInteger loadUint(int length) {
         checkBitsOverflow(length);
         if (length == 0) return BigInteger.ZERO;
-        BitString i = loadBits(length);
-        return new BigInteger(i.toBitString(), 2);
+        return bits.readUint(length);
+    }
+
+    /**
+     * Loads unsigned integer of up to 64 bits without allocating BigInteger.
+     * Values of uint64 above Long.MAX_VALUE are returned as negative numbers.
+     */
+    public long loadUintLong(int length) {
+        checkBitsOverflow(length);
+        if (length == 0) return 0;
+        return bits.readUintLong(length);
+    }
+
+    /**
+     * Loads signed integer of up to 64 bits without allocating BigInteger.
+     */
+    public long loadIntLong(int length) {
+        checkBitsOverflow(length);
+        return bits.readIntLong(length);
+    }
+
+    /**
+     * Preloads unsigned integer of up to 64 bits without modifying the actual cell slice.
+     */
+    public long preloadUintLong(int length) {
+        checkBitsOverflow(length);
+        if (length == 0) return 0;
+        return bits.preReadUintLong(length);
+    }
+
+    /**
+     * Preloads signed integer of up to 64 bits without modifying the actual cell slice.
+     */
+    public long preloadIntLong(int length) {
+        long value = preloadUintLong(length);
+        return (value << (64 - length)) >> (64 - length);
     }
 
     public BigInteger preloadInt(int bitLength) {
-        BitString savedBits = bits.clone();
-        try {
-            BigInteger result = loadInt(bitLength);
-            bits = savedBits;
-            return result;
-        } catch (Throwable e) {
-            bits = savedBits;
-            throw e;
-        }
+        return bits.preReadInt(bitLength);
     }
 
     public BigInteger preloadUint(int bitLength) {
-        BitString savedBits = bits.clone();
-        try {
-            BigInteger result = loadUint(bitLength);
-            bits = savedBits;
-            return result;
-        } catch (Throwable e) {
-            bits = savedBits;
-            throw e;
-        }
+        checkBitsOverflow(bitLength);
+        if (bitLength == 0) return BigInteger.ZERO;
+        return bits.preReadUint(bitLength);
     }
 
     public BigInteger loadUintLEQ(BigInteger n) {
@@ -564,30 +582,23 @@ public class CellSlice {
      * nanograms$_ amount:(VarUInteger 16) = Grams;
      */
     public BigInteger loadCoins() {
-        BigInteger len = loadUint(4);
-        if (len.compareTo(BigInteger.ZERO) == 0) {
+        int len = (int) loadUintLong(4);
+        if (len == 0) {
             return BigInteger.ZERO;
         } else {
-            return loadUint(len.multiply(BigInteger.valueOf(8L)).intValue());
+            return loadUint(len * 8);
         }
     }
 
     public BigInteger preloadCoins() {
-        BitString savedBits = bits.clone();
-        try {
-            BigInteger len = loadUint(4);
-            if (len.compareTo(BigInteger.ZERO) == 0) {
-                bits = savedBits;
-                return BigInteger.ZERO;
-            } else {
-                BigInteger result = loadUint(len.multiply(BigInteger.valueOf(8L)).intValue());
-                bits = savedBits;
-                return result;
-            }
-        } catch (Throwable e) {
-            bits = savedBits;
-            throw e;
+        int len = (int) preloadUintLong(4);
+        if (len == 0) {
+            return BigInteger.ZERO;
         }
+        checkBitsOverflow(4 + len * 8);
+        BitString view = bits.clone();
+        view.skipBits(4);
+        return view.readUint(len * 8);
     }
 
     public BigInteger skipCoins() {
@@ -611,14 +622,13 @@ public class CellSlice {
     }
 
     public Address loadAddress() {
-        BigInteger i = preloadUint(2);
-        if (i.intValue() == 0) {
+        long i = preloadUintLong(2);
+        if (i == 0) {
             skipBits(2);
             return null;
         }
-        loadBits(2);
-        loadBits(1);
-        int workchain = loadInt(8).intValue();
+        skipBits(3);
+        int workchain = (int) loadIntLong(8);
         BigInteger hashPart = loadUint(256);
 
         String address = workchain + ":" + String.format("%64s", hashPart.toString(16)).replace(' ', '0');
@@ -0,0 +1,147 @@
+package org.ton.java.cell;
+
+import org.ton.java.tlb.types.SizeLimitsConfig;
+import org.ton.java.tlb.types.SizeLimitsConfigV1;
+import org.ton.java.tlb.types.SizeLimitsConfigV2;
+import org.ton.java.tlb.types.StorageUsed;
+import org.ton.java.tlb.types.StorageUsedShort;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Counts unique cells and bits of cell trees, like vm::CellStorageStat, to fill StorageUsed and StorageUsedShort
+ * or check size limits of messages and account states.
+ * <p>
+ * Cells are deduplicated by hash. Seen cells are kept between calls of addUsedStorage(), so a subtree counted once,
+ * e.g. code shared by several states, is skipped as a whole next time without walking it again.
+ * With limits set, counting stops as soon as they are exceeded, so oversized trees are not walked to the end.
+ * Max depth is taken from depths stored with cell hashes. Not thread-safe.
+ * <p>
+ * For example, CellStorageStat.forMessage(sizeLimits).addUsedStorage(msg, true) checks an outgoing message,
+ * where the root cell is not counted.
+ */
+public final class CellStorageStat {
+
+    private final long maxCells;
+    private final long maxBits;
+    private final Set<Cell> seen = new HashSet<>();
+    private long cells;
+    private long bits;
+    private int maxDepth;
+    private boolean limitExceeded;
+
+    public CellStorageStat() {
+        this(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxCells max number of unique cells
+     * @param maxBits  max number of bits of unique cells
+     */
+    public CellStorageStat(long maxCells, long maxBits) {
+        this.maxCells = maxCells;
+        this.maxBits = maxBits;
+    }
+
+    /**
+     * With max_msg_cells and max_msg_bits limits of config param 43
+     */
+    public static CellStorageStat forMessage(SizeLimitsConfig sizeLimits) {
+        if (sizeLimits instanceof SizeLimitsConfigV2) {
+            SizeLimitsConfigV2 limits = (SizeLimitsConfigV2) sizeLimits;
+            return new CellStorageStat(limits.getMaxMsgCells(), limits.getMaxMsgBits());
+        }
+        SizeLimitsConfigV1 limits = (SizeLimitsConfigV1) sizeLimits;
+        return new CellStorageStat(limits.getMaxMsgCells(), limits.getMaxMsgBits());
+    }
+
+    /**
+     * With max_acc_state_cells and max_acc_state_bits limits of config param 43, size_limits_config v1 has no such limits
+     */
+    public static CellStorageStat forAccountState(SizeLimitsConfig sizeLimits) {
+        if (sizeLimits instanceof SizeLimitsConfigV2) {
+            SizeLimitsConfigV2 limits = (SizeLimitsConfigV2) sizeLimits;
+            return new CellStorageStat(limits.getMaxAccStateCells(), limits.getMaxAccStateBits());
+        }
+        return new CellStorageStat();
+    }
+
+    /**
+     * Counts cells of the tree not seen before
+     *
+     * @return false if limits are exceeded
+     */
+    public boolean addUsedStorage(Cell root) {
+        return addUsedStorage(root, false);
+    }
+
+    /**
+     * Counts cells of the tree not seen before
+     *
+     * @param skipCountRoot do not count the root cell itself, e.g. for message forwarding fees
+     * @return false if limits are exceeded, counting is stopped then and counters are left incomplete
+     */
+    public boolean addUsedStorage(Cell root, boolean skipCountRoot) {
+        if (limitExceeded) {
+            return false;
+        }
+        if (root == null || seen.contains(root)) {
+            return true;
+        }
+        maxDepth = Math.max(maxDepth, root.getDepth());
+        return CellWalker.of(root).walk((cell, depth, index) -> {
+            if (!seen.add(cell)) {
+                return CellVisitor.Action.SKIP_REFS;
+            }
+            if (depth == 0 && skipCountRoot) {
+                return CellVisitor.Action.CONTINUE;
+            }
+            cells++;
+            bits += cell.bits.getUsedBits();
+            if (cells > maxCells || bits > maxBits) {
+                limitExceeded = true;
+                return CellVisitor.Action.STOP;
+            }
+            return CellVisitor.Action.CONTINUE;
+        });
+    }
+
+    public long getCells() {
+        return cells;
+    }
+
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * @return max depth of added trees
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+    /**
+     * public_cells are not tracked and set to zero
+     */
+    public StorageUsed toStorageUsed() {
+        return StorageUsed.builder()
+                .cellsUsed(BigInteger.valueOf(cells))
+                .bitsUsed(BigInteger.valueOf(bits))
+                .publicCellsUsed(BigInteger.ZERO)
+                .build();
+    }
+
+    public StorageUsedShort toStorageUsedShort() {
+        return StorageUsedShort.builder()
+                .cells(BigInteger.valueOf(cells))
+                .bits(BigInteger.valueOf(bits))
+                .build();
+    }
+}
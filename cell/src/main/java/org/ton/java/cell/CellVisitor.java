@@ -0,0 +1,30 @@
+package org.ton.java.cell;
+
+/**
+ * Callback of CellWalker, called once for every visited cell
+ */
+@FunctionalInterface
+public interface CellVisitor {
+
+    enum Action {
+        /**
+         * go on with the walk
+         */
+        CONTINUE,
+        /**
+         * do not descend into refs of the cell, has no effect in post-order
+         */
+        SKIP_REFS,
+        /**
+         * stop the walk
+         */
+        STOP
+    }
+
+    /**
+     * @param cell  visited cell
+     * @param depth number of refs from the root to the cell, 0 for the root
+     * @param index index of the cell in refs of its parent, -1 for the root
+     */
+    Action visit(Cell cell, int depth, int index);
+}
@@ -0,0 +1,198 @@
+package org.ton.java.cell;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Walks tree of cells with explicit stack or queue instead of recursion, so deep trees like long snake chains
+ * or dictionary paths do not overflow the call stack. Supports depth-first pre-order and post-order,
+ * breadth-first order, visiting cells shared by several parents once and stopping the walk by the visitor.
+ * <p>
+ * For example, CellWalker.of(root).unique().walk((cell, depth, index) -> CellVisitor.Action.CONTINUE)
+ * visits every unique cell of the BoC in pre-order. Refs are visited from the first one unless reversedRefs() is set.
+ */
+public final class CellWalker {
+
+    private enum Order {
+        PRE_ORDER, POST_ORDER, BREADTH_FIRST
+    }
+
+    private final Cell root;
+    private Order order = Order.PRE_ORDER;
+    private boolean unique;
+    private boolean reversedRefs;
+
+    private Cell[] cells = new Cell[16];
+    private int[] positions = new int[16];
+    private int[] indexes = new int[16];
+    private Set<Cell> visited;
+
+    private CellWalker(Cell root) {
+        this.root = root;
+    }
+
+    public static CellWalker of(Cell root) {
+        return new CellWalker(root);
+    }
+
+    /**
+     * Visits a cell before its refs, default order
+     */
+    public CellWalker preOrder() {
+        order = Order.PRE_ORDER;
+        return this;
+    }
+
+    /**
+     * Visits a cell after all its refs
+     */
+    public CellWalker postOrder() {
+        order = Order.POST_ORDER;
+        return this;
+    }
+
+    /**
+     * Visits cells level by level
+     */
+    public CellWalker breadthFirst() {
+        order = Order.BREADTH_FIRST;
+        return this;
+    }
+
+    /**
+     * Visits cells equal by hash once, at the first place they are reached
+     */
+    public CellWalker unique() {
+        unique = true;
+        return this;
+    }
+
+    /**
+     * Visits refs of a cell from the last one
+     */
+    public CellWalker reversedRefs() {
+        reversedRefs = true;
+        return this;
+    }
+
+    /**
+     * @return false if the walk was stopped by the visitor, true otherwise
+     */
+    public boolean walk(CellVisitor visitor) {
+        if (root == null) {
+            return true;
+        }
+        visited = unique ? new HashSet<>() : null;
+        if (unique) {
+            visited.add(root);
+        }
+        try {
+            return (order == Order.BREADTH_FIRST) ? walkBreadthFirst(visitor) : walkDepthFirst(visitor);
+        } finally {
+            Arrays.fill(cells, null);
+            visited = null;
+        }
+    }
+
+    /**
+     * Stack holds the path from the root, positions keep number of refs of every cell already taken
+     */
+    private boolean walkDepthFirst(CellVisitor visitor) {
+        boolean pre = order == Order.PRE_ORDER;
+        if (pre) {
+            CellVisitor.Action action = visitor.visit(root, 0, -1);
+            if (action != CellVisitor.Action.CONTINUE) {
+                return action != CellVisitor.Action.STOP;
+            }
+        }
+        int top = 0;
+        push(top++, root, -1);
+        while (top > 0) {
+            int depth = top - 1;
+            Cell cell = cells[depth];
+            int refCount = cell.refCount();
+            int taken = positions[depth];
+            if (taken == refCount) {
+                if (!pre && visitor.visit(cell, depth, indexes[depth]) == CellVisitor.Action.STOP) {
+                    return false;
+                }
+                cells[depth] = null;
+                top--;
+                continue;
+            }
+            positions[depth] = taken + 1;
+            int i = reversedRefs ? refCount - 1 - taken : taken;
+            Cell ref = cell.refAt(i);
+            if (ref == null || (unique && !visited.add(ref))) {
+                continue;
+            }
+            if (pre) {
+                CellVisitor.Action action = visitor.visit(ref, depth + 1, i);
+                if (action == CellVisitor.Action.STOP) {
+                    return false;
+                }
+                if (action == CellVisitor.Action.SKIP_REFS) {
+                    continue;
+                }
+            }
+            push(top++, ref, i);
+        }
+        return true;
+    }
+
+    /**
+     * Queue of cells to visit, positions keep depths of the cells
+     */
+    private boolean walkBreadthFirst(CellVisitor visitor) {
+        int head = 0;
+        int tail = 0;
+        push(tail++, root, -1);
+        positions[0] = 0;
+        while (head < tail) {
+            Cell cell = cells[head];
+            int depth = positions[head];
+            int index = indexes[head];
+            cells[head++] = null;
+            CellVisitor.Action action = visitor.visit(cell, depth, index);
+            if (action == CellVisitor.Action.STOP) {
+                return false;
+            }
+            if (action == CellVisitor.Action.SKIP_REFS) {
+                continue;
+            }
+            int refCount = cell.refCount();
+            for (int k = 0; k < refCount; k++) {
+                int i = reversedRefs ? refCount - 1 - k : k;
+                Cell ref = cell.refAt(i);
+                if (ref == null || (unique && !visited.add(ref))) {
+                    continue;
+                }
+                if (tail == cells.length && head > 0) {
+                    // move pending cells to the start instead of growing
+                    int pending = tail - head;
+                    System.arraycopy(cells, head, cells, 0, pending);
+                    System.arraycopy(positions, head, positions, 0, pending);
+                    System.arraycopy(indexes, head, indexes, 0, pending);
+                    Arrays.fill(cells, pending, tail, null);
+                    head = 0;
+                    tail = pending;
+                }
+                push(tail, ref, i);
+                positions[tail++] = depth + 1;
+            }
+        }
+        return true;
+    }
+
+    private void push(int at, Cell cell, int index) {
+        if (at == cells.length) {
+            cells = Arrays.copyOf(cells, at * 2);
+            positions = Arrays.copyOf(positions, at * 2);
+            indexes = Arrays.copyOf(indexes, at * 2);
+        }
+        cells[at] = cell;
+        positions[at] = 0;
+        indexes[at] = index;
+    }
+}
@@ -0,0 +1,274 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Copy-on-write updates of serialized augmented dictionary (HashmapAug), which keep fork extras up to date.
+ * <p>
+ * Like TonHashMap.set(), an update rebuilds only edges on the path to the key and shares all other subtrees.
+ * Extra of every rebuilt fork is calculated from the extras of its two edges, where the edge off the path
+ * is an old subtree, so only extras on the path are recalculated. Extras of subtrees are cached by cell hash,
+ * so extras of old subtrees are parsed once for a series of updates, and extras of rebuilt edges are never parsed.
+ * <p>
+ * For example, DepthBalanceInfo of ShardAccounts:
+ * new DictAugUpdater(256, DepthBalanceInfo::deserialize, (l, r) -> ...).set(root, address, extra, shardAccount).
+ * Not thread-safe.
+ */
+public final class DictAugUpdater {
+
+    private static final int DEFAULT_CACHE_SIZE = 1 << 16;
+
+    private final int keySize;
+    private final Function<CellSlice, Object> extraParser;
+    private final BinaryOperator<Cell> forkExtra;
+    private final Map<Cell, Cell> extras;
+
+    /**
+     * @param keySize     key size in bits
+     * @param extraParser loads extra from the slice, used only to find out where extra of an edge ends
+     * @param forkExtra   calculates extra of a fork from extras of left and right edges
+     */
+    public DictAugUpdater(int keySize, Function<CellSlice, Object> extraParser, BinaryOperator<Cell> forkExtra) {
+        this(keySize, extraParser, forkExtra, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize max number of cached extras, least recently used ones are evicted
+     */
+    public DictAugUpdater(int keySize, Function<CellSlice, Object> extraParser, BinaryOperator<Cell> forkExtra, int cacheSize) {
+        this.keySize = keySize;
+        this.extraParser = extraParser;
+        this.forkExtra = forkExtra;
+        this.extras = new LinkedHashMap<Cell, Cell>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Cell, Cell> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @param root root edge of the dictionary
+     * @return extra of the whole dictionary, e.g. to store in HashmapAugE
+     */
+    public Cell getExtra(Cell root) {
+        return extraOf(root, keySize);
+    }
+
+    /**
+     * Sets extra and value of the key and returns the new root, the given dictionary is not modified
+     *
+     * @param root  root edge of dictionary, or null for empty one
+     * @param key   key of keySize bits
+     * @param extra extra of the leaf
+     * @param value cell which bits and refs are stored in the leaf after extra
+     * @return root edge of the new dictionary
+     */
+    public Cell set(Cell root, BitString key, Cell extra, Cell value) {
+        TonHashMap.checkKey(keySize, key);
+        BitString rest = key.clone();
+        if (root == null) {
+            return leaf(rest, keySize, extra, value);
+        }
+        Path path = new Path(keySize);
+        Cell edge = root;
+        int m = keySize;
+        Cell updated;
+        Cell updatedExtra;
+        while (true) {
+            CellSlice cs = TonHashMap.beginEdge(edge);
+            BitString label = TonHashMap.loadLabel(cs, m);
+            int common = TonHashMap.commonPrefix(label, rest);
+            if (common < label.getUsedBits()) {
+                // split the edge into a fork of the old edge with shorter label and the new leaf
+                Cell oldExtra = extraOf(edge, cs.clone(), m - label.getUsedBits());
+                boolean oldBranch = label.prereadBit(common);
+                BitString oldLabel = label.clone();
+                oldLabel.skipBits(common + 1);
+                CellBuilder b = CellBuilder.beginCell();
+                TonHashMap.storeLabel(b, oldLabel, m - common - 1);
+                Cell oldEdge = cache(b.storeSlice(cs).endCell(), oldExtra);
+
+                BitString prefix = rest.readBits(common);
+                rest.skipBits(1);
+                Cell newLeaf = leaf(rest, m - common - 1, extra, value);
+                CellBuilder fork = CellBuilder.beginCell();
+                TonHashMap.storeLabel(fork, prefix, m);
+                updatedExtra = oldBranch ? forkExtra.apply(extra, oldExtra) : forkExtra.apply(oldExtra, extra);
+                updated = fork(fork, oldBranch ? newLeaf : oldEdge, oldBranch ? oldEdge : newLeaf, updatedExtra);
+                break;
+            }
+            rest.skipBits(common);
+            m -= common;
+            if (m == 0) {
+                updated = cache(TonHashMap.copyLabel(edge, cs).storeCell(extra).storeCell(value).endCell(), extra);
+                updatedExtra = extra;
+                break;
+            }
+            path.add(edge, cs, m, rest.readBit());
+            edge = edge.refAt(path.branches[path.depth - 1] ? 1 : 0);
+            m--;
+        }
+        return rebuild(path, updated, updatedExtra);
+    }
+
+    /**
+     * Deletes the key and returns the new root, the given dictionary is not modified
+     *
+     * @return root edge of the new dictionary, null if it became empty, or the given root if there is no such key
+     */
+    public Cell delete(Cell root, BitString key) {
+        TonHashMap.checkKey(keySize, key);
+        if (root == null) {
+            return null;
+        }
+        BitString rest = key.clone();
+        Path path = new Path(keySize);
+        BitString[] labels = new BitString[keySize];
+        int[] sizes = new int[keySize];
+        Cell edge = root;
+        int m = keySize;
+        while (true) {
+            CellSlice cs = TonHashMap.beginEdge(edge);
+            BitString label = TonHashMap.loadLabel(cs, m);
+            int common = TonHashMap.commonPrefix(label, rest);
+            if (common < label.getUsedBits()) {
+                return root;
+            }
+            rest.skipBits(common);
+            if (m == common) {
+                break;
+            }
+            labels[path.depth] = label;
+            sizes[path.depth] = m;
+            path.add(edge, cs, m - common, rest.readBit());
+            edge = edge.refAt(path.branches[path.depth - 1] ? 1 : 0);
+            m -= common + 1;
+        }
+        if (path.depth == 0) {
+            return null;
+        }
+        // the sibling of the leaf is merged into the parent edge and keeps its extra
+        int i = path.depth - 1;
+        boolean siblingBranch = !path.branches[i];
+        Cell siblingEdge = path.forks[i].refAt(siblingBranch ? 1 : 0);
+        CellSlice sibling = TonHashMap.beginEdge(siblingEdge);
+        int siblingSize = sizes[i] - labels[i].getUsedBits() - 1;
+        BitString siblingLabel = TonHashMap.loadLabel(sibling, siblingSize);
+        Cell siblingExtra = extraOf(siblingEdge, sibling.clone(), siblingSize - siblingLabel.getUsedBits());
+        BitString label = new BitString(sizes[i]);
+        label.writeBitString(labels[i].clone());
+        label.writeBit(siblingBranch);
+        label.writeBitString(siblingLabel);
+        CellBuilder merged = CellBuilder.beginCell();
+        TonHashMap.storeLabel(merged, label, sizes[i]);
+        path.depth--;
+        return rebuild(path, cache(merged.storeSlice(sibling).endCell(), siblingExtra), siblingExtra);
+    }
+
+    /**
+     * Forks on the path from the root, with encoded label and size of the rest of the key after the label
+     */
+    private static final class Path {
+        final Cell[] forks;
+        final CellBuilder[] labels;
+        final int[] rests;
+        final boolean[] branches;
+        int depth;
+
+        Path(int keySize) {
+            forks = new Cell[keySize];
+            labels = new CellBuilder[keySize];
+            rests = new int[keySize];
+            branches = new boolean[keySize];
+        }
+
+        void add(Cell fork, CellSlice cs, int rest, boolean branch) {
+            forks[depth] = fork;
+            labels[depth] = TonHashMap.copyLabel(fork, cs);
+            rests[depth] = rest;
+            branches[depth] = branch;
+            depth++;
+        }
+    }
+
+    /**
+     * Replaces the edge on the path in every fork from the bottom to the root, recalculating fork extras
+     */
+    private Cell rebuild(Path path, Cell updated, Cell updatedExtra) {
+        for (int i = path.depth - 1; i >= 0; i--) {
+            boolean branch = path.branches[i];
+            Cell sibling = path.forks[i].refAt(branch ? 0 : 1);
+            Cell siblingExtra = extraOf(sibling, path.rests[i] - 1);
+            updatedExtra = branch ? forkExtra.apply(siblingExtra, updatedExtra) : forkExtra.apply(updatedExtra, siblingExtra);
+            updated = fork(path.labels[i], branch ? sibling : updated, branch ? updated : sibling, updatedExtra);
+        }
+        return updated;
+    }
+
+    /**
+     * ahmn_fork#_ {n:#} {X:Type} {Y:Type} left:^(HashmapAug n X Y) right:^(HashmapAug n X Y) extra:Y = HashmapAugNode (n + 1) X Y;
+     */
+    private Cell fork(CellBuilder label, Cell left, Cell right, Cell extra) {
+        return cache(label.storeRef(left).storeRef(right).storeCell(extra).endCell(), extra);
+    }
+
+    /**
+     * ahmn_leaf#_ {X:Type} {Y:Type} extra:Y value:X = HashmapAugNode 0 X Y;
+     */
+    private Cell leaf(BitString label, int m, Cell extra, Cell value) {
+        CellBuilder b = CellBuilder.beginCell();
+        TonHashMap.storeLabel(b, label, m);
+        return cache(b.storeCell(extra).storeCell(value).endCell(), extra);
+    }
+
+    private Cell cache(Cell edge, Cell extra) {
+        extras.put(edge, extra);
+        return edge;
+    }
+
+    /**
+     * @param m max label length of the edge
+     */
+    private Cell extraOf(Cell edge, int m) {
+        Cell extra = extras.get(edge);
+        if (extra != null) {
+            return extra;
+        }
+        CellSlice cs = TonHashMap.beginEdge(edge);
+        BitString label = TonHashMap.loadLabel(cs, m);
+        return extraOf(edge, cs, m - label.getUsedBits());
+    }
+
+    /**
+     * Copies extra of the edge, which follows the label in both leaves and forks, with its refs after refs of a fork
+     *
+     * @param cs   slice of the edge right after the label, it is consumed
+     * @param rest key bits after the label
+     */
+    private Cell extraOf(Cell edge, CellSlice cs, int rest) {
+        Cell extra = extras.get(edge);
+        if (extra != null) {
+            return extra;
+        }
+        if (rest != 0) {
+            cs.skipRefs(2);
+        }
+        BitString bits = cs.bits.clone();
+        int refs = cs.getRefsCount();
+        CellSlice parsed = cs.clone();
+        extraParser.apply(parsed);
+        CellBuilder b = CellBuilder.beginCell().storeBitString(bits.readBits(bits.getUsedBits() - parsed.getRestBits()));
+        for (int i = 0; i < refs - parsed.getRefsCount(); i++) {
+            b.storeRef(cs.refs.get(i));
+        }
+        extra = b.endCell();
+        extras.put(edge, extra);
+        return extra;
+    }
+}
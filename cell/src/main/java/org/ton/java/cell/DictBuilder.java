@@ -0,0 +1,275 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Builds serialized dictionary from entries sorted by key in a single pass.
+ * <p>
+ * Every next key forks from the previous one at the length of their common prefix,
+ * so the trie is assembled on a stack of forks of the rightmost path, like a Cartesian tree.
+ * Each edge is serialized once, as soon as the edge it hangs from is known, so building takes
+ * O(n) cells and stack memory depends only on key size. Labels are written in the shortest form.
+ * <p>
+ * DictBuilder.beginDict(32).storeEntry(k1, v1).storeEntry(k2, v2).endDictE() gives the same dictionary
+ * as TonHashMapE with these entries, for augmented dictionaries use beginDictAug().
+ */
+public final class DictBuilder {
+
+    private final int keySize;
+    private final BinaryOperator<Cell> forkExtra;
+    private final CellBuilder builder = CellBuilder.beginCell();
+
+    /**
+     * rightmost path of the trie, forks at increasing depths followed by the last leaf.
+     * Depth of a fork is the position of its branch bit, depth of a leaf is keySize.
+     * A fork keeps its left edge, serialized with the label starting after the fork,
+     * and any key of its subtree to take labels from.
+     */
+    private final int[] depths;
+    private final BitString[] keys;
+    /**
+     * keys of up to 64 bits are kept as numbers instead of keys
+     */
+    private final long[] longKeys;
+    private final Cell[] lefts;
+    private final Cell[] values;
+    private final Cell[] extras;
+    private int size;
+    private int count;
+
+    private DictBuilder(int keySize, BinaryOperator<Cell> forkExtra) {
+        this.keySize = keySize;
+        this.forkExtra = forkExtra;
+        depths = new int[keySize + 1];
+        keys = (keySize > 64) ? new BitString[keySize + 1] : null;
+        longKeys = (keySize > 64) ? null : new long[keySize + 1];
+        lefts = new Cell[keySize + 1];
+        values = new Cell[keySize + 1];
+        extras = new Cell[keySize + 1];
+    }
+
+    /**
+     * @param keySize key size in bits
+     */
+    public static DictBuilder beginDict(int keySize) {
+        return new DictBuilder(keySize, null);
+    }
+
+    /**
+     * Builds HashmapAug, where leaves hold extra and value and forks hold extra calculated from extras of their children
+     *
+     * @param keySize   key size in bits
+     * @param forkExtra calculates extra of a fork from extras of left and right edges
+     */
+    public static DictBuilder beginDictAug(int keySize, BinaryOperator<Cell> forkExtra) {
+        return new DictBuilder(keySize, forkExtra);
+    }
+
+    /**
+     * Adds entry, keys must be added in ascending order
+     *
+     * @param key   key of keySize bits
+     * @param value cell which bits and refs are stored in the leaf
+     */
+    public DictBuilder storeEntry(BitString key, Cell value) {
+        if (forkExtra != null) {
+            throw new Error("Augmented dictionary requires extra of the entry");
+        }
+        return store(key, null, value);
+    }
+
+    /**
+     * Adds entry of augmented dictionary, keys must be added in ascending order
+     */
+    public DictBuilder storeEntry(BitString key, Cell extra, Cell value) {
+        if (forkExtra == null) {
+            throw new Error("Extra is supported only by augmented dictionary, see beginDictAug()");
+        }
+        return store(key, extra, value);
+    }
+
+    /**
+     * Adds entry with key of up to 64 bits, keys must be added in ascending order
+     *
+     * @param key   unsigned key, uint64 keys above Long.MAX_VALUE are passed as negative numbers
+     * @param value cell which bits and refs are stored in the leaf
+     */
+    public DictBuilder storeEntry(long key, Cell value) {
+        if (forkExtra != null) {
+            throw new Error("Augmented dictionary requires extra of the entry");
+        }
+        return store(key, null, value);
+    }
+
+    /**
+     * Adds entry of augmented dictionary with key of up to 64 bits, keys must be added in ascending order
+     */
+    public DictBuilder storeEntry(long key, Cell extra, Cell value) {
+        if (forkExtra == null) {
+            throw new Error("Extra is supported only by augmented dictionary, see beginDictAug()");
+        }
+        return store(key, extra, value);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return root edge of the dictionary, i.e. Hashmap cell, or null if no entries were added
+     */
+    public Cell endDict() {
+        if (size == 0) {
+            return null;
+        }
+        closeForks(-1);
+        Cell root = edge(0, 0);
+        size = 0;
+        return root;
+    }
+
+    /**
+     * @return HashmapE or HashmapAugE cell, for augmented dictionary with extra of the root
+     */
+    public Cell endDictE() {
+        if (size == 0) {
+            if (forkExtra != null) {
+                throw new Error("Empty HashmapAugE requires extra, use endDict()");
+            }
+            return CellBuilder.beginCell().storeBit(false).endCell();
+        }
+        closeForks(-1);
+        CellBuilder b = CellBuilder.beginCell().storeBit(true).storeRef(edge(0, 0));
+        if (forkExtra != null) {
+            // ahme_root$1 {n:#} {X:Type} {Y:Type} root:^(HashmapAug n X Y) extra:Y = HashmapAugE n X Y;
+            b.storeCell(extras[0]);
+        }
+        size = 0;
+        return b.endCell();
+    }
+
+    private DictBuilder store(BitString key, Cell extra, Cell value) {
+        if (key.getUsedBits() != keySize) {
+            throw new Error("Key should be " + keySize + " bits long, got " + key.getUsedBits());
+        }
+        if (longKeys != null) {
+            return store((keySize == 0) ? 0 : key.preReadUintLong(keySize), extra, value);
+        }
+        if (size > 0) {
+            int fork = commonPrefix(keys[size - 1], key);
+            if (fork == keySize || !key.prereadBit(fork)) {
+                throw new Error("Keys must be unique and sorted in ascending order");
+            }
+            fork(fork);
+        }
+        keys[size] = key.clone();
+        return push(extra, value);
+    }
+
+    private DictBuilder store(long key, Cell extra, Cell value) {
+        if (longKeys == null) {
+            throw new Error("Key should be " + keySize + " bits long, got 64");
+        }
+        if (keySize < 64 && (key >>> keySize) != 0) {
+            throw new Error("Key " + key + " does not fit into " + keySize + " bits");
+        }
+        if (size > 0) {
+            long diff = longKeys[size - 1] ^ key;
+            int fork = (diff == 0) ? keySize : Long.numberOfLeadingZeros(diff) - (64 - keySize);
+            if (fork == keySize || ((key >>> (keySize - 1 - fork)) & 1) == 0) {
+                throw new Error("Keys must be unique and sorted in ascending order");
+            }
+            fork(fork);
+        }
+        longKeys[size] = key;
+        return push(extra, value);
+    }
+
+    /**
+     * Closes the path below the fork, the closed subtree becomes the left edge of the new fork
+     * and its extra is kept as extra of the left edge
+     */
+    private void fork(int fork) {
+        int top = closeForks(fork);
+        lefts[top] = edge(top, fork + 1);
+        depths[top] = fork;
+        values[top] = null;
+        size = top + 1;
+    }
+
+    private DictBuilder push(Cell extra, Cell value) {
+        depths[size] = keySize;
+        values[size] = value;
+        extras[size] = extra;
+        lefts[size] = null;
+        size++;
+        count++;
+        return this;
+    }
+
+    /**
+     * Attaches the path entries deeper than the given depth as right edges of their parents
+     *
+     * @return index of the topmost closed entry, it becomes the last one on the path
+     */
+    private int closeForks(int depth) {
+        int i = size - 1;
+        while (i > 0 && depths[i - 1] > depth) {
+            Cell right = edge(i, depths[i - 1] + 1);
+            Cell rightExtra = extras[i];
+            i--;
+            values[i] = right;
+            if (forkExtra != null) {
+                extras[i] = forkExtra.apply(extras[i], rightExtra);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Serializes path entry as an edge with the label starting at the given key position.
+     * Forks hold left edge in lefts and right edge in values once they are closed.
+     */
+    private Cell edge(int i, int labelStart) {
+        int length = depths[i] - labelStart;
+        if (longKeys != null) {
+            long label = (length == 0) ? 0 : (longKeys[i] >>> (keySize - depths[i])) & (-1L >>> (64 - length));
+            TonHashMap.storeLabel(builder, label, length, keySize - labelStart);
+        } else {
+            BitString label = keys[i].clone();
+            label.skipBits(labelStart);
+            TonHashMap.storeLabel(builder, label.readBits(length), keySize - labelStart);
+        }
+        if (depths[i] == keySize) {
+            // ahmn_leaf#_ {X:Type} {Y:Type} extra:Y value:X = HashmapAugNode 0 X Y;
+            builder.storeCell(extras[i]);
+            builder.storeCell(values[i]);
+        } else {
+            // ahmn_fork#_ {n:#} {X:Type} {Y:Type} left:^(HashmapAug n X Y) right:^(HashmapAug n X Y) extra:Y = HashmapAugNode (n + 1) X Y;
+            builder.storeRef(lefts[i]);
+            builder.storeRef(values[i]);
+            builder.storeCell(extras[i]);
+        }
+        Cell cell = builder.endCell();
+        builder.reset();
+        return cell;
+    }
+
+    /**
+     * Length of common prefix of keySize bits keys, compared by 64-bit words
+     */
+    private int commonPrefix(BitString a, BitString b) {
+        BitString x = a.clone();
+        BitString y = b.clone();
+        for (int pos = 0; pos < keySize; pos += 64) {
+            int n = Math.min(64, keySize - pos);
+            long diff = x.readUintLong(n) ^ y.readUintLong(n);
+            if (diff != 0) {
+                return pos + Long.numberOfLeadingZeros(diff) - (64 - n);
+            }
+        }
+        return keySize;
+    }
+}
@@ -0,0 +1,80 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Loads subtree of a dictionary, forking tasks for both edges of every fork of the first splitDepth levels.
+ * Results of the left edge go before results of the right one, so entries stay in key order.
+ *
+ * @param <V> type of parsed values
+ */
+final class DictDecodeTask<V> extends RecursiveTask<List<Map.Entry<Object, V>>> {
+
+    /**
+     * Loads all entries of the edge in the current thread
+     */
+    interface EdgeDecoder<V> {
+        void decode(Cell edge, BitString key, List<Map.Entry<Object, V>> out);
+    }
+
+    private final Cell edge;
+    private final BitString key;
+    private final int keySize;
+    private final int splitDepth;
+    private final EdgeDecoder<V> decoder;
+
+    private DictDecodeTask(Cell edge, BitString key, int keySize, int splitDepth, EdgeDecoder<V> decoder) {
+        this.edge = edge;
+        this.key = key;
+        this.keySize = keySize;
+        this.splitDepth = splitDepth;
+        this.decoder = decoder;
+    }
+
+    static <V> List<Map.Entry<Object, V>> invoke(Cell root, int keySize, int splitDepth, EdgeDecoder<V> decoder) {
+        DictDecodeTask<V> task = new DictDecodeTask<>(root, new BitString(keySize), keySize, splitDepth, decoder);
+        if (splitDepth <= 0) {
+            return task.compute();
+        }
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    @Override
+    protected List<Map.Entry<Object, V>> compute() {
+        if (splitDepth <= 0 || edge.getCellType() != CellType.ORDINARY) {
+            return decode();
+        }
+        CellSlice cs = CellSlice.beginParse(edge);
+        BitString forkKey = new BitString(keySize);
+        forkKey.writeBitString(key.clone());
+        forkKey.writeBitString(TonHashMap.loadLabel(cs, keySize - key.getUsedBits()));
+        if (forkKey.getUsedBits() == keySize) {
+            return decode();
+        }
+        BitString leftKey = forkKey.clone();
+        leftKey.writeBit(false);
+        BitString rightKey = forkKey.clone();
+        rightKey.writeBit(true);
+        DictDecodeTask<V> left = new DictDecodeTask<>(edge.refAt(0), leftKey, keySize, splitDepth - 1, decoder);
+        DictDecodeTask<V> right = new DictDecodeTask<>(edge.refAt(1), rightKey, keySize, splitDepth - 1, decoder);
+        left.fork();
+        List<Map.Entry<Object, V>> rightEntries = right.compute();
+        List<Map.Entry<Object, V>> entries = left.join();
+        entries.addAll(rightEntries);
+        return entries;
+    }
+
+    private List<Map.Entry<Object, V>> decode() {
+        List<Map.Entry<Object, V>> entries = new ArrayList<>();
+        BitString edgeKey = new BitString(keySize);
+        edgeKey.writeBitString(key.clone());
+        decoder.decode(edge, edgeKey, entries);
+        return entries;
+    }
+}
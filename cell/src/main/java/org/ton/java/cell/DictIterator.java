@@ -0,0 +1,410 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iterator over entries of serialized dictionary in key order, without deserializing the dictionary.
+ * Works with Hashmap and HashmapE (TonHashMap, TonHashMapE), HashmapAug and HashmapAugE (TonHashMapAug, TonHashMapAugE),
+ * where value slice starts with extra of the leaf, and PfxHashmap (TonPfxHashMap, TonPfxHashMapE), see ofPfx().
+ * Pruned branches of dictionaries in proofs are skipped.
+ * <p>
+ * The tree is walked with explicit stack of pending edges, so memory used by the iterator depends only on key size.
+ * Use it like DictIterator.of(root, 256).from(key).to(end) or DictIterator.of(root, 32).withPrefix(prefix).stream(),
+ * where root is Hashmap cell or the referenced cell of HashmapE, e.g. cs.loadMaybeRefX(), and may be null for empty dictionary.
+ * Scan bounds must be set before the first call to hasNext() or next().
+ */
+public final class DictIterator implements Iterator<DictIterator.Entry> {
+
+    /**
+     * Dictionary entry, value slice is positioned right after the key
+     */
+    public static final class Entry {
+        private final BitString key;
+        private final CellSlice value;
+
+        Entry(BitString key, CellSlice value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public BitString getKey() {
+            return key;
+        }
+
+        public CellSlice getValue() {
+            return value;
+        }
+    }
+
+    private final Cell root;
+    private final int keySize;
+    private final boolean pfx;
+    private boolean descending;
+    private BitString from;
+    private boolean fromInclusive;
+    private BitString to;
+    private BitString prefix;
+
+    /**
+     * bits of the current key, valid up to the position of the edge being read
+     */
+    private final boolean[] keyBits;
+    /**
+     * pending edges, stackPos is the key position where edge label starts,
+     * stackBit is the branch bit at stackPos - 1 to restore in keyBits, or -1 if keyBits are already set
+     */
+    private final Cell[] stackEdges;
+    private final int[] stackPos;
+    private final byte[] stackBit;
+    private int stackSize;
+    private boolean started;
+    private Entry next;
+
+    private DictIterator(Cell root, int keySize, boolean pfx) {
+        this.root = root;
+        this.keySize = keySize;
+        this.pfx = pfx;
+        keyBits = new boolean[keySize];
+        stackEdges = new Cell[keySize + 2];
+        stackPos = new int[keySize + 2];
+        stackBit = new byte[keySize + 2];
+    }
+
+    /**
+     * @param root    root edge of dictionary, or null for empty one
+     * @param keySize key size in bits
+     */
+    public static DictIterator of(Cell root, int keySize) {
+        return new DictIterator(root, keySize, false);
+    }
+
+    /**
+     * Iterates prefix dictionary, where keys have variable length of up to keySize bits
+     *
+     * @param root    root edge of dictionary, or null for empty one
+     * @param keySize max key size in bits
+     */
+    public static DictIterator ofPfx(Cell root, int keySize) {
+        return new DictIterator(root, keySize, true);
+    }
+
+    /**
+     * @return entry with the smallest key, or null if dictionary is empty
+     */
+    public static Entry min(Cell root, int keySize) {
+        return of(root, keySize).nextOrNull();
+    }
+
+    /**
+     * @return entry with the largest key, or null if dictionary is empty
+     */
+    public static Entry max(Cell root, int keySize) {
+        return of(root, keySize).descending().nextOrNull();
+    }
+
+    /**
+     * @return entry with the smallest key greater than the given key, or null if there is none
+     */
+    public static Entry nextAfter(Cell root, int keySize, BitString key) {
+        return of(root, keySize).after(key).nextOrNull();
+    }
+
+    /**
+     * Iterates from the largest key to the smallest one, bounds are not supported in this order
+     */
+    public DictIterator descending() {
+        checkNotStarted();
+        descending = true;
+        return this;
+    }
+
+    /**
+     * Starts from the given key inclusive
+     */
+    public DictIterator from(BitString key) {
+        return seek(key, true);
+    }
+
+    /**
+     * Starts from the key following the given one
+     */
+    public DictIterator after(BitString key) {
+        return seek(key, false);
+    }
+
+    /**
+     * Stops before the given key
+     */
+    public DictIterator to(BitString key) {
+        checkNotStarted();
+        to = key.clone();
+        return this;
+    }
+
+    /**
+     * Iterates only keys starting with the given bits
+     */
+    public DictIterator withPrefix(BitString bits) {
+        checkNotStarted();
+        prefix = bits.clone();
+        return this;
+    }
+
+    public Stream<Entry> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Spliterator<Entry> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            start();
+        }
+        if (next == null) {
+            next = advance();
+            if (next != null && to != null && compare(next.key, to) >= 0) {
+                next = null;
+                stackSize = 0;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Entry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Entry entry = next;
+        next = null;
+        return entry;
+    }
+
+    private Entry nextOrNull() {
+        return hasNext() ? next() : null;
+    }
+
+    private DictIterator seek(BitString key, boolean inclusive) {
+        checkNotStarted();
+        from = key.clone();
+        fromInclusive = inclusive;
+        return this;
+    }
+
+    private void checkNotStarted() {
+        if (started) {
+            throw new Error("DictIterator is already started");
+        }
+    }
+
+    private void start() {
+        started = true;
+        if (root == null) {
+            return;
+        }
+        if (descending && (from != null || to != null || prefix != null)) {
+            throw new Error("Bounds are not supported in descending order");
+        }
+        if (prefix != null && from != null) {
+            throw new Error("Prefix and lower bound cannot be combined, use from() and to() instead");
+        }
+        if (prefix != null) {
+            startPrefix();
+        } else if (from != null) {
+            startFrom();
+        } else {
+            push(root, 0, -1);
+        }
+    }
+
+    /**
+     * Descends along the prefix until it is exhausted, then the whole subtree matches it
+     */
+    private void startPrefix() {
+        int prefixLength = prefix.getUsedBits();
+        Cell edge = root;
+        int pos = 0;
+        while (true) {
+            if (edge.getCellType() != CellType.ORDINARY) {
+                return;
+            }
+            CellSlice cs = CellSlice.beginParse(edge);
+            int length = loadLabel(cs, pos);
+            for (int i = pos; i < pos + length && i < prefixLength; i++) {
+                if (keyBits[i] != prefix.prereadBit(i)) {
+                    return;
+                }
+            }
+            if (prefixLength <= pos + length) {
+                push(edge, pos, -1);
+                return;
+            }
+            pos += length;
+            if (isLeaf(cs, pos)) {
+                return;
+            }
+            boolean bit = prefix.prereadBit(pos);
+            keyBits[pos] = bit;
+            edge = edge.refAt(bit ? 1 : 0);
+            pos++;
+        }
+    }
+
+    /**
+     * Descends along the lower bound, pushing right siblings with greater keys
+     */
+    private void startFrom() {
+        int fromLength = from.getUsedBits();
+        Cell edge = root;
+        int pos = 0;
+        while (true) {
+            if (edge.getCellType() != CellType.ORDINARY) {
+                return;
+            }
+            CellSlice cs = CellSlice.beginParse(edge);
+            int length = loadLabel(cs, pos);
+            for (int i = pos; i < pos + length && i < fromLength; i++) {
+                boolean bit = from.prereadBit(i);
+                if (keyBits[i] != bit) {
+                    if (keyBits[i]) {
+                        push(edge, pos, -1);
+                    }
+                    return;
+                }
+            }
+            boolean leaf = (fromLength >= pos + length) && isLeaf(cs, pos + length);
+            if (fromLength <= pos + length) {
+                // all keys of the subtree start with the bound, only a leaf can be equal to it
+                if (!leaf || fromInclusive || fromLength < pos + length) {
+                    push(edge, pos, -1);
+                }
+                return;
+            }
+            pos += length;
+            if (leaf) {
+                return;
+            }
+            boolean bit = from.prereadBit(pos);
+            if (!bit) {
+                push(edge.refAt(1), pos + 1, 1);
+            }
+            keyBits[pos] = bit;
+            edge = edge.refAt(bit ? 1 : 0);
+            pos++;
+        }
+    }
+
+    private Entry advance() {
+        while (stackSize > 0) {
+            stackSize--;
+            Cell edge = stackEdges[stackSize];
+            int pos = stackPos[stackSize];
+            if (stackBit[stackSize] >= 0) {
+                keyBits[pos - 1] = stackBit[stackSize] == 1;
+            }
+            stackEdges[stackSize] = null;
+            if (edge.getCellType() != CellType.ORDINARY) {
+                continue;
+            }
+            CellSlice cs = CellSlice.beginParse(edge);
+            pos += loadLabel(cs, pos);
+            if (isLeaf(cs, pos)) {
+                BitString key = new BitString(pos);
+                for (int i = 0; i < pos; i++) {
+                    key.writeBit(keyBits[i]);
+                }
+                return new Entry(key, cs);
+            }
+            int first = descending ? 1 : 0;
+            push(edge.refAt(1 - first), pos + 1, 1 - first);
+            push(edge.refAt(first), pos + 1, first);
+        }
+        return null;
+    }
+
+    /**
+     * Reads edge node type after the label, for prefix dictionaries
+     * phmn_leaf$0 {n:#} {X:Type} value:X = PfxHashmapNode n X;
+     * phmn_fork$1 {n:#} {X:Type} left:^(PfxHashmap n X) right:^(PfxHashmap n X) = PfxHashmapNode (n + 1) X;
+     */
+    private boolean isLeaf(CellSlice cs, int pos) {
+        if (pfx) {
+            return !cs.loadBit();
+        }
+        return pos == keySize;
+    }
+
+    private void push(Cell edge, int pos, int bit) {
+        stackEdges[stackSize] = edge;
+        stackPos[stackSize] = pos;
+        stackBit[stackSize] = (byte) bit;
+        stackSize++;
+    }
+
+    /**
+     * Reads label of the edge into keyBits starting at pos
+     *
+     * @return length of the label
+     */
+    private int loadLabel(CellSlice edge, int pos) {
+        int m = keySize - pos;
+        if (!edge.loadBit()) {
+            // hml_short$0
+            return loadLabelBits(edge, TonHashMap.loadUnaryLength(edge), pos);
+        }
+        if (!edge.loadBit()) {
+            // hml_long$10
+            return loadLabelBits(edge, (int) edge.loadUintLong(TonHashMap.labelLengthBits(m)), pos);
+        }
+        // hml_same$11
+        boolean v = edge.loadBit();
+        int length = (int) edge.loadUintLong(TonHashMap.labelLengthBits(m));
+        checkLabelLength(length, m);
+        for (int i = pos; i < pos + length; i++) {
+            keyBits[i] = v;
+        }
+        return length;
+    }
+
+    private int loadLabelBits(CellSlice edge, int length, int pos) {
+        checkLabelLength(length, keySize - pos);
+        for (int rest = length; rest > 0; rest -= 64) {
+            int n = Math.min(rest, 64);
+            long bits = edge.loadUintLong(n);
+            for (int i = n - 1; i >= 0; i--) {
+                keyBits[pos++] = ((bits >>> i) & 1) != 0;
+            }
+        }
+        return length;
+    }
+
+    private static void checkLabelLength(int length, int m) {
+        if (length > m) {
+            throw new Error("Label length " + length + " exceeds max length " + m);
+        }
+    }
+
+    /**
+     * Compares keys bit by bit, a key is less than keys it is a prefix of
+     */
+    private static int compare(BitString a, BitString b) {
+        int length = Math.min(a.getUsedBits(), b.getUsedBits());
+        for (int i = 0; i < length; i++) {
+            boolean x = a.prereadBit(i);
+            if (x != b.prereadBit(i)) {
+                return x ? 1 : -1;
+            }
+        }
+        return Integer.compare(a.getUsedBits(), b.getUsedBits());
+    }
+}
@@ -0,0 +1,36 @@
+package org.ton.java.cell;
+
+/**
+ * BoC bytes together with offsets of all its cells. A cell is deserialized when it is reached for the first time
+ * and kept for other cells referencing it.
+ */
+final class InMemoryBoc extends LazyBoc {
+
+    private final BocLayout layout;
+    private final int[] offsets;
+    private final Cell[] cells;
+
+    InMemoryBoc(byte[] data) {
+        layout = new BocLayout(data);
+        offsets = layout.cellOffsets();
+        cells = new Cell[layout.cellsNum];
+    }
+
+    Cell root(int i) {
+        return cell(layout.rootList[i]);
+    }
+
+    int rootsNum() {
+        return layout.rootList.length;
+    }
+
+    @Override
+    synchronized Cell cell(int index) {
+        Cell c = cells[index];
+        if (c == null) {
+            c = attach(Cell.deserializeLazyCell(layout.data, offsets[index], (int) layout.cellsEnd, layout.size), index, cells.length);
+            cells[index] = c;
+        }
+        return c;
+    }
+}
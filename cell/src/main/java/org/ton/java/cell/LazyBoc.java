@@ -0,0 +1,49 @@
+package org.ton.java.cell;
+
+/**
+ * Source of cells deserialized on demand. References of a cell are resolved when they are requested.
+ */
+abstract class LazyBoc {
+
+    /**
+     * Returns cell with the given index in BoC, references of the cell are resolved later
+     */
+    abstract Cell cell(int index);
+
+    /**
+     * Checks references of a freshly deserialized cell and defers their resolution to this BoC
+     */
+    LazyCell attach(LazyCell c, int index, int cellsNum) {
+        for (int r : c.refsIndexes) {
+            if (r <= index) {
+                throw new Error("Topological order is broken");
+            }
+            if (r >= cellsNum) {
+                throw new Error("Invalid boc: reference to cell " + r + " of " + cellsNum);
+            }
+        }
+        c.frozen = true;
+        if (c.refsIndexes.length == 0) {
+            c.refsIndexes = null;
+        } else {
+            c.lazyBoc = this;
+        }
+        return c;
+    }
+
+    /**
+     * Fills refs of a cell deserialized by this BoC
+     */
+    synchronized void resolveRefs(LazyCell c) {
+        if (c.lazyBoc != this) {
+            return;
+        }
+        Cell[] refs = new Cell[c.refsIndexes.length];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = cell(c.refsIndexes[i]);
+        }
+        c.refs = refs;
+        c.refsIndexes = null;
+        c.lazyBoc = null;
+    }
+}
@@ -0,0 +1,42 @@
+package org.ton.java.cell;
+
+import org.ton.java.bitstring.BitString;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Cell of a lazily deserialized BoC, which keeps indexes of its references until they are requested.
+ * Cells built by CellBuilder or deserialized at once are plain Cell instances and do not carry these fields.
+ */
+final class LazyCell extends Cell {
+
+    int[] refsIndexes;
+
+    /**
+     * BoC which resolves refs of the cell, null once they are resolved
+     */
+    volatile LazyBoc lazyBoc;
+
+    LazyCell(BitString bits, CellType cellType, LevelMask levelMask, int[] refsIndexes) {
+        super(bits, cellType, levelMask);
+        this.refsIndexes = refsIndexes;
+    }
+
+    @Override
+    Cell[] refs() {
+        LazyBoc boc = lazyBoc;
+        if (nonNull(boc)) {
+            boc.resolveRefs(this);
+        }
+        return refs;
+    }
+
+    @Override
+    public int refCount() {
+        int[] unresolved = refsIndexes;
+        if (nonNull(unresolved) && nonNull(lazyBoc)) {
+            return unresolved.length;
+        }
+        return refs().length;
+    }
+}
@@ -7,6 +7,14 @@ import lombok.ToString;
 @Getter
 public class LevelMask {
 
+    private static final LevelMask[] MASKS = new LevelMask[8];
+
+    static {
+        for (int i = 0; i < MASKS.length; i++) {
+            MASKS[i] = new LevelMask(i);
+        }
+    }
+
     int mask;
     int level;
 
@@ -18,6 +26,13 @@ public class LevelMask {
         this.hashIndex = getHashIndex();
     }
 
+    /**
+     * Returns shared instance for masks of up to 3 levels, so that cells do not keep own copies
+     */
+    public static LevelMask of(int mask) {
+        return (mask >= 0 && mask < MASKS.length) ? MASKS[mask] : new LevelMask(mask);
+    }
+
     public LevelMask clone() {
         return new LevelMask(mask);
     }
@@ -27,7 +42,7 @@ public class LevelMask {
     }
 
     public LevelMask apply(int lvl) {
-        return new LevelMask(mask & ((1 << lvl) - 1));
+        return of(mask & ((1 << lvl) - 1));
     }
 
     public int getHashIndex() {
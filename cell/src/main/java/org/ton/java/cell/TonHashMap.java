@@ -5,7 +5,6 @@ import org.ton.java.utils.Utils;
 
 import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public class TonHashMap {
@@ -48,25 +47,37 @@ public class TonHashMap {
 
     public List<Node> deserializeEdge(CellSlice edge, int keySize, final BitString key) {
         List<Node> nodes = new ArrayList<>();
-        BitString l = deserializeLabel(edge, keySize - key.toBitString().length());
-        key.writeBitString(l);
-        if (key.toBitString().length() == keySize) {
-            Cell value = CellBuilder.beginCell().storeSlice(edge).endCell();
-            List<Node> newList = new ArrayList<>(nodes);
-            newList.add(new Node(key, value));
-            return newList;
-        }
-
-        AtomicInteger i = new AtomicInteger();
-        return edge.refs.stream().map(c -> {
-            CellSlice forkEdge = CellSlice.beginParse(c);
-            BitString forkKey = key.clone();
-            forkKey.writeBit(i.get() != 0);
-            i.getAndIncrement();
-            return deserializeEdge(forkEdge, keySize, forkKey);
-        }).reduce(new ArrayList<>(), (x, y) -> {
-            x.addAll(y);
-            return x;
+        deserializeEdge(edge, keySize, key, nodes);
+        return nodes;
+    }
+
+    private static void deserializeEdge(CellSlice edge, int keySize, BitString key, List<Node> nodes) {
+        deserializeEdge(edge.sliceToCell(), edge, keySize, key, nodes);
+    }
+
+    /**
+     * Walks edges in key order with CellWalker, keys of forks on the current path are kept by depth
+     *
+     * @param root cell of the root edge, which refs are walked
+     * @param edge slice of the root edge, the label is read from it
+     */
+    private static void deserializeEdge(Cell root, CellSlice edge, int keySize, BitString key, List<Node> nodes) {
+        BitString[] forkKeys = new BitString[keySize + 1];
+        CellWalker.of(root).walk((cell, depth, index) -> {
+            CellSlice cs = edge;
+            BitString edgeKey = key;
+            if (depth > 0) {
+                cs = CellSlice.beginParse(cell);
+                edgeKey = forkKeys[depth - 1].clone();
+                edgeKey.writeBit(index != 0);
+            }
+            edgeKey.writeBitString(loadLabel(cs, keySize - edgeKey.getUsedBits()));
+            if (edgeKey.getUsedBits() == keySize) {
+                nodes.add(new Node(edgeKey, CellBuilder.beginCell().storeSlice(cs).endCell()));
+                return CellVisitor.Action.SKIP_REFS;
+            }
+            forkKeys[depth] = edgeKey;
+            return CellVisitor.Action.CONTINUE;
         });
     }
 
@@ -81,6 +92,27 @@ public class TonHashMap {
         }
     }
 
+    /**
+     * Loads HashMap splitting it at forks of the first splitDepth levels into subtrees,
+     * which are loaded and parsed in parallel in the common ForkJoinPool, see DictDecodeTask.
+     * Parsers must be thread-safe. Entries are put in key order, same as with deserialize().
+     *
+     * @param root       root edge of the dictionary
+     * @param splitDepth number of fork levels to split at, up to 2^splitDepth subtrees, 0 to load in the current thread
+     */
+    void deserialize(Cell root, Function<BitString, Object> keyParser, Function<Cell, Object> valueParser, int splitDepth) {
+        List<Map.Entry<Object, Object>> entries = DictDecodeTask.invoke(root, keySize, splitDepth, (edge, key, out) -> {
+            List<Node> nodes = new ArrayList<>();
+            deserializeEdge(edge, CellSlice.beginParse(edge), keySize, key, nodes);
+            for (Node node : nodes) {
+                out.add(new AbstractMap.SimpleImmutableEntry<>(keyParser.apply(node.key), valueParser.apply(node.value)));
+            }
+        });
+        for (Map.Entry<Object, Object> entry : entries) {
+            elements.put(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Read the keys in array and return binary tree in the form of nested array
      *
@@ -255,6 +287,10 @@ public class TonHashMap {
      * @param m    length at most possible bits of n (key)
      */
     public BitString deserializeLabel(CellSlice edge, int m) {
+        return loadLabel(edge, m);
+    }
+
+    static BitString loadLabel(CellSlice edge, int m) {
         if (!edge.loadBit()) {
             // hml_short$0 {m:#} {n:#} len:(Unary ~n) s:(n * Bit) = HmLabel ~n m;
             return deserializeLabelShort(edge);
@@ -267,29 +303,407 @@ public class TonHashMap {
         return deserializeLabelSame(edge, m);
     }
 
-    private BitString deserializeLabelShort(CellSlice edge) {
-        int length = edge.bits.getBitString().indexOf("0");
-        edge.skipBits(length + 1);
+    private static BitString deserializeLabelShort(CellSlice edge) {
+        int length = loadUnaryLength(edge);
         return edge.loadBits(length);
     }
 
-    private BitString deserializeLabelLong(CellSlice edge, int m) {
-        BigInteger length = edge.loadUint((int) Math.ceil(log2((m + 1))));
-        return edge.loadBits(length.intValue());
+    private static BitString deserializeLabelLong(CellSlice edge, int m) {
+        int length = (int) edge.loadUintLong(labelLengthBits(m));
+        return edge.loadBits(length);
     }
 
-    private BitString deserializeLabelSame(CellSlice edge, int m) {
+    private static BitString deserializeLabelSame(CellSlice edge, int m) {
         boolean v = edge.loadBit();
-        BigInteger length = edge.loadUint((int) Math.ceil(log2((m + 1))));
-        BitString r = new BitString(length.intValue());
-        for (int i = 0; i < length.intValue(); i++) {
+        int length = (int) edge.loadUintLong(labelLengthBits(m));
+        BitString r = new BitString(length);
+        for (int i = 0; i < length; i++) {
             r.writeBit(v);
         }
         return r;
     }
 
-    private static double log2(int n) {
-        return (Math.log(n) / Math.log(2));
+    /**
+     * Reads Unary n, i.e. n ones followed by zero
+     */
+    static int loadUnaryLength(CellSlice edge) {
+        int length = 0;
+        while (edge.loadBit()) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * @return ceil(log2(m + 1)), size of label length in hml_long and hml_same
+     */
+    static int labelLengthBits(int m) {
+        return 32 - Integer.numberOfLeadingZeros(m);
+    }
+
+    /**
+     * Finds value by key in serialized dictionary without deserializing it.
+     * Only edges on the path to the key are read, so lookup takes O(keySize) regardless of dictionary size.
+     * Works with augmented dictionaries as well, then the returned slice starts with extra of the leaf.
+     *
+     * @param root    root edge of dictionary, i.e. Hashmap cell or the referenced cell of non-empty HashmapE
+     * @param keySize key size in bits
+     * @param key     key of keySize bits
+     * @return CellSlice positioned at the value, or null if there is no such key
+     */
+    public static CellSlice lookup(Cell root, int keySize, BitString key) {
+        checkKey(keySize, key);
+        BitString rest = key.clone();
+        Cell edge = root;
+        int m = keySize;
+        while (true) {
+            if (edge.getCellType() != CellType.ORDINARY) {
+                throw new Error("Cannot look up key in " + edge.getCellType() + " cell");
+            }
+            CellSlice cs = CellSlice.beginParse(edge);
+            int length = matchLabel(cs, m, rest);
+            if (length < 0) {
+                return null;
+            }
+            m -= length;
+            if (m == 0) {
+                return cs;
+            }
+            // hmn_fork#_ {n:#} {X:Type} left:^(Hashmap n X) right:^(Hashmap n X) = HashmapNode (n + 1) X;
+            edge = edge.refAt(rest.readBit() ? 1 : 0);
+            m--;
+        }
+    }
+
+    /**
+     * Reads label of the edge and compares it with the next bits of the key
+     *
+     * @return length of the label, or -1 if the label does not match the key
+     */
+    private static int matchLabel(CellSlice edge, int m, BitString key) {
+        if (!edge.loadBit()) {
+            // hml_short$0
+            int length = loadUnaryLength(edge);
+            return matchBits(edge, length, key) ? length : -1;
+        }
+        if (!edge.loadBit()) {
+            // hml_long$10
+            int length = (int) edge.loadUintLong(labelLengthBits(m));
+            return matchBits(edge, length, key) ? length : -1;
+        }
+        // hml_same$11
+        boolean v = edge.loadBit();
+        int length = (int) edge.loadUintLong(labelLengthBits(m));
+        if (length > key.getUsedBits()) {
+            return -1;
+        }
+        for (int rest = length; rest > 0; rest -= 64) {
+            int n = Math.min(rest, 64);
+            long same = v ? -1L >>> (64 - n) : 0;
+            if (key.readUintLong(n) != same) {
+                return -1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Sets value of the key in serialized dictionary and returns the new root, the given dictionary is not modified.
+     * Only edges on the path to the key are rebuilt, all other subtrees are shared with the given dictionary.
+     * Works only with Hashmap: forks of HashmapAug need extra, so augmented dictionaries are rejected
+     * as soon as a fork with extra is met on the path, use DictAugUpdater for them.
+     * A dictionary of a single leaf cannot be told from HashmapAug and must not be augmented.
+     *
+     * @param root    root edge of dictionary, or null for empty one
+     * @param keySize key size in bits
+     * @param key     key of keySize bits
+     * @param value   cell which bits and refs are stored in the leaf
+     * @return root edge of the new dictionary
+     */
+    public static Cell set(Cell root, int keySize, BitString key, Cell value) {
+        checkKey(keySize, key);
+        BitString rest = key.clone();
+        if (root == null) {
+            return leaf(rest, keySize, value);
+        }
+        Cell[] forks = new Cell[keySize];
+        boolean[] branches = new boolean[keySize];
+        int depth = 0;
+        Cell edge = root;
+        int m = keySize;
+        Cell updated;
+        while (true) {
+            CellSlice cs = beginEdge(edge);
+            BitString label = loadLabel(cs, m);
+            int common = commonPrefix(label, rest);
+            if (common < label.getUsedBits()) {
+                // the key leaves the label, split the edge into a fork of the old edge and the new leaf
+                if (label.getUsedBits() < m) {
+                    checkFork(cs);
+                }
+                boolean oldBranch = label.prereadBit(common);
+                BitString oldLabel = label.clone();
+                oldLabel.skipBits(common + 1);
+                CellBuilder oldEdge = CellBuilder.beginCell();
+                storeLabel(oldEdge, oldLabel, m - common - 1);
+                oldEdge.storeSlice(cs);
+
+                CellBuilder fork = CellBuilder.beginCell();
+                storeLabel(fork, rest.readBits(common), m);
+                rest.skipBits(1);
+                Cell newLeaf = leaf(rest, m - common - 1, value);
+                fork.storeRef(oldBranch ? newLeaf : oldEdge.endCell());
+                fork.storeRef(oldBranch ? oldEdge.endCell() : newLeaf);
+                updated = fork.endCell();
+                break;
+            }
+            rest.skipBits(common);
+            m -= common;
+            if (m == 0) {
+                updated = copyLabel(edge, cs).storeCell(value).endCell();
+                break;
+            }
+            checkFork(cs);
+            forks[depth] = edge;
+            branches[depth] = rest.readBit();
+            edge = edge.refAt(branches[depth] ? 1 : 0);
+            depth++;
+            m--;
+        }
+        return rebuildPath(forks, branches, depth, updated);
+    }
+
+    /**
+     * Sets value of the key only if the key is already in dictionary, see set()
+     *
+     * @return root edge of the new dictionary, or the given root if there is no such key
+     */
+    public static Cell replace(Cell root, int keySize, BitString key, Cell value) {
+        if (root == null || lookup(root, keySize, key) == null) {
+            return root;
+        }
+        return set(root, keySize, key, value);
+    }
+
+    /**
+     * Deletes the key from serialized dictionary and returns the new root, the given dictionary is not modified.
+     * The sibling of the deleted leaf is merged into its parent edge, all other subtrees are shared.
+     * Works only with Hashmap, see set(), use DictAugUpdater for augmented dictionaries.
+     *
+     * @param root    root edge of dictionary, or null for empty one
+     * @param keySize key size in bits
+     * @param key     key of keySize bits
+     * @return root edge of the new dictionary, null if it became empty, or the given root if there is no such key
+     */
+    public static Cell delete(Cell root, int keySize, BitString key) {
+        checkKey(keySize, key);
+        if (root == null) {
+            return null;
+        }
+        BitString rest = key.clone();
+        Cell[] forks = new Cell[keySize];
+        BitString[] labels = new BitString[keySize];
+        int[] sizes = new int[keySize];
+        boolean[] branches = new boolean[keySize];
+        int depth = 0;
+        Cell edge = root;
+        int m = keySize;
+        while (true) {
+            CellSlice cs = beginEdge(edge);
+            BitString label = loadLabel(cs, m);
+            int common = commonPrefix(label, rest);
+            if (common < label.getUsedBits()) {
+                return root;
+            }
+            rest.skipBits(common);
+            if (m == common) {
+                break;
+            }
+            checkFork(cs);
+            forks[depth] = edge;
+            labels[depth] = label;
+            sizes[depth] = m;
+            branches[depth] = rest.readBit();
+            edge = edge.refAt(branches[depth] ? 1 : 0);
+            depth++;
+            m -= common + 1;
+        }
+        if (depth == 0) {
+            return null;
+        }
+        // parent label, the sibling branch bit and the sibling label make the label of the merged edge
+        depth--;
+        boolean siblingBranch = !branches[depth];
+        CellSlice sibling = beginEdge(forks[depth].refAt(siblingBranch ? 1 : 0));
+        int siblingSize = sizes[depth] - labels[depth].getUsedBits() - 1;
+        BitString siblingLabel = loadLabel(sibling, siblingSize);
+        BitString label = new BitString(sizes[depth]);
+        label.writeBitString(labels[depth].clone());
+        label.writeBit(siblingBranch);
+        label.writeBitString(siblingLabel);
+        CellBuilder merged = CellBuilder.beginCell();
+        storeLabel(merged, label, sizes[depth]);
+        merged.storeSlice(sibling);
+        return rebuildPath(forks, branches, depth, merged.endCell());
+    }
+
+    /**
+     * Stores HashMap label in the shortest form
+     *
+     * @param label label bits
+     * @param m     maximal possible length of the label
+     */
+    static void storeLabel(CellBuilder builder, BitString label, int m) {
+        int n = label.getUsedBits();
+        int k = labelLengthBits(m);
+        if (n > 1 && k < 2 * n - 1 && isSame(label)) {
+            // hml_same$11
+            builder.storeBit(true).storeBit(true).storeBit(label.prereadBit());
+            builder.storeUint(n, k);
+        } else if (k < n) {
+            // hml_long$10
+            builder.storeBit(true).storeBit(false);
+            builder.storeUint(n, k);
+            builder.storeBitString(label);
+        } else {
+            // hml_short$0
+            builder.storeBit(false);
+            for (int i = 0; i < n; i++) {
+                builder.storeBit(true);
+            }
+            builder.storeBit(false);
+            builder.storeBitString(label);
+        }
+    }
+
+    /**
+     * Stores HashMap label of up to 64 bits in the shortest form
+     *
+     * @param label  label bits in the lowest bits of the number
+     * @param length label length
+     * @param m      maximal possible length of the label
+     */
+    static void storeLabel(CellBuilder builder, long label, int length, int m) {
+        int k = labelLengthBits(m);
+        long ones = (length == 0) ? 0 : -1L >>> (64 - length);
+        if (length > 1 && k < 2 * length - 1 && (label == 0 || label == ones)) {
+            // hml_same$11
+            builder.storeBit(true).storeBit(true).storeBit(label != 0);
+            builder.storeUint(length, k);
+            return;
+        }
+        if (k < length) {
+            // hml_long$10
+            builder.storeBit(true).storeBit(false);
+            builder.storeUint(length, k);
+        } else {
+            // hml_short$0
+            builder.storeBit(false);
+            for (int i = 0; i < length; i++) {
+                builder.storeBit(true);
+            }
+            builder.storeBit(false);
+        }
+        if (length == 64) {
+            builder.storeUint(label >>> 32, 32);
+            builder.storeUint(label & 0xFFFFFFFFL, 32);
+        } else {
+            builder.storeUint(label, length);
+        }
+    }
+
+    /**
+     * Checks that all bits of the label are equal, comparing 64-bit words with all zeros or all ones
+     */
+    private static boolean isSame(BitString label) {
+        BitString bits = label.clone();
+        boolean first = bits.prereadBit();
+        for (int rest = bits.getUsedBits(); rest > 0; rest -= 64) {
+            int n = Math.min(rest, 64);
+            long same = first ? -1L >>> (64 - n) : 0;
+            if (bits.readUintLong(n) != same) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int commonPrefix(BitString label, BitString key) {
+        int length = Math.min(label.getUsedBits(), key.getUsedBits());
+        for (int i = 0; i < length; i++) {
+            if (label.prereadBit(i).booleanValue() != key.prereadBit(i).booleanValue()) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static Cell leaf(BitString label, int m, Cell value) {
+        CellBuilder b = CellBuilder.beginCell();
+        storeLabel(b, label, m);
+        return b.storeCell(value).endCell();
+    }
+
+    /**
+     * Copies encoded label of the edge, the slice is positioned right after the label
+     */
+    static CellBuilder copyLabel(Cell edge, CellSlice cs) {
+        BitString bits = edge.bits.clone();
+        return CellBuilder.beginCell().storeBitString(bits.readBits(bits.getUsedBits() - cs.getRestBits()));
+    }
+
+    /**
+     * Replaces the child on the path in every fork from the bottom to the root, keeping bits of the forks
+     */
+    private static Cell rebuildPath(Cell[] forks, boolean[] branches, int depth, Cell updated) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Cell fork = forks[i];
+            updated = CellBuilder.beginCell()
+                    .storeBitString(fork.bits)
+                    .storeRef(branches[i] ? fork.refAt(0) : updated)
+                    .storeRef(branches[i] ? updated : fork.refAt(1))
+                    .endCell();
+        }
+        return updated;
+    }
+
+    /**
+     * hmn_fork#_ {n:#} {X:Type} left:^(Hashmap n X) right:^(Hashmap n X) = HashmapNode (n + 1) X;
+     * Rejects forks with extra, rebuilt forks of HashmapAug would be written without it.
+     *
+     * @param cs slice of the fork right after the label
+     */
+    private static void checkFork(CellSlice cs) {
+        if (cs.getRestBits() != 0 || cs.getRefsCount() != 2) {
+            throw new Error("Fork holds " + cs.getRestBits() + " bits and " + cs.getRefsCount()
+                    + " refs after the label, augmented dictionary should be updated with DictAugUpdater");
+        }
+    }
+
+    static CellSlice beginEdge(Cell edge) {
+        if (edge.getCellType() != CellType.ORDINARY) {
+            throw new Error("Cannot update dictionary with " + edge.getCellType() + " cell");
+        }
+        return CellSlice.beginParse(edge);
+    }
+
+    static void checkKey(int keySize, BitString key) {
+        if (key.getUsedBits() != keySize) {
+            throw new Error("Key should be " + keySize + " bits long, got " + key.getUsedBits());
+        }
+    }
+
+    private static boolean matchBits(CellSlice edge, int length, BitString key) {
+        if (length > key.getUsedBits()) {
+            return false;
+        }
+        for (int rest = length; rest > 0; rest -= 64) {
+            int n = Math.min(rest, 64);
+            if (edge.loadUintLong(n) != key.readUintLong(n)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
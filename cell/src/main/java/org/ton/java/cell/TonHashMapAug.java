@@ -4,9 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.ton.java.bitstring.BitString;
 import org.ton.java.utils.Utils;
 
-import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -29,29 +27,45 @@ public class TonHashMapAug {
     }
 
     public List<Node> deserializeEdge(CellSlice edge, int keySize, final BitString key) {
-        if (edge.type != CellType.ORDINARY) {
-            return new ArrayList<>();
-        }
         List<Node> nodes = new ArrayList<>();
-        BitString l = deserializeLabel(edge, keySize - key.toBitString().length());
-        key.writeBitString(l);
-        if (key.toBitString().length() == keySize) {
-            Cell valueAndExtra = CellBuilder.beginCell().storeSlice(edge).endCell();
-            List<Node> newList = new ArrayList<>(nodes);
-            newList.add(new Node(key, valueAndExtra)); // fork-extra does not exist in edge
-            return newList;
+        deserializeEdge(edge, keySize, key, nodes);
+        return nodes;
+    }
+
+    private static void deserializeEdge(CellSlice edge, int keySize, BitString key, List<Node> nodes) {
+        if (edge.type != CellType.ORDINARY) {
+            return;
         }
+        deserializeEdge(edge.sliceToCell(), edge, keySize, key, nodes);
+    }
 
-        AtomicInteger i = new AtomicInteger();
-        return edge.refs.stream().map(c -> {
-            CellSlice forkEdge = CellSlice.beginParse(c);
-            BitString forkKey = key.clone();
-            forkKey.writeBit(i.get() != 0);
-            i.getAndIncrement();
-            return deserializeEdge(forkEdge, keySize, forkKey);
-        }).reduce(new ArrayList<>(), (x, y) -> {
-            x.addAll(y);
-            return x;
+    /**
+     * Walks edges in key order with CellWalker, skipping pruned branches, see TonHashMap
+     *
+     * @param root cell of the root edge, which refs are walked
+     * @param edge slice of the root edge, the label is read from it
+     */
+    private static void deserializeEdge(Cell root, CellSlice edge, int keySize, BitString key, List<Node> nodes) {
+        BitString[] forkKeys = new BitString[keySize + 1];
+        CellWalker.of(root).walk((cell, depth, index) -> {
+            if (cell.getCellType() != CellType.ORDINARY) {
+                return CellVisitor.Action.SKIP_REFS;
+            }
+            CellSlice cs = edge;
+            BitString edgeKey = key;
+            if (depth > 0) {
+                cs = CellSlice.beginParse(cell);
+                edgeKey = forkKeys[depth - 1].clone();
+                edgeKey.writeBit(index != 0);
+            }
+            edgeKey.writeBitString(TonHashMap.loadLabel(cs, keySize - edgeKey.getUsedBits()));
+            if (edgeKey.getUsedBits() == keySize) {
+                Cell valueAndExtra = CellBuilder.beginCell().storeSlice(cs).endCell();
+                nodes.add(new Node(edgeKey, valueAndExtra)); // fork-extra does not exist in edge
+                return CellVisitor.Action.SKIP_REFS;
+            }
+            forkKeys[depth] = edgeKey;
+            return CellVisitor.Action.CONTINUE;
         });
     }
 
@@ -64,13 +78,42 @@ public class TonHashMapAug {
                      Function<CellSlice, Object> extraParser) {
         List<Node> nodes = deserializeEdge(c, keySize, new BitString(keySize));
         for (Node node : nodes) {
-            CellSlice valueAndExtra = CellSlice.beginParse(node.value);
-            Object extra = extraParser.apply(valueAndExtra);
-            Object value = valueParser.apply(valueAndExtra);
-            elements.put(keyParser.apply(node.key), Pair.of(value, extra));
+            elements.put(keyParser.apply(node.key), parseValueAndExtra(node, valueParser, extraParser));
         }
     }
 
+    /**
+     * Loads HashMapAug splitting it into subtrees, which are loaded and parsed in parallel, see TonHashMap
+     *
+     * @param root       root edge of the dictionary
+     * @param splitDepth number of fork levels to split at, up to 2^splitDepth subtrees, 0 to load in the current thread
+     */
+    void deserialize(Cell root,
+                     Function<BitString, Object> keyParser,
+                     Function<CellSlice, Object> valueParser,
+                     Function<CellSlice, Object> extraParser,
+                     int splitDepth) {
+        List<Map.Entry<Object, Pair<Object, Object>>> entries = DictDecodeTask.invoke(root, keySize, splitDepth, (edge, key, out) -> {
+            List<Node> nodes = new ArrayList<>();
+            deserializeEdge(edge, CellSlice.beginParse(edge), keySize, key, nodes);
+            for (Node node : nodes) {
+                out.add(new AbstractMap.SimpleImmutableEntry<>(keyParser.apply(node.key), parseValueAndExtra(node, valueParser, extraParser)));
+            }
+        });
+        for (Map.Entry<Object, Pair<Object, Object>> entry : entries) {
+            elements.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Pair<Object, Object> parseValueAndExtra(Node node,
+                                                           Function<CellSlice, Object> valueParser,
+                                                           Function<CellSlice, Object> extraParser) {
+        CellSlice valueAndExtra = CellSlice.beginParse(node.value);
+        Object extra = extraParser.apply(valueAndExtra);
+        Object value = valueParser.apply(valueAndExtra);
+        return Pair.of(value, extra);
+    }
+
     /**
      * Read the keys in array and return binary tree in the form of nested array
      *
@@ -152,7 +195,7 @@ public class TonHashMapAug {
             return;
         }
 
-        int sizeOfM = BigInteger.valueOf(m).bitLength();
+        int sizeOfM = TonHashMap.labelLengthBits(m);
         if (n < sizeOfM) {
             builder.storeBit(false);  // hml_short
             for (int i = 0; i < n; i++) {
@@ -257,30 +300,25 @@ public class TonHashMapAug {
     }
 
     private BitString deserializeLabelShort(CellSlice edge) {
-        int length = edge.bits.getBitString().indexOf("0");
-        edge.skipBits(length + 1);
+        int length = TonHashMap.loadUnaryLength(edge);
         return edge.loadBits(length);
     }
 
     private BitString deserializeLabelLong(CellSlice edge, int m) {
-        BigInteger length = edge.loadUint(BigInteger.valueOf(m).bitLength());
-        return edge.loadBits(length.intValue());
+        int length = (int) edge.loadUintLong(TonHashMap.labelLengthBits(m));
+        return edge.loadBits(length);
     }
 
     private BitString deserializeLabelSame(CellSlice edge, int m) {
         boolean v = edge.loadBit();
-        BigInteger length = edge.loadUint(BigInteger.valueOf(m).bitLength());
-        BitString r = new BitString(length.intValue());
-        for (int i = 0; i < length.intValue(); i++) {
+        int length = (int) edge.loadUintLong(TonHashMap.labelLengthBits(m));
+        BitString r = new BitString(length);
+        for (int i = 0; i < length; i++) {
             r.writeBit(v);
         }
         return r;
     }
 
-    private static double log2(int n) {
-        return (Math.log(n) / Math.log(2));
-    }
-
 
     @Override
     public String toString() {
@@ -22,6 +22,23 @@ public class TonHashMapE extends TonHashMap {
         super(keySize);
     }
 
+    /**
+     * Loads HashmapE from the slice and finds value by key without deserializing the dictionary,
+     * see TonHashMap.lookup()
+     *
+     * @param dict    slice positioned at HashmapE, i.e. at the emptiness flag
+     * @param keySize key size in bits
+     * @param key     key of keySize bits
+     * @return CellSlice positioned at the value, or null if the dictionary is empty or there is no such key
+     */
+    public static CellSlice lookup(CellSlice dict, int keySize, BitString key) {
+        Cell root = dict.loadMaybeRefX();
+        if (root == null) {
+            return null;
+        }
+        return lookup(root, keySize, key);
+    }
+
 
     public Cell serialize(Function<Object, BitString> keyParser, Function<Object, Cell> valueParser) {
         List<Object> se = new ArrayList<>();
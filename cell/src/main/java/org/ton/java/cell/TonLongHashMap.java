@@ -0,0 +1,251 @@
+package org.ton.java.cell;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * TonHashMap with keys of up to 64 bits held as numbers, for dictionaries like config params (32-bit keys),
+ * get-method tables (19-bit keys) or wallet query ids (16-bit keys).
+ * <p>
+ * Entries are kept in arrays sorted by key, so keys are never boxed, lookups take O(log n)
+ * and serialization goes through DictBuilder in one pass. Keys are unsigned,
+ * uint64 keys above Long.MAX_VALUE are represented by negative numbers and ordered after positive ones.
+ * TonLongHashMap cannot be empty when serialized, consider using TonLongHashMapE.
+ */
+public class TonLongHashMap {
+
+    int keySize;
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * @param keySize key size in bits, up to 64
+     */
+    public TonLongHashMap(int keySize) {
+        if (keySize < 0 || keySize > 64) {
+            throw new Error("TonLongHashMap supports keys of up to 64 bits, got " + keySize);
+        }
+        this.keySize = keySize;
+        keys = new long[8];
+        values = new Object[8];
+    }
+
+    public int getKeySize() {
+        return keySize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return i-th key in ascending order
+     */
+    public long keyAt(int i) {
+        checkIndex(i);
+        return keys[i];
+    }
+
+    /**
+     * @return value of the i-th key in ascending order
+     */
+    public Object valueAt(int i) {
+        checkIndex(i);
+        return values[i];
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @return value of the key or null if there is no such key
+     */
+    public Object get(long key) {
+        int i = indexOf(key);
+        return (i >= 0) ? values[i] : null;
+    }
+
+    /**
+     * Puts value, appending keys in ascending order takes O(1)
+     *
+     * @return previous value of the key or null
+     */
+    public Object put(long key, Object value) {
+        if (keySize < 64 && (key >>> keySize) != 0) {
+            throw new Error("Key " + key + " does not fit into " + keySize + " bits");
+        }
+        int i = (size == 0 || Long.compareUnsigned(keys[size - 1], key) < 0) ? -(size + 1) : indexOf(key);
+        if (i >= 0) {
+            Object previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+        i = -(i + 1);
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(values, i, values, i + 1, size - i);
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @return removed value or null if there is no such key
+     */
+    public Object remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object previous = values[i];
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(values, i + 1, values, i, size - i - 1);
+        size--;
+        values[size] = null;
+        return previous;
+    }
+
+    /**
+     * Binary search in unsigned order
+     *
+     * @return index of the key, or -(insertion point + 1) if there is no such key
+     */
+    private int indexOf(long key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(keys[mid], key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new Error("Index " + i + " is out of range, size " + size);
+        }
+    }
+
+    /**
+     * Serializes entries into Hashmap
+     *
+     * @param valueParser converts value into cell which bits and refs are stored in the leaf
+     * @return root edge of the dictionary
+     */
+    public Cell serialize(Function<Object, Cell> valueParser) {
+        if (size == 0) {
+            throw new Error("TonLongHashMap does not support empty dict. Consider using TonLongHashMapE");
+        }
+        return build(valueParser).endDict();
+    }
+
+    DictBuilder build(Function<Object, Cell> valueParser) {
+        DictBuilder builder = DictBuilder.beginDict(keySize);
+        for (int i = 0; i < size; i++) {
+            builder.storeEntry(keys[i], valueParser.apply(values[i]));
+        }
+        return builder;
+    }
+
+    /**
+     * Loads entries of Hashmap, walking the tree with explicit stack and collecting key bits into numbers.
+     * Edges are visited in key order, so entries are appended without searching. Pruned branches are skipped.
+     *
+     * @param root        root edge of the dictionary
+     * @param valueParser converts value of the leaf
+     */
+    void deserialize(Cell root, Function<Cell, Object> valueParser) {
+        Cell[] edges = new Cell[keySize + 2];
+        int[] positions = new int[keySize + 2];
+        long[] prefixes = new long[keySize + 2];
+        int top = 0;
+        edges[top++] = root;
+        while (top > 0) {
+            top--;
+            Cell edge = edges[top];
+            int pos = positions[top];
+            long prefix = prefixes[top];
+            edges[top] = null;
+            if (edge.getCellType() != CellType.ORDINARY) {
+                continue;
+            }
+            CellSlice cs = CellSlice.beginParse(edge);
+            int m = keySize - pos;
+            int length;
+            long label;
+            if (!cs.loadBit()) {
+                // hml_short$0
+                length = TonHashMap.loadUnaryLength(cs);
+                label = loadLabelBits(cs, length, m);
+            } else if (!cs.loadBit()) {
+                // hml_long$10
+                length = (int) cs.loadUintLong(TonHashMap.labelLengthBits(m));
+                label = loadLabelBits(cs, length, m);
+            } else {
+                // hml_same$11
+                boolean v = cs.loadBit();
+                length = (int) cs.loadUintLong(TonHashMap.labelLengthBits(m));
+                checkLabelLength(length, m);
+                label = (v && length > 0) ? -1L >>> (64 - length) : 0;
+            }
+            prefix = (length == 64) ? label : (prefix << length) | label;
+            pos += length;
+            if (pos == keySize) {
+                put(prefix, valueParser.apply(CellBuilder.beginCell().storeSlice(cs).endCell()));
+                continue;
+            }
+            // right edge is pushed first to visit the left one first
+            edges[top] = edge.refAt(1);
+            positions[top] = pos + 1;
+            prefixes[top++] = (prefix << 1) | 1;
+            edges[top] = edge.refAt(0);
+            positions[top] = pos + 1;
+            prefixes[top++] = prefix << 1;
+        }
+    }
+
+    private static long loadLabelBits(CellSlice cs, int length, int m) {
+        checkLabelLength(length, m);
+        if (length == 0) {
+            return 0;
+        }
+        return cs.loadUintLong(length);
+    }
+
+    private static void checkLabelLength(int length, int m) {
+        if (length > m) {
+            throw new Error("Label length " + length + " exceeds max length " + m);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("(");
+        for (int i = 0; i < size; i++) {
+            sb.append(String.format("[%s,%s],", Long.toUnsignedString(keys[i]), values[i]));
+        }
+        if (size > 0) {
+            sb.setLength(sb.length() - 1);
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package org.ton.java.cell;
+
+import java.util.function.Function;
+
+public class TonLongHashMapE extends TonLongHashMap {
+
+    /**
+     * TonLongHashMap that may be empty, the first bit of it is a flag that indicates the emptiness.
+     *
+     * @param keySize key size in bits, up to 64
+     */
+    public TonLongHashMapE(int keySize) {
+        super(keySize);
+    }
+
+    /**
+     * Serializes entries into HashmapE
+     *
+     * @param valueParser converts value into cell which bits and refs are stored in the leaf
+     * @return HashmapE cell
+     */
+    @Override
+    public Cell serialize(Function<Object, Cell> valueParser) {
+        return build(valueParser).endDictE();
+    }
+}
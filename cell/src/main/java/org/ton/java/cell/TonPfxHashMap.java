@@ -5,7 +5,6 @@ import org.ton.java.bitstring.BitString;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public class TonPfxHashMap extends TonHashMap {
@@ -25,30 +24,27 @@ public class TonPfxHashMap extends TonHashMap {
 
     public List<Node> deserializeEdge(CellSlice edge, int keySize, final BitString key) {
         List<Node> nodes = new ArrayList<>();
-        BitString l = deserializeLabel(edge, keySize - key.toBitString().length());
-        key.writeBitString(l);
-        boolean pfx = edge.loadBit(); // pfx feature
-        if (pfx == false) {
-            Cell value = CellBuilder.beginCell().storeSlice(edge).endCell();
-            List<Node> newList = new ArrayList<>(nodes);
-            newList.add(new Node(key, value));
-            return newList;
-        }
-
-        AtomicInteger i = new AtomicInteger();
-        return edge.refs.stream().map(c -> {
-            CellSlice forkEdge = CellSlice.beginParse(c);
-            BitString forkKey = key.clone();
-            forkKey.writeBit(i.get() != 0);
-            i.getAndIncrement();
-            return deserializeEdge(forkEdge, keySize, forkKey);
-        }).reduce(new ArrayList<>(), (x, y) -> {
-            x.addAll(y);
-            return x;
+        BitString[] forkKeys = new BitString[keySize + 1];
+        CellWalker.of(edge.sliceToCell()).walk((cell, depth, index) -> {
+            CellSlice cs = edge;
+            BitString edgeKey = key;
+            if (depth > 0) {
+                cs = CellSlice.beginParse(cell);
+                edgeKey = forkKeys[depth - 1].clone();
+                edgeKey.writeBit(index != 0);
+            }
+            edgeKey.writeBitString(deserializeLabel(cs, keySize - edgeKey.getUsedBits()));
+            boolean pfx = cs.loadBit(); // pfx feature
+            if (!pfx) {
+                nodes.add(new Node(edgeKey, CellBuilder.beginCell().storeSlice(cs).endCell()));
+                return CellVisitor.Action.SKIP_REFS;
+            }
+            forkKeys[depth] = edgeKey;
+            return CellVisitor.Action.CONTINUE;
         });
+        return nodes;
     }
 
-
     /**
      * Loads HashMap and parses keys and values
      * HashMap X Y;
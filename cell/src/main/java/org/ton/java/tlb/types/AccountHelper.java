@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.ton.java.bitstring.BitString;
 import org.ton.java.cell.Cell;
 import org.ton.java.cell.CellSlice;
 import org.ton.java.cell.TonHashMap;
@@ -11,7 +12,6 @@ import org.ton.java.utils.Utils;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 import static java.util.Objects.isNull;
 
@@ -50,18 +50,9 @@ public class AccountHelper {
             return false;
         }
 
-        CellSlice ref = CellSlice.beginParse(cs.loadRef());
-
-        TonHashMap dict = ref.loadDict(19,
-                k -> k.readUint(19),
-                v -> v
-        );
-        for (Map.Entry<Object, Object> entry : dict.elements.entrySet()) {
-            if (((BigInteger) entry.getKey()).longValue() == hash) {
-                return true;
-            }
-        }
-        return false;
+        BitString key = new BitString(19);
+        key.writeUint(hash, 19);
+        return TonHashMap.lookup(cs.loadRef(), 19, key) != null;
     }
 
     public static long methodNameHash(String name) {
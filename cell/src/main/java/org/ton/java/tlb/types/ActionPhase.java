@@ -79,12 +79,12 @@ public class ActionPhase {
                 .statusChange(AccStatusChange.deserialize(cs))
                 .totalFwdFees(cs.loadBit() ? cs.loadCoins() : null)
                 .totalActionFees(cs.loadBit() ? cs.loadCoins() : null)
-                .resultCode(cs.loadUint(32).longValue())
-                .resultArg(cs.loadBit() ? cs.loadUint(32).longValue() : 0)
-                .totalActions(cs.loadUint(16).longValue())
-                .specActions(cs.loadUint(16).longValue())
-                .skippedActions(cs.loadUint(16).longValue())
-                .messagesCreated(cs.loadUint(16).longValue())
+                .resultCode(cs.loadUintLong(32))
+                .resultArg(cs.loadBit() ? cs.loadUintLong(32) : 0)
+                .totalActions(cs.loadUintLong(16))
+                .specActions(cs.loadUintLong(16))
+                .skippedActions(cs.loadUintLong(16))
+                .messagesCreated(cs.loadUintLong(16))
                 .actionListHash(cs.loadUint(256))
                 .totalMsgSize(StorageUsedShort.deserialize(cs))
                 .build();
@@ -31,8 +31,8 @@ public class ActionReserveCurrency implements OutAction {
 
     public static ActionReserveCurrency deserialize(CellSlice cs) {
         return ActionReserveCurrency.builder()
-                .magic(cs.loadUint(32).intValue())
-                .mode(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(32))
+                .mode((int) cs.loadUintLong(8))
                 .currency(CurrencyCollection.deserialize(cs))
                 .build();
     }
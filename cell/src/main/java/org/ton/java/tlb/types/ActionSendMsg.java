@@ -31,8 +31,8 @@ public class ActionSendMsg implements OutAction {
 
     public static ActionSendMsg deserialize(CellSlice cs) {
         return ActionSendMsg.builder()
-                .magic(cs.loadUint(32).intValue())
-                .mode(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(32))
+                .mode((int) cs.loadUintLong(8))
                 .outMsg(MessageRelaxed.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
     }
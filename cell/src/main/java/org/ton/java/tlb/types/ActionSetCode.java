@@ -29,7 +29,7 @@ public class ActionSetCode implements OutAction {
 
     public static ActionSetCode deserialize(CellSlice cs) {
         return ActionSetCode.builder()
-                .magic(cs.loadUint(32).intValue())
+                .magic((int) cs.loadUintLong(32))
                 .newCode(cs.sliceToCell())
                 .build();
     }
@@ -41,12 +41,12 @@ public class Block {
 
     public static Block deserialize(CellSlice cs) {
 
-        long magic = cs.loadUint(32).longValue();
+        long magic = cs.loadUintLong(32);
         assert (magic == 0x11ef55aaL) : "Block: magic not equal to 0x11ef55aa, found 0x" + Long.toHexString(magic);
 
         Block block = Block.builder()
                 .magic(0x11ef55aaL)
-                .globalId(cs.loadInt(32).intValue())
+                .globalId((int) cs.loadIntLong(32))
                 .blockInfo(BlockInfo.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
 
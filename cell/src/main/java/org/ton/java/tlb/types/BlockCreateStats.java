@@ -13,7 +13,7 @@ public interface BlockCreateStats {
     public Cell toCell();
 
     public static BlockCreateStats deserialize(CellSlice cs) {
-        long magic = cs.loadUint(8).longValue();
+        long magic = cs.loadUintLong(8);
         if (magic == 0x17) {
             return BlockCreateStatsOrdinary.deserialize(cs);
         } else if (magic == 0x34) {
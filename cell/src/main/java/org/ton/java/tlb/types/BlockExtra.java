@@ -66,7 +66,7 @@ public class BlockExtra {
         if (cs.isExotic()) {
             return null;
         }
-        long magic = cs.loadUint(32).longValue();
+        long magic = cs.loadUintLong(32);
         assert (magic == 0x4a33f6fdL) : "Block: magic not equal to 0x4a33f6fdL, found 0x" + Long.toHexString(magic);
 
         InMsgDescr inMsgDescr = InMsgDescr.deserialize(CellSlice.beginParse(cs.loadRef()));
@@ -52,10 +52,10 @@ public class BlockIdExt {
 
     public static BlockIdExt deserialize(CellSlice cs) {
         return BlockIdExt.builder()
-                .workchain(cs.loadInt(32).intValue())
-                .shard(cs.loadUint(64).longValue())
+                .workchain((int) cs.loadIntLong(32))
+                .shard(cs.loadUintLong(64))
 //                        .shardId((ShardIdent) cs.loadTlb(ShardIdent.class)) // todo weird - this does not work
-                .seqno(cs.loadUint(32).longValue())
+                .seqno(cs.loadUintLong(32))
                 .rootHash(cs.loadUint(256))
                 .fileHash(cs.loadUint(256))
                 .build();
@@ -53,7 +53,7 @@ public class BlockIdExtShardIdent {
     public static BlockIdExtShardIdent deserialize(CellSlice cs) {
         BlockIdExtShardIdent blockIdExtShardIdent = BlockIdExtShardIdent.builder()
                 .shardId(ShardIdent.deserialize(cs))
-                .seqno(cs.loadUint(32).longValue())
+                .seqno(cs.loadUintLong(32))
                 .rootHash(cs.loadUint(256))
                 .fileHash(cs.loadUint(256))
                 .build();
@@ -114,12 +114,12 @@ public class BlockInfo {
     }
 
     public static BlockInfo deserialize(CellSlice cs) {
-        long magic = cs.loadUint(32).longValue();
+        long magic = cs.loadUintLong(32);
         assert (magic == 0x9bc7a987L) : "BlockInfo: magic not equal to 0x9bc7a987, found 0x" + Long.toHexString(magic);
 
         BlockInfo blockInfo = BlockInfo.builder()
                 .magic(0x9bc7a987L)
-                .version(cs.loadUint(32).longValue())
+                .version(cs.loadUintLong(32))
                 .notMaster(cs.loadBit())
                 .afterMerge(cs.loadBit())
                 .beforeSplit(cs.loadBit())
@@ -128,17 +128,17 @@ public class BlockInfo {
                 .wantMerge(cs.loadBit())
                 .keyBlock(cs.loadBit())
                 .vertSeqnoIncr(cs.loadBit())
-                .flags(cs.loadUint(8).longValue())
-                .seqno(cs.loadUint(32).longValue())
-                .vertSeqno(cs.loadUint(32).longValue())
+                .flags(cs.loadUintLong(8))
+                .seqno(cs.loadUintLong(32))
+                .vertSeqno(cs.loadUintLong(32))
                 .shard(ShardIdent.deserialize(cs))
-                .genuTime(cs.loadUint(32).longValue())
+                .genuTime(cs.loadUintLong(32))
                 .startLt(cs.loadUint(64))
                 .endLt(cs.loadUint(64))
-                .genValidatorListHashShort(cs.loadUint(32).longValue())
-                .genCatchainSeqno(cs.loadUint(32).longValue())
-                .minRefMcSeqno(cs.loadUint(32).longValue())
-                .prevKeyBlockSeqno(cs.loadUint(32).longValue())
+                .genValidatorListHashShort(cs.loadUintLong(32))
+                .genCatchainSeqno(cs.loadUintLong(32))
+                .minRefMcSeqno(cs.loadUintLong(32))
+                .prevKeyBlockSeqno(cs.loadUintLong(32))
                 .build();
         blockInfo.setGlobalVersion(((blockInfo.getFlags() & 0x1L) == 0x1L) ? GlobalVersion.deserialize(cs) : null);
         blockInfo.setMasterRef(blockInfo.isNotMaster() ? ExtBlkRef.deserialize(CellSlice.beginParse(cs.loadRef())) : null);
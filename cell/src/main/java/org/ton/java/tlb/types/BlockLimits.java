@@ -29,7 +29,7 @@ public class BlockLimits {
 
     public static BlockLimits deserialize(CellSlice cs) {
         return BlockLimits.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .bytes(ParamLimits.deserialize(cs))
                 .gas(ParamLimits.deserialize(cs))
                 .ltDelta(ParamLimits.deserialize(cs))
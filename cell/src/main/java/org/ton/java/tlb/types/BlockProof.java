@@ -34,7 +34,7 @@ public class BlockProof {
     }
 
     public static BlockProof deserialize(CellSlice cs) {
-        long magic = cs.loadUint(8).longValue();
+        long magic = cs.loadUintLong(8);
         assert (magic == 0xc3) : "BlockProof: magic not equal to 0xc3, found 0x" + Long.toHexString(magic);
 
         return BlockProof.builder()
@@ -37,7 +37,7 @@ public class BlockSignaturesPure {
 
     public static BlockSignaturesPure deserialize(CellSlice cs) {
         return BlockSignaturesPure.builder()
-                .sigCount(cs.loadUint(32).longValue())
+                .sigCount(cs.loadUintLong(32))
                 .sigWeight(cs.loadUint(64))
                 .signatures(cs.loadDictE(16,
                         k -> k.readUint(16),
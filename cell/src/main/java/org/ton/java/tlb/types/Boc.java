@@ -85,7 +85,7 @@ public class Boc {
     }
 
     public static Boc deserialize(CellSlice cs) {
-        int magic = cs.loadUint(32).intValue();
+        int magic = (int) cs.loadUintLong(32);
         assert (magic == 0xb5ee9c72) : "Boc: magic not equal to 0xb5ee9c72, found 0x" + Integer.toHexString(magic);
         Boc boc = Boc.builder().magic(magic).build();
         boc.setHasIdx(cs.loadBit());
@@ -93,16 +93,16 @@ public class Boc {
         boc.setHasCacheBits(cs.loadBit());
         boc.setHasTopHash(cs.loadBit());
         boc.setHasIntHashes(cs.loadBit());
-        boc.setSize(cs.loadUint(3).intValue());
-        boc.setOffBytes(cs.loadUint(8).intValue());
-        boc.setCells(cs.loadUint(boc.getSize() * 8).intValue());
-        boc.setRoots(cs.loadUint(boc.getSize() * 8).intValue());
-        boc.setAbsent(cs.loadUint(boc.getSize() * 8).intValue());
-        boc.setTotalCellsSize(cs.loadUint(boc.getOffBytes() * 8).intValue());
+        boc.setSize((int) cs.loadUintLong(3));
+        boc.setOffBytes((int) cs.loadUintLong(8));
+        boc.setCells((int) cs.loadUintLong(boc.getSize() * 8));
+        boc.setRoots((int) cs.loadUintLong(boc.getSize() * 8));
+        boc.setAbsent((int) cs.loadUintLong(boc.getSize() * 8));
+        boc.setTotalCellsSize((int) cs.loadUintLong(boc.getOffBytes() * 8));
         boc.setRootList(cs.loadList(boc.getRoots(), boc.getSize() * 8));
         boc.setIndex(boc.isHasIdx() ? cs.loadList(boc.getCells(), boc.getOffBytes() * 8) : null);
         boc.setCellData(cs.loadBytes(boc.getTotalCellsSize() * 8));
-        boc.setCrc32c(boc.isHasCrc32c() ? cs.loadUint(32).longValue() : 0);
+        boc.setCrc32c(boc.isHasCrc32c() ? cs.loadUintLong(32) : 0);
         return boc;
     }
 }
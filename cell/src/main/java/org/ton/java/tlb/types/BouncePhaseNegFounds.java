@@ -26,7 +26,7 @@ public class BouncePhaseNegFounds implements BouncePhase {
     }
 
     public static BouncePhaseNegFounds deserialize(CellSlice cs) {
-        long magic = cs.loadUint(1).intValue(); // review, should be 2
+        long magic = cs.loadUintLong(1); // review, should be 2
         assert (magic == 0b0) : "BouncePhaseNegFounds: magic not equal to 0b0, found 0x" + Long.toHexString(magic);
 
         return BouncePhaseNegFounds.builder().build();
@@ -41,7 +41,7 @@ public class BouncePhaseOk implements BouncePhase {
     }
 
     public static BouncePhaseOk deserialize(CellSlice cs) {
-        long magic = cs.loadUint(1).intValue();
+        long magic = cs.loadUintLong(1);
         assert (magic == 0b1) : "BouncePhaseok: magic not equal to 0b1, found 0x" + Long.toHexString(magic);
 
         return BouncePhaseOk.builder()
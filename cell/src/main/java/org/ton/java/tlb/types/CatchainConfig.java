@@ -10,7 +10,7 @@ public interface CatchainConfig {
     Cell toCell();
 
     static CatchainConfig deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(8).intValue();
+        int magic = (int) cs.preloadUintLong(8);
         if (magic == 0xc1) {
             return CatchainConfigC1.deserialize(cs);
         } else if (magic == 0xc2) {
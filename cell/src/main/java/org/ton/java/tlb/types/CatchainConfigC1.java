@@ -31,11 +31,11 @@ public class CatchainConfigC1 implements CatchainConfig {
 
     public static CatchainConfigC1 deserialize(CellSlice cs) {
         return CatchainConfigC1.builder()
-                .magic(cs.loadUint(8).intValue())
-                .mcCatchainLifetime(cs.loadUint(32).longValue())
-                .shardCatchainLifetime(cs.loadUint(32).longValue())
-                .shardValidatorsLifetime(cs.loadUint(32).longValue())
-                .shardValidatorsNum(cs.loadUint(32).longValue())
+                .magic((int) cs.loadUintLong(8))
+                .mcCatchainLifetime(cs.loadUintLong(32))
+                .shardCatchainLifetime(cs.loadUintLong(32))
+                .shardValidatorsLifetime(cs.loadUintLong(32))
+                .shardValidatorsNum(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -35,13 +35,13 @@ public class CatchainConfigC2 implements CatchainConfig {
 
     public static CatchainConfigC2 deserialize(CellSlice cs) {
         return CatchainConfigC2.builder()
-                .magic(cs.loadUint(8).intValue())
-                .flags(cs.loadUint(7).intValue())
+                .magic((int) cs.loadUintLong(8))
+                .flags((int) cs.loadUintLong(7))
                 .shuffleMcValidators(cs.loadBit())
-                .mcCatchainLifetime(cs.loadUint(32).longValue())
-                .shardCatchainLifetime(cs.loadUint(32).longValue())
-                .shardValidatorsLifetime(cs.loadUint(32).longValue())
-                .shardValidatorsNum(cs.loadUint(32).longValue())
+                .mcCatchainLifetime(cs.loadUintLong(32))
+                .shardCatchainLifetime(cs.loadUintLong(32))
+                .shardValidatorsLifetime(cs.loadUintLong(32))
+                .shardValidatorsNum(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -31,7 +31,7 @@ public class ConfigParams13 {
 
     public static ConfigParams13 deserialize(CellSlice cs) {
         return ConfigParams13.builder()
-                .magic(cs.loadUint(8).longValue())
+                .magic(cs.loadUintLong(8))
                 .deposit(cs.loadCoins())
                 .bitPrice(cs.loadCoins())
                 .cellPrice(cs.loadCoins())
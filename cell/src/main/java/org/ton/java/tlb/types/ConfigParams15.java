@@ -29,10 +29,10 @@ public class ConfigParams15 {
 
     public static ConfigParams15 deserialize(CellSlice cs) {
         return ConfigParams15.builder()
-                .validatorsElectedFor(cs.loadUint(32).longValue())
-                .electionsStartBefore(cs.loadUint(32).longValue())
-                .validatorsElectedFor(cs.loadUint(32).longValue())
-                .stakeHeldFor(cs.loadUint(32).longValue())
+                .validatorsElectedFor(cs.loadUintLong(32))
+                .electionsStartBefore(cs.loadUintLong(32))
+                .validatorsElectedFor(cs.loadUintLong(32))
+                .stakeHeldFor(cs.loadUintLong(32))
                 .build();
     }
 }
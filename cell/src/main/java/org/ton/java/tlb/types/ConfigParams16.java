@@ -27,9 +27,9 @@ public class ConfigParams16 {
 
     public static ConfigParams16 deserialize(CellSlice cs) {
         return ConfigParams16.builder()
-                .maxValidators(cs.loadUint(16).longValue())
-                .maxMainValidators(cs.loadUint(16).longValue())
-                .minValidators(cs.loadUint(16).longValue())
+                .maxValidators(cs.loadUintLong(16))
+                .maxMainValidators(cs.loadUintLong(16))
+                .minValidators(cs.loadUintLong(16))
                 .build();
     }
 }
@@ -34,7 +34,7 @@ public class ConfigParams17 {
                 .minStake(cs.loadCoins())
                 .maxStake(cs.loadCoins())
                 .minTotalStake(cs.loadCoins())
-                .maxStakeFactor(cs.loadUint(32).longValue())
+                .maxStakeFactor(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -23,7 +23,7 @@ public class ConfigParams19 {
 
     public static ConfigParams19 deserialize(CellSlice cs) {
         return ConfigParams19.builder()
-                .globalId(cs.loadUint(32).longValue())
+                .globalId(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -63,18 +63,18 @@ public class ConfigParams40 {
 
     public static ConfigParams40 deserialize(CellSlice cs) {
         return ConfigParams40.builder()
-                .magic(cs.loadUint(8).longValue())
+                .magic(cs.loadUintLong(8))
                 .defaultFlatFine(cs.loadCoins())
-                .defaultProportionalFine(cs.loadUint(32).longValue())
-                .severityFlatMult(cs.loadUint(16).intValue())
-                .severityProportionalMult(cs.loadUint(16).intValue())
-                .unpunishableInterval(cs.loadUint(16).intValue())
-                .longInterval(cs.loadUint(16).intValue())
-                .longFlatMult(cs.loadUint(16).intValue())
-                .longProportionalMult(cs.loadUint(16).intValue())
-                .mediumInterval(cs.loadUint(16).intValue())
-                .mediumFlatMult(cs.loadUint(16).intValue())
-                .mediumProportionalMult(cs.loadUint(16).intValue())
+                .defaultProportionalFine(cs.loadUintLong(32))
+                .severityFlatMult((int) cs.loadUintLong(16))
+                .severityProportionalMult((int) cs.loadUintLong(16))
+                .unpunishableInterval((int) cs.loadUintLong(16))
+                .longInterval((int) cs.loadUintLong(16))
+                .longFlatMult((int) cs.loadUintLong(16))
+                .longProportionalMult((int) cs.loadUintLong(16))
+                .mediumInterval((int) cs.loadUintLong(16))
+                .mediumFlatMult((int) cs.loadUintLong(16))
+                .mediumProportionalMult((int) cs.loadUintLong(16))
                 .build();
     }
 }
@@ -31,7 +31,7 @@ public class ConfigParams45 {
 
     public static ConfigParams45 deserialize(CellSlice cs) {
         return ConfigParams45.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .precompiledContractsList(cs.loadDictE(256,
                         k -> k.readUint(256),
                         v -> PrecompiledSmc.deserialize(CellSlice.beginParse(v))))
@@ -39,15 +39,15 @@ public class ConfigProposalSetup {
 
     public static ConfigProposalSetup deserialize(CellSlice cs) {
         return ConfigProposalSetup.builder()
-                .cfgVoteCfg(cs.loadUint(8).intValue())
-                .minTotRounds(cs.loadUint(8).intValue())
-                .maxTotRounds(cs.loadUint(8).intValue())
-                .minWins(cs.loadUint(8).intValue())
-                .maxLosses(cs.loadUint(8).intValue())
-                .minStoreSec(cs.loadUint(32).intValue())
-                .maxStoreSec(cs.loadUint(32).intValue())
-                .bitPrice(cs.loadUint(32).intValue())
-                .cellPrice(cs.loadUint(32).intValue())
+                .cfgVoteCfg((int) cs.loadUintLong(8))
+                .minTotRounds((int) cs.loadUintLong(8))
+                .maxTotRounds((int) cs.loadUintLong(8))
+                .minWins((int) cs.loadUintLong(8))
+                .maxLosses((int) cs.loadUintLong(8))
+                .minStoreSec((int) cs.loadUintLong(32))
+                .maxStoreSec((int) cs.loadUintLong(32))
+                .bitPrice((int) cs.loadUintLong(32))
+                .cellPrice((int) cs.loadUintLong(32))
                 .build();
     }
 }
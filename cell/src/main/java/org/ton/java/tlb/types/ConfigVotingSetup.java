@@ -27,7 +27,7 @@ public class ConfigVotingSetup {
 
     public static ConfigVotingSetup deserialize(CellSlice cs) {
         return ConfigVotingSetup.builder()
-                .cfgVoteSetup(cs.loadUint(8).intValue())
+                .cfgVoteSetup((int) cs.loadUintLong(8))
                 .normalParams(ConfigProposalSetup.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .criticalParams(ConfigProposalSetup.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
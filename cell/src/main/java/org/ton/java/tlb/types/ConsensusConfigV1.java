@@ -39,15 +39,15 @@ public class ConsensusConfigV1 implements ConsensusConfig {
 
     public static ConsensusConfigV1 deserialize(CellSlice cs) {
         return ConsensusConfigV1.builder()
-                .magic(cs.loadUint(8).intValue())
-                .roundCandidates(cs.loadUint(32).intValue())
-                .nextCandidateDelayMs(cs.loadUint(32).longValue())
-                .consensusTimeoutMs(cs.loadUint(32).longValue())
-                .fastAttempts(cs.loadUint(32).longValue())
-                .attemptDuration(cs.loadUint(32).longValue())
-                .catchainNaxDeps(cs.loadUint(32).longValue())
-                .maxBlockBytes(cs.loadUint(32).longValue())
-                .maxCollatedBytes(cs.loadUint(32).longValue())
+                .magic((int) cs.loadUintLong(8))
+                .roundCandidates((int) cs.loadUintLong(32))
+                .nextCandidateDelayMs(cs.loadUintLong(32))
+                .consensusTimeoutMs(cs.loadUintLong(32))
+                .fastAttempts(cs.loadUintLong(32))
+                .attemptDuration(cs.loadUintLong(32))
+                .catchainNaxDeps(cs.loadUintLong(32))
+                .maxBlockBytes(cs.loadUintLong(32))
+                .maxCollatedBytes(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -45,18 +45,18 @@ public class ConsensusConfigV3 implements ConsensusConfig {
 
     public static ConsensusConfigV3 deserialize(CellSlice cs) {
         return ConsensusConfigV3.builder()
-                .magic(cs.loadUint(8).intValue())
-                .flags(cs.loadUint(7).intValue())
+                .magic((int) cs.loadUintLong(8))
+                .flags((int) cs.loadUintLong(7))
                 .newCatchainIds(cs.loadBit())
-                .roundCandidates(cs.loadUint(32).intValue())
-                .nextCandidateDelayMs(cs.loadUint(32).longValue())
-                .consensusTimeoutMs(cs.loadUint(32).longValue())
-                .fastAttempts(cs.loadUint(32).longValue())
-                .attemptDuration(cs.loadUint(32).longValue())
-                .catchainNaxDeps(cs.loadUint(32).longValue())
-                .maxBlockBytes(cs.loadUint(32).longValue())
-                .maxCollatedBytes(cs.loadUint(32).longValue())
-                .protoVersion(cs.loadUint(16).intValue())
+                .roundCandidates((int) cs.loadUintLong(32))
+                .nextCandidateDelayMs(cs.loadUintLong(32))
+                .consensusTimeoutMs(cs.loadUintLong(32))
+                .fastAttempts(cs.loadUintLong(32))
+                .attemptDuration(cs.loadUintLong(32))
+                .catchainNaxDeps(cs.loadUintLong(32))
+                .maxBlockBytes(cs.loadUintLong(32))
+                .maxCollatedBytes(cs.loadUintLong(32))
+                .protoVersion((int) cs.loadUintLong(16))
                 .build();
     }
 }
@@ -47,19 +47,19 @@ public class ConsensusConfigV4 implements ConsensusConfig {
 
     public static ConsensusConfigV4 deserialize(CellSlice cs) {
         return ConsensusConfigV4.builder()
-                .magic(cs.loadUint(8).intValue())
-                .flags(cs.loadUint(7).intValue())
+                .magic((int) cs.loadUintLong(8))
+                .flags((int) cs.loadUintLong(7))
                 .newCatchainIds(cs.loadBit())
-                .roundCandidates(cs.loadUint(32).intValue())
-                .nextCandidateDelayMs(cs.loadUint(32).longValue())
-                .consensusTimeoutMs(cs.loadUint(32).longValue())
-                .fastAttempts(cs.loadUint(32).longValue())
-                .attemptDuration(cs.loadUint(32).longValue())
-                .catchainNaxDeps(cs.loadUint(32).longValue())
-                .maxBlockBytes(cs.loadUint(32).longValue())
-                .maxCollatedBytes(cs.loadUint(32).longValue())
-                .protoVersion(cs.loadUint(16).intValue())
-                .catchainMaxBlocksCoeff(cs.loadUint(32).longValue())
+                .roundCandidates((int) cs.loadUintLong(32))
+                .nextCandidateDelayMs(cs.loadUintLong(32))
+                .consensusTimeoutMs(cs.loadUintLong(32))
+                .fastAttempts(cs.loadUintLong(32))
+                .attemptDuration(cs.loadUintLong(32))
+                .catchainNaxDeps(cs.loadUintLong(32))
+                .maxBlockBytes(cs.loadUintLong(32))
+                .maxCollatedBytes(cs.loadUintLong(32))
+                .protoVersion((int) cs.loadUintLong(16))
+                .catchainMaxBlocksCoeff(cs.loadUintLong(32))
                 .build();
     }
 }
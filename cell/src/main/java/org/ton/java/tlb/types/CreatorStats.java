@@ -31,7 +31,7 @@ public class CreatorStats {
     }
 
     public static CreatorStats deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).longValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0x4) : "CreatorStats: magic not equal to 0x4, found 0x" + Long.toHexString(magic);
 
         return CreatorStats.builder()
@@ -31,7 +31,7 @@ public class CryptoSignature {
     }
 
     public static CryptoSignature deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).longValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0x5) : "CryptoSignature: magic not equal to 0x5, found 0x" + Long.toHexString(magic);
 
         return CryptoSignature.builder()
@@ -29,7 +29,7 @@ public class DepthBalanceInfo {
 
     public static DepthBalanceInfo deserialize(CellSlice cs) {
         return DepthBalanceInfo.builder()
-                .depth(cs.loadUint(5).intValue()) // tlb #<= 60
+                .depth((int) cs.loadUintLong(5)) // tlb #<= 60
                 .currencies(CurrencyCollection.deserialize(cs))
                 .build();
     }
@@ -47,7 +47,7 @@ public class ExtBlkRef {
     public static ExtBlkRef deserialize(CellSlice cs) {
         return ExtBlkRef.builder()
                 .endLt(cs.loadUint(64))
-                .seqno(cs.loadUint(32).intValue())
+                .seqno((int) cs.loadUintLong(32))
                 .rootHash(cs.loadUint(256))
                 .fileHash(cs.loadUint(256))
                 .build();
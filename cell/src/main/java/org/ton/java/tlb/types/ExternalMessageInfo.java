@@ -45,7 +45,7 @@ public class ExternalMessageInfo implements CommonMsgInfo {
     }
 
     public static ExternalMessageInfo deserialize(CellSlice cs) {
-        long magic = cs.loadUint(2).intValue();
+        long magic = cs.loadUintLong(2);
         assert (magic == 0b10) : "ExternalMessage: magic not equal to 0b10, found 0b" + Long.toBinaryString(magic);
         return ExternalMessageInfo.builder()
                 .magic(magic)
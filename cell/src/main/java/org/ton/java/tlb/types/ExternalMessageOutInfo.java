@@ -46,14 +46,14 @@ public class ExternalMessageOutInfo implements CommonMsgInfo {
     }
 
     public static ExternalMessageOutInfo deserialize(CellSlice cs) {
-        long magic = cs.loadUint(2).intValue();
+        long magic = cs.loadUintLong(2);
         assert (magic == 0b11) : "ExternalMessageOut: magic not equal to 0b11, found 0b" + Long.toBinaryString(magic);
         return ExternalMessageOutInfo.builder()
                 .magic(magic)
                 .srcAddr(MsgAddressInt.deserialize(cs))
                 .dstAddr(MsgAddressExt.deserialize(cs))
                 .createdLt(cs.loadUint(64))
-                .createdAt(cs.loadUint(32).longValue())
+                .createdAt(cs.loadUintLong(32))
                 .build();
     }
 }
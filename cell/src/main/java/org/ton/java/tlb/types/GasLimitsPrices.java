@@ -9,7 +9,7 @@ public interface GasLimitsPrices {
 
 
     static GasLimitsPrices deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(8).intValue();
+        int magic = (int) cs.preloadUintLong(8);
 
         if (magic == 0xdd) {
             return GasLimitsPricesOrdinary.deserialize(cs);
@@ -39,7 +39,7 @@ public class GasLimitsPricesExt implements GasLimitsPrices {
 
     public static GasLimitsPricesExt deserialize(CellSlice cs) {
         return GasLimitsPricesExt.builder()
-                .magic(cs.loadUint(8).longValue())
+                .magic(cs.loadUintLong(8))
                 .gasPrice(cs.loadUint(64))
                 .gasLimit(cs.loadUint(64))
                 .specialGasLimit(cs.loadUint(64))
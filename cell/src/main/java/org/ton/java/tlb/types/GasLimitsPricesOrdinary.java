@@ -37,7 +37,7 @@ public class GasLimitsPricesOrdinary implements GasLimitsPrices {
 
     public static GasLimitsPricesOrdinary deserialize(CellSlice cs) {
         return GasLimitsPricesOrdinary.builder()
-                .magic(cs.loadUint(8).longValue())
+                .magic(cs.loadUintLong(8))
                 .gasPrice(cs.loadUint(64))
                 .gasLimit(cs.loadUint(64))
                 .gasCredit(cs.loadUint(64))
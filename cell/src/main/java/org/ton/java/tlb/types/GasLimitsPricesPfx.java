@@ -31,7 +31,7 @@ public class GasLimitsPricesPfx implements GasLimitsPrices {
 
     public static GasLimitsPricesPfx deserialize(CellSlice cs) {
         return GasLimitsPricesPfx.builder()
-                .magic(cs.loadUint(8).longValue())
+                .magic(cs.loadUintLong(8))
                 .flatGasLimit(cs.loadUint(64))
                 .flatGasPrice(cs.loadUint(64))
                 .other(GasLimitsPrices.deserialize(cs))
@@ -20,7 +20,7 @@ public interface InMsg {
     public Cell toCell();
 
     public static InMsg deserialize(CellSlice cs) {
-        int inMsgFlag = cs.loadUint(3).intValue();
+        int inMsgFlag = (int) cs.loadUintLong(3);
         switch (inMsgFlag) {
             case 0b000: {
                 return InMsgImportExt.builder()
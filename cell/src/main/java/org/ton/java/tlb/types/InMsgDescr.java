@@ -39,6 +39,19 @@ public class InMsgDescr {
                 .build();
     }
 
+    /**
+     * Loads messages in parallel, splitting the dictionary at forks of the first splitDepth levels
+     */
+    public static InMsgDescr deserialize(CellSlice cs, int splitDepth) {
+        return InMsgDescr.builder()
+                .inMsg(cs.loadDictAugE(256,
+                        k -> k.readInt(256),
+                        InMsg::deserialize,
+                        ImportFees::deserialize,
+                        splitDepth))
+                .build();
+    }
+
     public long getCount() {
         return inMsg.elements.size();
     }
@@ -16,17 +16,17 @@ public interface IntermediateAddress {
     static IntermediateAddress deserialize(CellSlice cs) {
         if (!cs.loadBit()) {
             return IntermediateAddressRegular.builder()
-                    .use_dest_bits(cs.loadUint(7).intValue())
+                    .use_dest_bits((int) cs.loadUintLong(7))
                     .build();
         }
         if (!cs.loadBit()) {
             return IntermediateAddressSimple.builder()
-                    .workchainId(cs.loadUint(8).intValue())
+                    .workchainId((int) cs.loadUintLong(8))
                     .addrPfx(cs.loadUint(64))
                     .build();
         }
         return IntermediateAddressExt.builder()
-                .workchainId(cs.loadUint(32).intValue())
+                .workchainId((int) cs.loadUintLong(32))
                 .addrPfx(cs.loadUint(64))
                 .build();
     }
@@ -69,7 +69,7 @@ public class InternalMessageInfo implements CommonMsgInfo {
     }
 
     public static InternalMessageInfo deserialize(CellSlice cs) {
-        int magic = cs.loadUint(1).intValue();
+        int magic = (int) cs.loadUintLong(1);
         assert (magic == 0b0) : "InternalMessage: magic not equal to 0b0, found " + magic;
 
         return InternalMessageInfo.builder()
@@ -83,7 +83,7 @@ public class InternalMessageInfo implements CommonMsgInfo {
                 .iHRFee(cs.loadCoins())
                 .fwdFee(cs.loadCoins())
                 .createdLt(cs.loadUint(64))
-                .createdAt(cs.loadUint(32).longValue())
+                .createdAt(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -83,7 +83,7 @@ public class InternalMessageInfoRelaxed implements CommonMsgInfoRelaxed {
                 .iHRFee(cs.loadCoins())
                 .fwdFee(cs.loadCoins())
                 .createdLt(cs.loadUint(64))
-                .createdAt(cs.loadUint(32).longValue())
+                .createdAt(cs.loadUintLong(32))
                 .build();
     }
 }
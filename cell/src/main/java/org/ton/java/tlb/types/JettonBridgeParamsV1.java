@@ -40,13 +40,13 @@ public class JettonBridgeParamsV1 implements JettonBridgeParams {
 
     public static JettonBridgeParamsV1 deserialize(CellSlice cs) {
         return JettonBridgeParamsV1.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .bridgeAddress(cs.loadAddress())
                 .oracleAddress(cs.loadAddress())
                 .oracles(cs.loadDictE(256,
                         k -> k.readUint(256),
                         v -> CellSlice.beginParse(v).loadUint(256)))
-                .stateFlags(cs.loadUint(8).intValue())
+                .stateFlags((int) cs.loadUintLong(8))
                 .burnBridgeFee(cs.loadCoins())
                 .build();
     }
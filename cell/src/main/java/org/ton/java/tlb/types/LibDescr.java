@@ -37,7 +37,7 @@ public class LibDescr {
     }
 
     public static LibDescr deserialize(CellSlice cs) {
-        long magic = cs.loadUint(2).longValue();
+        long magic = cs.loadUintLong(2);
         assert (magic == 0b00) : "LibDescr: magic not equal to 0b00, found 0x" + Long.toHexString(magic);
         return LibDescr.builder()
                 .magic(0b00)
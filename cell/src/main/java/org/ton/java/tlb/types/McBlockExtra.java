@@ -59,7 +59,7 @@ public class McBlockExtra {
     }
 
     public static McBlockExtra deserialize(CellSlice cs) {
-        long magic = cs.loadUint(16).longValue();
+        long magic = cs.loadUintLong(16);
         assert (magic == 0xcca5L) : "McBlockExtra: magic not equal to 0xcca5, found 0x" + Long.toHexString(magic);
 
         boolean keyBlock = cs.loadBit();
@@ -24,7 +24,7 @@ public interface MsgAddress {
 
     static MsgAddress deserialize(CellSlice cs) {
 
-        int magic = cs.preloadUint(2).intValue();
+        int magic = (int) cs.preloadUintLong(2);
         switch (magic) {
             case 0b00: {
                 cs.loadInt(2);
@@ -15,7 +15,7 @@ public interface MsgAddressExt extends MsgAddress {
     Cell toCell();
 
     static MsgAddressExt deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(2).intValue();
+        int magic = (int) cs.preloadUintLong(2);
 
         if (magic == 0b00) {
             return MsgAddressExtNone.deserialize(cs);
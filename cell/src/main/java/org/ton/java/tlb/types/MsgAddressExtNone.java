@@ -28,7 +28,7 @@ public class MsgAddressExtNone implements MsgAddressExt {
     }
 
     public static MsgAddressExtNone deserialize(CellSlice cs) {
-        int magic = cs.loadUint(2).intValue();
+        int magic = (int) cs.loadUintLong(2);
         assert (magic == 0b00) : "MsgAddressExtNone: magic not equal to 0b00, found " + magic;
 
         return MsgAddressExtNone.builder()
@@ -16,7 +16,7 @@ public interface MsgAddressInt extends MsgAddress {
     Address toAddress();
 
     static MsgAddressInt deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(2).intValue();
+        int magic = (int) cs.preloadUintLong(2);
         switch (magic) {
             case 0b10: {
                 return MsgAddressIntStd.deserialize(cs);
@@ -49,7 +49,7 @@ public class MsgAddressIntStd implements MsgAddressInt {
     }
 
     public static MsgAddressIntStd deserialize(CellSlice cs) {
-        int magic = cs.loadUint(2).intValue();
+        int magic = (int) cs.loadUintLong(2);
         assert (magic == 0b10) : "MsgAddressIntStd: magic not equal to 0b10, found " + magic;
 
         Anycast anycast = null;
@@ -59,7 +59,7 @@ public class MsgAddressIntStd implements MsgAddressInt {
         return MsgAddressIntStd.builder()
                 .magic(magic)
                 .anycast(anycast)
-                .workchainId(cs.loadInt(8).byteValue())
+                .workchainId((byte) cs.loadIntLong(8))
                 .address(cs.loadUint(256))
                 .build();
     }
@@ -43,7 +43,7 @@ public class MsgEnvelope {
     }
 
     public static MsgEnvelope deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).longValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 4) : "MsgEnvelope: magic not equal to 4, found 0x" + Long.toHexString(magic);
 
         return MsgEnvelope.builder()
@@ -37,13 +37,13 @@ public class MsgForwardPrices {
 
     public static MsgForwardPrices deserialize(CellSlice cs) {
         return MsgForwardPrices.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .lumpPrice(cs.loadUint(64))
                 .bitPrice(cs.loadUint(64))
                 .cellPrice(cs.loadUint(64))
-                .ihrPriceFactor(cs.loadUint(32).longValue())
-                .firstFrac(cs.loadUint(16).intValue())
-                .nextFrac(cs.loadUint(16).intValue())
+                .ihrPriceFactor(cs.loadUintLong(32))
+                .firstFrac((int) cs.loadUintLong(16))
+                .nextFrac((int) cs.loadUintLong(16))
                 .build();
     }
 }
@@ -8,7 +8,7 @@ public interface OutAction {
     Cell toCell();
 
     static OutAction deserialize(CellSlice cs) {
-        long magic = cs.preloadUint(32).longValue();
+        long magic = cs.preloadUintLong(32);
         if (magic == 0x0ec3c86dL) {
             return ActionSendMsg.deserialize(cs);
         } else if (magic == 0xad4de08eL) { // negative long
@@ -32,7 +32,7 @@ public interface OutMsg {
     Cell toCell();
 
     static OutMsg deserialize(CellSlice cs) {
-        int outMsgFlag = cs.loadUint(3).intValue();
+        int outMsgFlag = (int) cs.loadUintLong(3);
         switch (outMsgFlag) {
             case 0b000: {
                 return OutMsgExt.builder()
@@ -76,7 +76,7 @@ public interface OutMsg {
                 if (outMsgSubFlag) {
                     return OutMsgDeqShort.builder()
                             .msgEnvHash(cs.loadUint(256))
-                            .nextWorkchain(cs.loadInt(32).longValue())
+                            .nextWorkchain(cs.loadIntLong(32))
                             .nextAddrPfx(cs.loadUint(64))
                             .importBlockLt(cs.loadUint(64))
                             .build();
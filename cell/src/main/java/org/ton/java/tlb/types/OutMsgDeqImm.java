@@ -32,7 +32,7 @@ public class OutMsgDeqImm implements OutMsg {
 
     public static OutMsgDeqImm deserialize(CellSlice cs) {
         return OutMsgDeqImm.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .msg(MsgEnvelope.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .reimport(InMsg.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
@@ -41,9 +41,9 @@ public class OutMsgDeqShort implements OutMsg {
 
     public static OutMsgDeqShort deserialize(CellSlice cs) {
         return OutMsgDeqShort.builder()
-                .magic(cs.loadUint(4).intValue())
+                .magic((int) cs.loadUintLong(4))
                 .msgEnvHash(cs.loadUint(256))
-                .nextWorkchain(cs.loadInt(32).longValue())
+                .nextWorkchain(cs.loadIntLong(32))
                 .nextAddrPfx(cs.loadUint(64))
                 .importBlockLt(cs.loadUint(64))
                 .build();
@@ -39,6 +39,19 @@ public class OutMsgDescr {
                 .build();
     }
 
+    /**
+     * Loads messages in parallel, splitting the dictionary at forks of the first splitDepth levels
+     */
+    public static OutMsgDescr deserialize(CellSlice cs, int splitDepth) {
+        return OutMsgDescr.builder()
+                .outMsg(cs.loadDictAugE(256,
+                        k -> k.readInt(256),
+                        v -> OutMsg.deserialize(v),
+                        e -> CurrencyCollection.deserialize(e),
+                        splitDepth))
+                .build();
+    }
+
     public long getCount() {
         return outMsg.elements.size();
     }
@@ -32,7 +32,7 @@ public class OutMsgExt implements OutMsg {
 
     public static OutMsgExt deserialize(CellSlice cs) {
         return OutMsgExt.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .msg(Message.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .transaction(Transaction.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
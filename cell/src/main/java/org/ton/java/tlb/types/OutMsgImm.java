@@ -34,7 +34,7 @@ public class OutMsgImm implements OutMsg {
 
     public static OutMsgImm deserialize(CellSlice cs) {
         return OutMsgImm.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .msg(MsgEnvelope.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .transaction(Transaction.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .reimport(InMsg.deserialize(CellSlice.beginParse(cs.loadRef())))
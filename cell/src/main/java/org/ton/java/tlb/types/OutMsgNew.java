@@ -32,7 +32,7 @@ public class OutMsgNew implements OutMsg {
 
     public static OutMsgNew deserialize(CellSlice cs) {
         return OutMsgNew.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .outMsg(MsgEnvelope.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .transaction(Transaction.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
@@ -32,7 +32,7 @@ public class OutMsgTr implements OutMsg {
 
     public static OutMsgTr deserialize(CellSlice cs) {
         return OutMsgTr.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .outMsg(MsgEnvelope.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .imported(InMsg.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
@@ -32,7 +32,7 @@ public class OutMsgTrReq implements OutMsg {
 
     public static OutMsgTrReq deserialize(CellSlice cs) {
         return OutMsgTrReq.builder()
-                .magic(cs.loadUint(3).intValue())
+                .magic((int) cs.loadUintLong(3))
                 .msg(MsgEnvelope.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .imported(InMsg.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
@@ -27,9 +27,9 @@ public class ParamLimits {
 
     public static ParamLimits deserialize(CellSlice cs) {
         return ParamLimits.builder()
-                .magic(cs.loadUint(8).intValue())
-                .underload(cs.loadUint(32).intValue())
-                .softLimit(cs.loadUint(32).intValue())
+                .magic((int) cs.loadUintLong(8))
+                .underload((int) cs.loadUintLong(32))
+                .softLimit((int) cs.loadUintLong(32))
                 .build();
     }
 }
@@ -27,7 +27,7 @@ public class PrecompiledSmc {
 
     public static PrecompiledSmc deserialize(CellSlice cs) {
         return PrecompiledSmc.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .gasUsage(cs.loadUint(64))
                 .build();
     }
@@ -37,4 +37,17 @@ public class ShardAccounts {
                         e -> DepthBalanceInfo.deserialize(e)))
                 .build();
     }
+
+    /**
+     * Loads accounts in parallel, splitting the dictionary at forks of the first splitDepth levels
+     */
+    public static ShardAccounts deserialize(CellSlice cs, int splitDepth) {
+        return ShardAccounts.builder()
+                .shardAccounts(CellSlice.beginParse(cs).loadDictAugE(256,
+                        k -> k.readInt(256),
+                        v -> ShardAccount.deserialize(v),
+                        e -> DepthBalanceInfo.deserialize(e),
+                        splitDepth))
+                .build();
+    }
 }
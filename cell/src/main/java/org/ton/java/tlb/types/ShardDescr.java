@@ -147,12 +147,12 @@ public class ShardDescr {
     }
 
     public static ShardDescr deserialize(CellSlice cs) {
-        long magic = cs.loadUint(8).intValue();
+        long magic = cs.loadUintLong(8);
         if (magic == 0xB) {
             return ShardDescr.builder()
                     .magic(0xb)
-                    .seqNo(cs.loadUint(32).longValue())
-                    .regMcSeqno(cs.loadUint(32).longValue())
+                    .seqNo(cs.loadUintLong(32))
+                    .regMcSeqno(cs.loadUintLong(32))
                     .startLt(cs.loadUint(64))
                     .endLt(cs.loadUint(64))
                     .rootHash(cs.loadUint(64))
@@ -162,11 +162,11 @@ public class ShardDescr {
                     .wantSplit(cs.loadBit())
                     .wantMerge(cs.loadBit())
                     .nXCCUpdated(cs.loadBit())
-                    .flags(cs.loadUint(3).intValue())
-                    .nextCatchainSeqNo(cs.loadUint(32).longValue())
+                    .flags((int) cs.loadUintLong(3))
+                    .nextCatchainSeqNo(cs.loadUintLong(32))
                     .nextValidatorShard(cs.loadUint(64))
-                    .minRefMcSeqNo(cs.loadUint(32).longValue())
-                    .genUTime(cs.loadUint(32).longValue())
+                    .minRefMcSeqNo(cs.loadUintLong(32))
+                    .genUTime(cs.loadUintLong(32))
                     .splitMergeAt(FutureSplitMerge.deserialize(cs))
                     .feesCollected(CurrencyCollection.deserialize(cs))
                     .fundsCreated(CurrencyCollection.deserialize(cs))
@@ -175,8 +175,8 @@ public class ShardDescr {
         if (magic == 0xA) {
             return ShardDescr.builder()
                     .magic(0xb)
-                    .seqNo(cs.loadUint(32).longValue())
-                    .regMcSeqno(cs.loadUint(32).longValue())
+                    .seqNo(cs.loadUintLong(32))
+                    .regMcSeqno(cs.loadUintLong(32))
                     .startLt(cs.loadUint(64))
                     .endLt(cs.loadUint(64))
                     .rootHash(cs.loadUint(64))
@@ -186,11 +186,11 @@ public class ShardDescr {
                     .wantSplit(cs.loadBit())
                     .wantMerge(cs.loadBit())
                     .nXCCUpdated(cs.loadBit())
-                    .flags(cs.loadUint(3).intValue())
-                    .nextCatchainSeqNo(cs.loadUint(32).longValue())
+                    .flags((int) cs.loadUintLong(3))
+                    .nextCatchainSeqNo(cs.loadUintLong(32))
                     .nextValidatorShard(cs.loadUint(64))
-                    .minRefMcSeqNo(cs.loadUint(32).longValue())
-                    .genUTime(cs.loadUint(32).longValue())
+                    .minRefMcSeqNo(cs.loadUintLong(32))
+                    .genUTime(cs.loadUintLong(32))
                     .splitMergeAt(FutureSplitMerge.deserialize(cs))
                     .refInfoA(cs.loadRef()) // minor todo
                     .build();
@@ -42,12 +42,12 @@ public class ShardIdent {
     }
 
     public static ShardIdent deserialize(CellSlice cs) {
-        long magic = cs.loadUint(2).longValue();
+        long magic = cs.loadUintLong(2);
         assert (magic == 0b00) : "ShardIdent: magic not equal to 0b00, found 0b" + Long.toBinaryString(magic);
         ShardIdent s = ShardIdent.builder()
                 .magic(0L)
-                .prefixBits(cs.loadUint(6).longValue())
-                .workchain(cs.loadInt(32).intValue())
+                .prefixBits(cs.loadUintLong(6))
+                .workchain((int) cs.loadIntLong(32))
                 .shardPrefix(cs.loadUint(64))
                 .build();
         return s;
@@ -46,7 +46,7 @@ public class ShardState {
     }
 
     public static ShardState deserialize(CellSlice cs) {
-        long tag = cs.preloadUint(32).longValue();
+        long tag = cs.preloadUintLong(32);
         if (tag == 0x5f327da5L) {
             ShardStateUnsplit left, right;
             left = ShardStateUnsplit.deserialize(CellSlice.beginParse(cs.loadRef()));
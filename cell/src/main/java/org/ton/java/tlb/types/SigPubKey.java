@@ -30,7 +30,7 @@ public class SigPubKey {
 
     public static SigPubKey deserialize(CellSlice cs) {
         return SigPubKey.builder()
-                .magic(cs.loadUint(32).longValue())
+                .magic(cs.loadUintLong(32))
                 .pubkey(cs.loadUint(256))
                 .build();
     }
@@ -9,7 +9,7 @@ public interface SizeLimitsConfig {
     Cell toCell();
 
     static SizeLimitsConfig deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(8).intValue();
+        int magic = (int) cs.preloadUintLong(8);
         if (magic == 0x01) {
             return SizeLimitsConfigV1.deserialize(cs);
         } else if (magic == 0x02) {
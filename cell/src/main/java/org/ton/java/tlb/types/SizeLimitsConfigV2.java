@@ -39,15 +39,15 @@ public class SizeLimitsConfigV2 implements SizeLimitsConfig {
 
     public static SizeLimitsConfigV2 deserialize(CellSlice cs) {
         return SizeLimitsConfigV2.builder()
-                .magic(cs.loadUint(8).intValue())
-                .maxMsgBits(cs.loadUint(32).longValue())
-                .maxMsgCells(cs.loadUint(32).longValue())
-                .maxLibraryCells(cs.loadUint(32).longValue())
-                .maxVmDataDepth(cs.loadUint(32).intValue())
-                .maxExtMsgSize(cs.loadUint(32).longValue())
-                .maxExtMsgDepth(cs.loadUint(32).intValue())
-                .maxAccStateCells(cs.loadUint(32).longValue())
-                .maxAccStateBits(cs.loadUint(32).longValue())
+                .magic((int) cs.loadUintLong(8))
+                .maxMsgBits(cs.loadUintLong(32))
+                .maxMsgCells(cs.loadUintLong(32))
+                .maxLibraryCells(cs.loadUintLong(32))
+                .maxVmDataDepth((int) cs.loadUintLong(32))
+                .maxExtMsgSize(cs.loadUintLong(32))
+                .maxExtMsgDepth((int) cs.loadUintLong(32))
+                .maxAccStateCells(cs.loadUintLong(32))
+                .maxAccStateBits(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -39,8 +39,8 @@ public class SplitMergeInfo {
 
     public static SplitMergeInfo deserialize(CellSlice cs) {
         return SplitMergeInfo.builder()
-                .curShardPfxLen(cs.loadUint(6).intValue())
-                .accSplitDepth(cs.loadUint(6).intValue())
+                .curShardPfxLen((int) cs.loadUintLong(6))
+                .accSplitDepth((int) cs.loadUintLong(6))
                 .thisAddr(cs.loadUint(256))
                 .siblingAddr(cs.loadUint(256))
                 .build();
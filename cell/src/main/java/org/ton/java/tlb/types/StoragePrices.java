@@ -36,8 +36,8 @@ public class StoragePrices {
 
     public static StoragePrices deserialize(CellSlice cs) {
         return StoragePrices.builder()
-                .magic(cs.loadUint(8).longValue())
-                .utimeSince(cs.loadUint(32).longValue())
+                .magic(cs.loadUintLong(8))
+                .utimeSince(cs.loadUintLong(32))
                 .bitPricePs(cs.loadUint(64))
                 .cellPricePs(cs.loadUint(64))
                 .mcBitPricePs(cs.loadUint(64))
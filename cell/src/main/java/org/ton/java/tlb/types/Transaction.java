@@ -88,7 +88,7 @@ public class Transaction {
     }
 
     public static Transaction deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0111) : "Transaction: magic not equal to 0b0111, found 0b" + Long.toBinaryString(magic);
 
         Transaction tx = Transaction.builder()
@@ -97,10 +97,10 @@ public class Transaction {
                 .lt(cs.loadUint(64))
                 .prevTxHash(cs.loadUint(256))
                 .prevTxLt(cs.loadUint(64))
-                .now(cs.loadUint(32).longValue())
-                .outMsgCount(cs.loadUint(15).intValue())
-                .origStatus(deserializeAccountState(cs.loadUint(2).byteValue()))
-                .endStatus(deserializeAccountState(cs.loadUint(2).byteValueExact()))
+                .now(cs.loadUintLong(32))
+                .outMsgCount((int) cs.loadUintLong(15))
+                .origStatus(deserializeAccountState((byte) cs.loadUintLong(2)))
+                .endStatus(deserializeAccountState((byte) cs.loadUintLong(2)))
                 .build();
 
         CellSlice inOutMsgs = CellSlice.beginParse(cs.loadRef());
@@ -32,7 +32,7 @@ public class TransactionDescription {
     }
 
     public static TransactionDescription deserialize(CellSlice cs) {
-        int pfx = cs.preloadUint(3).intValue();
+        int pfx = (int) cs.preloadUintLong(3);
         switch (pfx) {
             case 0b000: {
                 boolean isStorage = cs.preloadBit();
@@ -41,7 +41,7 @@ public class TransactionDescriptionMergePrepare {
     }
 
     public static TransactionDescriptionMergePrepare deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0110) : "TransactionDescriptionMergePrepare: magic not equal to 0b0110, found 0x" + Long.toHexString(magic);
 
         return TransactionDescriptionMergePrepare.builder()
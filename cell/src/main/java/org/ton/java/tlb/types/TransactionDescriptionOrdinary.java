@@ -54,7 +54,7 @@ public class TransactionDescriptionOrdinary {
     }
 
     public static TransactionDescriptionOrdinary deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0000) : "TransactionDescriptionOrdinary: magic not equal to 0b0000, found 0x" + Long.toHexString(magic);
 
         return TransactionDescriptionOrdinary.builder()
@@ -38,7 +38,7 @@ public class TransactionDescriptionSplitInstall {
     }
 
     public static TransactionDescriptionSplitInstall deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0101) : "TransactionDescriptionSplitInstall: magic not equal to 0b0101, found 0x" + Long.toHexString(magic);
 
         return TransactionDescriptionSplitInstall.builder()
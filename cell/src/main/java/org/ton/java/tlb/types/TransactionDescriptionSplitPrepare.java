@@ -47,7 +47,7 @@ public class TransactionDescriptionSplitPrepare {
     }
 
     public static TransactionDescriptionSplitPrepare deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0100) : "TransactionDescriptionSplitPrepare: magic not equal to 0b0100, found 0x" + Long.toHexString(magic);
         return TransactionDescriptionSplitPrepare.builder()
                 .magic(0b0100)
@@ -33,7 +33,7 @@ public class TransactionDescriptionStorage {
     }
 
     public static TransactionDescriptionStorage deserialize(CellSlice cs) {
-        long magic = cs.loadUint(4).intValue();
+        long magic = cs.loadUintLong(4);
         assert (magic == 0b0001) : "TransactionDescriptionStorage: magic not equal to 0b0001, found 0x" + Long.toHexString(magic);
 
         return TransactionDescriptionStorage.builder()
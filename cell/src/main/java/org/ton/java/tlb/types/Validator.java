@@ -34,7 +34,7 @@ public class Validator implements ValidatorDescr {
 
     public static ValidatorAddr deserialize(CellSlice cs) {
         return ValidatorAddr.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .publicKey(SigPubKey.deserialize(cs))
                 .weight(cs.loadUint(64))
                 .build();
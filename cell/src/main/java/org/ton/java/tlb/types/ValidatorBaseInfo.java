@@ -32,8 +32,8 @@ public class ValidatorBaseInfo {
 
     public static ValidatorBaseInfo deserialize(CellSlice cs) {
         return ValidatorBaseInfo.builder()
-                .validatorListHashShort(cs.loadUint(32).longValue())
-                .catchainSeqno(cs.loadUint(32).longValue())
+                .validatorListHashShort(cs.loadUintLong(32))
+                .catchainSeqno(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -12,7 +12,7 @@ public interface ValidatorDescr {
     Cell toCell();
 
     static ValidatorDescr deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(8).intValue();
+        int magic = (int) cs.preloadUintLong(8);
         if (magic == 0x53) {
             return Validator.deserialize(cs);
         } else if (magic == 0x73) {
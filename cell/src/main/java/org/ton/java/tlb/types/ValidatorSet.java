@@ -16,7 +16,7 @@ public interface ValidatorSet {
     Cell toCell();
 
     static ValidatorSet deserialize(CellSlice cs) {
-        int magic = cs.preloadUint(8).intValue();
+        int magic = (int) cs.preloadUintLong(8);
         if (magic == 0x53) {
             return Validators.deserialize(cs);
         } else if (magic == 0x73) {
@@ -27,7 +27,7 @@ public class ValidatorSignedTempKey {
 
     public static ValidatorSignedTempKey deserialize(CellSlice cs) {
         return ValidatorSignedTempKey.builder()
-                .magic(cs.loadUint(4).intValue())
+                .magic((int) cs.loadUintLong(4))
                 .key(ValidatorTempKey.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .signature(CryptoSignature.deserialize(cs))
                 .build();
@@ -50,11 +50,11 @@ public class Validators implements ValidatorSet {
 
     public static Validators deserialize(CellSlice cs) {
         return Validators.builder()
-                .magic(cs.loadUint(8).intValue())
-                .uTimeSince(cs.loadUint(8).longValue())
-                .uTimeUntil(cs.loadUint(8).longValue())
-                .total(cs.loadUint(16).intValue())
-                .main(cs.loadUint(16).intValue())
+                .magic((int) cs.loadUintLong(8))
+                .uTimeSince(cs.loadUintLong(8))
+                .uTimeUntil(cs.loadUintLong(8))
+                .total((int) cs.loadUintLong(16))
+                .main((int) cs.loadUintLong(16))
                 .list(cs.loadDict(16,
                         k -> k.readInt(16),
                         v -> ValidatorDescr.deserialize(CellSlice.beginParse(v))))
@@ -70,7 +70,7 @@ public class ValueFlow {
     }
 
     public static ValueFlow deserialize(CellSlice cs) {
-        long magic = cs.loadUint(32).longValue();
+        long magic = cs.loadUintLong(32);
         if (magic == 0xb8e48dfbL) {
 
             CellSlice c1 = CellSlice.beginParse(cs.loadRef());
@@ -35,10 +35,10 @@ public class VmCellSlice {
     public static VmCellSlice deserialize(CellSlice cs) {
         return VmCellSlice.builder()
                 .cell(cs.loadRef())
-                .stBits(cs.loadUint(10).intValue())
-                .endBits(cs.loadUint(10).intValue())
-                .stRef(cs.loadUint(3).intValue())
-                .endRef(cs.loadUint(3).intValue())
+                .stBits((int) cs.loadUintLong(10))
+                .endBits((int) cs.loadUintLong(10))
+                .stRef((int) cs.loadUintLong(3))
+                .endRef((int) cs.loadUintLong(3))
                 .build();
     }
 }
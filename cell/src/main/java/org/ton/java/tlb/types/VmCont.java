@@ -9,13 +9,13 @@ public interface VmCont {
 
     static VmCont deserialize(CellSlice cs) {
         CellSlice c = cs.clone();
-        int magic = c.preloadUint(2).intValue();
+        int magic = (int) c.preloadUintLong(2);
         if (magic == 0b00) {
             return VmcStd.deserialize(cs);
         } else if (magic == 0b01) {
             return VmcEnvelope.deserialize(cs);
         } else if (magic == 0b10) {
-            int magic2 = c.skipBits(2).preloadUint(2).intValue();
+            int magic2 = (int) c.skipBits(2).preloadUintLong(2);
             if (magic2 == 0b00) {
                 return VmcQuit.deserialize(cs);
             } else if (magic2 == 0b01) {
@@ -26,7 +26,7 @@ public interface VmCont {
                 throw new Error("Error deserializing VmCont, wrong magic " + magic2);
             }
         } else if (magic == 0b11) {
-            int magic2 = c.skipBits(2).preloadUint(4).intValue();
+            int magic2 = (int) c.skipBits(2).preloadUintLong(4);
             if (magic2 == 0b0000) {
                 return VmcUntil.deserialize(cs);
             } else if (magic2 == 0b0001) {
@@ -28,7 +28,7 @@ public class VmStack {
 
     public static VmStack deserialize(CellSlice cs) {
         return VmStack.builder()
-                .depth(cs.loadUint(24).intValue())
+                .depth((int) cs.loadUintLong(24))
                 .stack(VmStackList.deserialize(cs))
                 .build();
     }
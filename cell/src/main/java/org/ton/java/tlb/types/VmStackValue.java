@@ -31,14 +31,14 @@ public interface VmStackValue {
         }
         CellSlice c = cs.clone();
 
-        int magic = c.preloadUint(8).intValue();
+        int magic = (int) c.preloadUintLong(8);
 
         if (magic == 0x00) {
             return VmStackValueNull.deserialize(cs);
         } else if (magic == 0x01) {
             return VmStackValueTinyInt.deserialize(cs);
         } else if (magic == 0x02) {
-            //int magic2 = c.skipBits(8).preloadUint(8).intValue();
+            //int magic2 = (int) c.skipBits(8).preloadUintLong(8);
             return VmStackValueInt.deserialize(cs);
 
 
@@ -29,7 +29,7 @@ public class VmStackValueBuilder implements VmStackValue {
 
     public static VmStackValueBuilder deserialize(CellSlice cs) {
         return VmStackValueBuilder.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .cell(cs.loadRef())
                 .build();
     }
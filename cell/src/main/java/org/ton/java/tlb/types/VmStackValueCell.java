@@ -29,7 +29,7 @@ public class VmStackValueCell implements VmStackValue {
 
     public static VmStackValueCell deserialize(CellSlice cs) {
         return VmStackValueCell.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .cell(cs.loadRef())
                 .build();
     }
@@ -29,7 +29,7 @@ public class VmStackValueCont implements VmStackValue {
 
     public static VmStackValueCont deserialize(CellSlice cs) {
         return VmStackValueCont.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .cont(VmCont.deserialize(cs))
                 .build();
     }
@@ -31,7 +31,7 @@ public class VmStackValueInt implements VmStackValue {
 
     public static VmStackValueInt deserialize(CellSlice cs) {
         return VmStackValueInt.builder()
-                .magic(cs.loadUint(16).intValue())
+                .magic((int) cs.loadUintLong(16))
                 .value(cs.loadUint(256))
                 .build();
     }
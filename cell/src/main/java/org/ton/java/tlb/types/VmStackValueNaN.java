@@ -27,7 +27,7 @@ public class VmStackValueNaN implements VmStackValue {
 
     public static VmStackValueNaN deserialize(CellSlice cs) {
         return VmStackValueNaN.builder()
-                .value(cs.loadUint(16).intValue())
+                .value((int) cs.loadUintLong(16))
                 .build();
     }
 }
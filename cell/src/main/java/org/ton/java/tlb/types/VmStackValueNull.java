@@ -27,7 +27,7 @@ public class VmStackValueNull implements VmStackValue {
 
     public static VmStackValueNull deserialize(CellSlice cs) {
         return VmStackValueNull.builder()
-                .value(cs.loadUint(8).intValue())
+                .value((int) cs.loadUintLong(8))
                 .build();
     }
 }
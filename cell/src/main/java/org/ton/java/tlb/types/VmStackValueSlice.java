@@ -29,7 +29,7 @@ public class VmStackValueSlice implements VmStackValue {
 
     public static VmStackValueSlice deserialize(CellSlice cs) {
         return VmStackValueSlice.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .cell(VmCellSlice.deserialize(cs))
                 .build();
     }
@@ -31,7 +31,7 @@ public class VmStackValueTinyInt implements VmStackValue {
 
     public static VmStackValueTinyInt deserialize(CellSlice cs) {
         return VmStackValueTinyInt.builder()
-                .magic(cs.loadUint(8).intValue())
+                .magic((int) cs.loadUintLong(8))
                 .value(cs.loadInt(64))
                 .build();
     }
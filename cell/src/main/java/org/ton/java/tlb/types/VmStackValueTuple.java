@@ -30,8 +30,8 @@ public class VmStackValueTuple implements VmStackValue {
     }
 
     public static VmStackValueTuple deserialize(CellSlice cs) {
-        int magic = cs.loadUint(8).intValue();
-        int len = cs.loadUint(16).intValue();
+        int magic = (int) cs.loadUintLong(8);
+        int len = (int) cs.loadUintLong(16);
         return VmStackValueTuple.builder()
                 .magic(magic)
                 .len(len)
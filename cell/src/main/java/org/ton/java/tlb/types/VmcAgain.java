@@ -29,7 +29,7 @@ public class VmcAgain implements VmCont {
 
     public static VmcAgain deserialize(CellSlice cs) {
         return VmcAgain.builder()
-                .magic(cs.loadUint(6).intValue())
+                .magic((int) cs.loadUintLong(6))
                 .body(VmCont.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
     }
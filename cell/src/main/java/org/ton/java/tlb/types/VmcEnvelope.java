@@ -31,7 +31,7 @@ public class VmcEnvelope implements VmCont {
 
     public static VmcEnvelope deserialize(CellSlice cs) {
         return VmcEnvelope.builder()
-                .magic(cs.loadUint(2).intValue())
+                .magic((int) cs.loadUintLong(2))
                 .next(cs.loadRef())
                 .build();
     }
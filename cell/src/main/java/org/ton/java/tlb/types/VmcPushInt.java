@@ -33,7 +33,7 @@ public class VmcPushInt implements VmCont {
 
     public static VmcPushInt deserialize(CellSlice cs) {
         return VmcPushInt.builder()
-                .magic(cs.loadUint(2).intValue())
+                .magic((int) cs.loadUintLong(2))
                 .next(VmCont.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
     }
@@ -29,8 +29,8 @@ public class VmcQuit implements VmCont {
 
     public static VmcQuit deserialize(CellSlice cs) {
         return VmcQuit.builder()
-                .magic(cs.loadUint(4).intValue())
-                .exitCode(cs.loadInt(32).longValue())
+                .magic((int) cs.loadUintLong(4))
+                .exitCode(cs.loadIntLong(32))
                 .build();
     }
 }
@@ -28,7 +28,7 @@ public class VmcQuitExc implements VmCont {
 
     public static VmcQuitExc deserialize(CellSlice cs) {
         return VmcQuitExc.builder()
-                .magic(cs.loadUint(4).intValue())
+                .magic((int) cs.loadUintLong(4))
                 .build();
     }
 }
@@ -31,7 +31,7 @@ public class VmcStd implements VmCont {
 
     public static VmcStd deserialize(CellSlice cs) {
         return VmcStd.builder()
-                .magic(cs.loadUint(2).intValue())
+                .magic((int) cs.loadUintLong(2))
                 .cdata(VmControlData.deserialize(cs))
                 .code(VmCellSlice.deserialize(cs))
                 .build();
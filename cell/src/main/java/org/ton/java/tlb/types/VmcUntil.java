@@ -34,7 +34,7 @@ public class VmcUntil implements VmCont {
 
     public static VmcUntil deserialize(CellSlice cs) {
         return VmcUntil.builder()
-                .magic(cs.loadUint(6).intValue())
+                .magic((int) cs.loadUintLong(6))
                 .body(VmCont.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .after(VmCont.deserialize(CellSlice.beginParse(cs.loadRef())))
                 .build();
@@ -37,11 +37,11 @@ public class WcSplitMergeTimings {
 
     public static WcSplitMergeTimings deserialize(CellSlice cs) {
         return WcSplitMergeTimings.builder()
-                .magic(cs.loadUint(4).intValue())
-                .splitMergeDelay(cs.loadInt(32).longValue())
-                .splitMergeInterval(cs.loadInt(32).longValue())
-                .minSplitMergeInterval(cs.loadInt(32).longValue())
-                .minSplitMergeDelay(cs.loadInt(32).longValue())
+                .magic((int) cs.loadUintLong(4))
+                .splitMergeDelay(cs.loadIntLong(32))
+                .splitMergeInterval(cs.loadIntLong(32))
+                .minSplitMergeInterval(cs.loadIntLong(32))
+                .minSplitMergeDelay(cs.loadIntLong(32))
                 .build();
     }
 }
@@ -50,11 +50,11 @@ public class WorkchainDescrV1 implements WorkchainDescr {
 
     public static WorkchainDescrV1 deserialize(CellSlice cs) {
         WorkchainDescrV1 workchainDescrV1 = WorkchainDescrV1.builder()
-                .workchain(cs.loadUint(8).intValue())
-                .enabledSince(cs.loadUint(32).intValue())
-                .actualMinSplit(cs.loadUint(8).intValue())
-                .minSplit(cs.loadUint(8).intValue())
-                .maxSplit(cs.loadUint(8).intValue())
+                .workchain((int) cs.loadUintLong(8))
+                .enabledSince((int) cs.loadUintLong(32))
+                .actualMinSplit((int) cs.loadUintLong(8))
+                .minSplit((int) cs.loadUintLong(8))
+                .maxSplit((int) cs.loadUintLong(8))
                 .build();
         boolean basic = cs.loadBit();
         workchainDescrV1.setBasic(basic);
@@ -62,7 +62,7 @@ public class WorkchainDescrV1 implements WorkchainDescr {
         workchainDescrV1.setAcceptMsgs(cs.loadBit());
         workchainDescrV1.setZeroStateRootHash(cs.loadUint(256));
         workchainDescrV1.setZeroStateFileHash(cs.loadUint(256));
-        workchainDescrV1.setVersion(cs.loadUint(32).intValue());
+        workchainDescrV1.setVersion((int) cs.loadUintLong(32));
         workchainDescrV1.setFormat(WorkchainFormat.deserialize(cs, basic));
         return workchainDescrV1;
     }
@@ -51,11 +51,11 @@ public class WorkchainDescrV2 implements WorkchainDescr {
 
     public static WorkchainDescrV2 deserialize(CellSlice cs) {
         WorkchainDescrV2 workchainDescrV2 = WorkchainDescrV2.builder()
-                .workchain(cs.loadUint(8).intValue())
-                .enabledSince(cs.loadUint(32).intValue())
-                .actualMinSplit(cs.loadUint(8).intValue())
-                .minSplit(cs.loadUint(8).intValue())
-                .maxSplit(cs.loadUint(8).intValue())
+                .workchain((int) cs.loadUintLong(8))
+                .enabledSince((int) cs.loadUintLong(32))
+                .actualMinSplit((int) cs.loadUintLong(8))
+                .minSplit((int) cs.loadUintLong(8))
+                .maxSplit((int) cs.loadUintLong(8))
                 .build();
         boolean basic = cs.loadBit();
         workchainDescrV2.setBasic(basic);
@@ -63,7 +63,7 @@ public class WorkchainDescrV2 implements WorkchainDescr {
         workchainDescrV2.setAcceptMsgs(cs.loadBit());
         workchainDescrV2.setZeroStateRootHash(cs.loadUint(256));
         workchainDescrV2.setZeroStateFileHash(cs.loadUint(256));
-        workchainDescrV2.setVersion(cs.loadUint(32).intValue());
+        workchainDescrV2.setVersion((int) cs.loadUintLong(32));
         workchainDescrV2.setFormat(WorkchainFormat.deserialize(cs, basic));
         workchainDescrV2.setWcSplitMergeTimings(WcSplitMergeTimings.deserialize(cs));
         return workchainDescrV2;
@@ -34,8 +34,8 @@ public class WorkchainFormatBasic implements WorkchainFormat {
 
     public static WorkchainFormatBasic deserialize(CellSlice cs) {
         return WorkchainFormatBasic.builder()
-                .wfmtBasic(cs.loadUint(4).intValue())
-                .vmVersion(cs.loadUint(32).longValue())
+                .wfmtBasic((int) cs.loadUintLong(4))
+                .vmVersion(cs.loadUintLong(32))
                 .vmMode(cs.loadUint(64))
                 .build();
     }
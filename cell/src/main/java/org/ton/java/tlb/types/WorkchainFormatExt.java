@@ -34,11 +34,11 @@ public class WorkchainFormatExt implements WorkchainFormat {
 
     public static WorkchainFormatExt deserialize(CellSlice cs) {
         return WorkchainFormatExt.builder()
-                .wfmtExt(cs.loadUint(4).intValue())
-                .minAddrLen(cs.loadUint(12).intValue())
-                .maxAddrLen(cs.loadUint(12).intValue())
-                .addrLenStep(cs.loadUint(12).intValue())
-                .workchainTypeId(cs.loadUint(32).longValue())
+                .wfmtExt((int) cs.loadUintLong(4))
+                .minAddrLen((int) cs.loadUintLong(12))
+                .maxAddrLen((int) cs.loadUintLong(12))
+                .addrLenStep((int) cs.loadUintLong(12))
+                .workchainTypeId(cs.loadUintLong(32))
                 .build();
     }
 }
@@ -0,0 +1,135 @@
+package org.ton.java.cell;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestBocReader {
+
+    private static Cell buildTree(int depth, int value) {
+        CellBuilder cb = CellBuilder.beginCell().storeUint(value, 32);
+        if (depth > 0) {
+            Cell shared = buildTree(depth - 1, value * 2);
+            cb.storeRef(shared).storeRef(shared).storeRef(buildTree(depth - 1, value * 2 + 1));
+        }
+        return cb.endCell();
+    }
+
+    @Test
+    public void testBocIndex() {
+        Cell leaf = CellBuilder.beginCell().storeUint(5, 8).endCell();
+        Cell root = CellBuilder.beginCell().storeUint(7, 16).storeRef(leaf).storeRef(leaf).endCell();
+
+        byte[] boc = root.toBoc(false, true);
+        // header: magic, flags, off_bytes, cells, roots, absent, tot_cells_size, root_list, index
+        assertThat(boc[4]).isEqualTo((byte) 0x81);
+        assertThat(boc[9]).isEqualTo((byte) 9); // 2 + 2 + 2 refs + 2 + 1
+        assertThat(boc[11]).isEqualTo((byte) 6); // end of root cell
+        assertThat(boc[12]).isEqualTo((byte) 9); // end of leaf cell
+
+        byte[] bocWithCacheBits = root.toBoc(true, true, true, false, false);
+        assertThat(bocWithCacheBits[11]).isEqualTo((byte) 12); // 6 * 2, root is not shared
+        assertThat(bocWithCacheBits[12]).isEqualTo((byte) 19); // 9 * 2 + 1, leaf is referenced twice
+
+        assertThat(Cell.fromBoc(boc).getHash()).isEqualTo(root.getHash());
+        assertThat(Cell.fromBoc(bocWithCacheBits).getHash()).isEqualTo(root.getHash());
+        assertThat(BocReader.of(ByteBuffer.wrap(bocWithCacheBits)).getCell(1).getHash()).isEqualTo(leaf.getHash());
+    }
+
+    @Test
+    public void testBocReaderSharedSubtrees() {
+        // every cell references the next one twice, so the tree has 2^64 paths but 64 cells
+        Cell chain = CellBuilder.beginCell().storeUint(0, 8).endCell();
+        for (int i = 1; i < 64; i++) {
+            chain = CellBuilder.beginCell().storeUint(i, 8).storeRef(chain).storeRef(chain).endCell();
+        }
+        BocReader reader = BocReader.of(ByteBuffer.wrap(chain.toBoc()));
+        assertThat(reader.getCellsNum()).isEqualTo(64);
+
+        Cell root = reader.getRoot(0);
+        assertThat(root.getHash()).isEqualTo(chain.getHash());
+        assertThat(root.getDepth()).isEqualTo(63);
+        assertThat(root.refAt(0)).isSameAs(root.refAt(1));
+        assertThat(root.refAt(0)).isSameAs(reader.getCell(1));
+        assertThat(reader.getRoot(0)).isSameAs(root);
+    }
+
+    @Test
+    public void testBocReaderRandomAccess() {
+        Cell root = buildTree(8, 1);
+        BocReader indexed = BocReader.of(ByteBuffer.wrap(root.toBoc(true, true)));
+        BocReader scanned = BocReader.of(ByteBuffer.wrap(root.toBoc(true, false)));
+
+        assertThat(indexed.hasIndex()).isTrue();
+        assertThat(scanned.hasIndex()).isFalse();
+        assertThat(indexed.getCellsNum()).isEqualTo(511);
+        assertThat(indexed.getRoot(0).getHash()).isEqualTo(root.getHash());
+        for (int i = 0; i < indexed.getCellsNum(); i++) {
+            assertThat(indexed.getCell(i).getHash()).isEqualTo(scanned.getCell(i).getHash());
+        }
+    }
+
+    @Test
+    public void testBocReaderMemoryMappedFile() throws IOException {
+        Cell root = buildTree(10, 1);
+        File file = File.createTempFile("boc", ".boc");
+        file.deleteOnExit();
+        root.toFile(file.getAbsolutePath(), true, true);
+
+        try (BocReader reader = BocReader.open(file.getAbsolutePath())) {
+            Cell mapped = reader.getRoot(0);
+            CellSlice cs = CellSlice.beginParse(mapped);
+            assertThat(cs.loadUint(32).longValue()).isEqualTo(1);
+            cs.loadRef();
+            cs.loadRef();
+            Cell right = cs.loadRef();
+            assertThat(CellSlice.beginParse(right).loadUint(32).longValue()).isEqualTo(3);
+            assertThat(right.getHash()).isEqualTo(root.getRefs().get(2).getHash());
+            assertThat(mapped.getHash()).isEqualTo(root.getHash());
+        }
+    }
+
+    @Test
+    public void testBocReaderChunkedMapping() throws IOException {
+        Cell root = buildTree(6, 1);
+        File file = File.createTempFile("boc", ".boc");
+        file.deleteOnExit();
+        root.toFile(file.getAbsolutePath(), true, false);
+
+        BocReader whole = BocReader.of(ByteBuffer.wrap(root.toBoc(true, false)));
+        try (BocReader chunked = BocReader.open(file.getAbsolutePath(), 6)) {
+            assertThat(chunked.getCellsNum()).isEqualTo(127);
+            for (int i = 0; i < chunked.getCellsNum(); i++) {
+                assertThat(chunked.getCell(i).getHash()).isEqualTo(whole.getCell(i).getHash());
+            }
+        }
+    }
+
+    @Test
+    public void testBocReaderIterator() {
+        Cell root = buildTree(8, 1);
+        for (boolean withIdx : new boolean[]{true, false}) {
+            BocReader reader = BocReader.of(ByteBuffer.wrap(root.toBoc(true, withIdx)));
+            int index = reader.getCellsNum();
+            Cell last = null;
+            for (Cell c : reader) {
+                index--;
+                assertThat(c.getHash()).isEqualTo(reader.getCell(index).getHash());
+                last = c;
+            }
+            assertThat(index).isEqualTo(reader.getRootIndex(0));
+            assertThat(((LazyCell) last).lazyBoc).isNotNull();
+            assertThat(last.getHash()).isEqualTo(root.getHash());
+            assertThat(last.getRefs().get(2).getHash()).isEqualTo(root.getRefs().get(2).getHash());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.ton.java.cell;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.ton.java.address.Address;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestCellArena {
+
+    private static final Address ADDRESS = Address.of("0:3333333333333333333333333333333333333333333333333333333333333333");
+
+    @Test
+    public void testCellArenaToCellSharedSubtrees() {
+        Cell chain = CellBuilder.beginCell().storeUint(0, 8).endCell();
+        for (int i = 1; i < 64; i++) {
+            chain = CellBuilder.beginCell().storeUint(i, 8).storeRef(chain).storeRef(chain).endCell();
+        }
+        CellArena arena = CellArena.fromBoc(chain.toBoc());
+        Cell root = arena.toCell(arena.getRoot(0));
+        assertThat(root.getHash()).isEqualTo(chain.getHash());
+        assertThat(root.getDepth()).isEqualTo(63);
+        assertThat(root.refAt(0)).isSameAs(root.refAt(1));
+        assertThat(arena.toCell(arena.getRoot(0))).isSameAs(root);
+    }
+
+    @Test
+    public void testCellArenaSlice() {
+        Cell leaf = CellBuilder.beginCell().storeUint(5, 3).storeBytes(new byte[]{1, 2, 3}).endCell();
+        Cell root = CellBuilder.beginCell()
+                .storeBit(true)
+                .storeUint(0xABCDEF, 24)
+                .storeInt(-77, 9)
+                .storeUint(new BigInteger("123456789012345678901234567890"), 100)
+                .storeCoins(BigInteger.valueOf(1_000_000_000L))
+                .storeAddress(ADDRESS)
+                .storeRef(leaf)
+                .storeRef(leaf)
+                .endCell();
+
+        CellArena arena = CellArena.fromBoc(root.toBoc());
+        assertThat(arena.getCellsNum()).isEqualTo(2);
+        assertThat(arena.getHash(arena.getRoot(0))).isEqualTo(root.getHash());
+
+        CellArenaSlice cs = arena.beginParse(arena.getRoot(0));
+        assertThat(cs.getRestBits()).isEqualTo(root.getBitLength());
+        assertThat(cs.loadBit()).isTrue();
+        assertThat(cs.preloadUintLong(8)).isEqualTo(0xAB);
+        assertThat(cs.loadUintLong(24)).isEqualTo(0xABCDEF);
+        assertThat(cs.loadIntLong(9)).isEqualTo(-77);
+        assertThat(cs.loadUint(100)).isEqualTo(new BigInteger("123456789012345678901234567890"));
+
+        CellSlice rest = cs.toCellSlice();
+        assertThat(cs.loadCoins()).isEqualTo(BigInteger.valueOf(1_000_000_000L));
+        assertThat(cs.loadAddress().toRaw()).isEqualTo(ADDRESS.toRaw());
+        assertThat(rest.loadCoins()).isEqualTo(BigInteger.valueOf(1_000_000_000L));
+        assertThat(rest.getRefsCount()).isEqualTo(2);
+        cs.endParse();
+
+        int ref = cs.loadRef();
+        assertThat(cs.preloadRef()).isEqualTo(ref);
+        cs.parse(ref);
+        assertThat(cs.loadUintLong(3)).isEqualTo(5);
+        assertThat(cs.loadBytes(24)).containsExactly(1, 2, 3);
+        assertThat(cs.isSliceEmpty()).isTrue();
+        assertThrows(Error.class, cs::loadBit);
+        assertThrows(Error.class, cs::loadRef);
+    }
+
+    @Test
+    public void testCellArenaFlyweightWalk() {
+        CellBuilder cb = CellBuilder.beginCell();
+        Cell tree = cb.storeUint(0, 32).endCell();
+        for (int i = 1; i < 100; i++) {
+            tree = cb.reset().storeUint(i, 32).storeInt(-i, 32).storeRef(tree).endCell();
+        }
+        CellArena arena = CellArena.fromBoc(tree.toBoc());
+        CellArenaSlice cs = arena.beginParse(arena.getRoot(0));
+        long sum = 0;
+        while (true) {
+            long value = cs.loadUintLong(32);
+            sum += value;
+            if (cs.getRefsCount() == 0) {
+                break;
+            }
+            assertThat(cs.loadInt(32).longValue()).isEqualTo(-value);
+            cs.parse(cs.loadRef());
+        }
+        assertThat(sum).isEqualTo(99 * 100 / 2);
+        assertThat(arena.getDepth(arena.getRoot(0))).isEqualTo(tree.getDepth());
+    }
+}
@@ -1,16 +1,24 @@
 package org.ton.java.cell;
 
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
 import org.ton.java.address.Address;
 import org.ton.java.utils.Utils;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
 
 @Slf4j
 @RunWith(JUnit4.class)
@@ -157,6 +165,138 @@ public class TestCellBuilder {
         assertThat(cellDict).isNotNull();
     }
 
+    @Test
+    public void testCellBuilderReset() {
+        Address address = Address.of("-1:3333333333333333333333333333333333333333333333333333333333333333");
+        CellBuilder cb = CellBuilder.beginCell();
+        Cell expected = CellBuilder.beginCell()
+                .storeUint(7, 32)
+                .storeCoins(BigInteger.valueOf(1_000_000_000L))
+                .storeAddress(address)
+                .endCell();
+
+        cb.storeUint(0xFFFF, 16).storeRef(expected).reset();
+        assertThat(cb.getUsedBits()).isEqualTo(0);
+        assertThat(cb.getUsedRefs()).isEqualTo(0);
+
+        Cell c1 = cb.storeUint(7, 32).storeCoins(1_000_000_000L).storeAddress(address).endCell();
+        assertThat(c1.getHash()).isEqualTo(expected.getHash());
+
+        Cell c2 = cb.reset().storeUint(8, 32).endCell();
+        assertThat(c1.getHash()).isEqualTo(expected.getHash());
+        assertThat(c2.getHash()).isEqualTo(CellBuilder.beginCell().storeUint(8, 32).endCell().getHash());
+
+        assertThat(CellSlice.beginParse(CellBuilder.beginCell().storeCoins(0L).endCell()).loadCoins()).isEqualTo(BigInteger.ZERO);
+        assertThat(CellSlice.beginParse(CellBuilder.beginCell().storeCoins(Long.MAX_VALUE).endCell()).loadCoins())
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testCellBuilderEndCellImmutable() {
+        Cell leaf = CellBuilder.beginCell().storeUint(5, 8).endCell();
+        CellBuilder cb = CellBuilder.beginCell().storeUint(7, 16).storeRef(leaf);
+        Cell c1 = cb.endCell();
+        byte[] hash = c1.getHash();
+
+        Cell c2 = cb.storeUint(1, 8).storeRef(leaf).endCell();
+        assertThat(c1.getHash()).isEqualTo(hash);
+        assertThat(c1.getBitLength()).isEqualTo(16);
+        assertThat(c1.refCount()).isEqualTo(1);
+        assertThat(c2.refCount()).isEqualTo(2);
+        assertThat(c2.refAt(1)).isSameAs(leaf);
+
+        c1.getBits().readUint(16);
+        assertThat(CellSlice.beginParse(c1).loadUint(16).longValue()).isEqualTo(7);
+        assertThrows(Error.class, () -> c1.writeCell(leaf));
+
+        Cell copy = c1.clone();
+        copy.writeCell(leaf);
+        assertThat(copy.getBitLength()).isEqualTo(24);
+        assertThat(copy.refAt(0)).isSameAs(leaf);
+
+        assertThat(c1).isEqualTo(CellBuilder.beginCell().storeUint(7, 16).storeRef(leaf).endCell());
+        assertThat(c1.hashCode()).isEqualTo(Cell.fromBoc(c1.toBoc()).hashCode());
+        assertThat(c1).isNotEqualTo(c2);
+    }
+
+    @Test
+    public void testCellRetainedSize() {
+        Cell leaf = CellBuilder.beginCell().storeUint(1, 8).endCell();
+        List<Cell> building = new ArrayList<>();
+        List<Cell> built = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            CellBuilder cb = CellBuilder.beginCell().storeUint(i, 64).storeRef(leaf);
+            building.add(cb.cell);
+            built.add(cb.endCell());
+        }
+        Cell root = CellBuilder.beginCell().storeRef(built.get(0)).endCell();
+        List<Cell> deserialized = new ArrayList<>();
+        for (Cell c : built) {
+            c.getHash();
+            deserialized.add(Cell.fromBoc(c.toBoc()));
+        }
+        building.forEach(Cell::getHash);
+        deserialized.forEach(Cell::getHash);
+
+        long buildingSize = GraphLayout.parseInstance(building.toArray()).totalSize() / building.size();
+        long builtSize = GraphLayout.parseInstance(built.toArray()).totalSize() / built.size();
+        // every deserialized tree has its own copy of leaf
+        long deserializedSize = GraphLayout.parseInstance(deserialized.toArray()).totalSize() / (2 * deserialized.size());
+        long cellSize = ClassLayout.parseClass(Cell.class).instanceSize();
+        long lazyCellSize = ClassLayout.parseClass(LazyCell.class).instanceSize();
+        log.info("retained bytes per cell: in builder {}, built {}, deserialized {}", buildingSize, builtSize, deserializedSize);
+        log.info("shallow bytes per cell: {}, lazily deserialized {}", cellSize, lazyCellSize);
+        log.info(GraphLayout.parseInstance(root.refAt(0)).toFootprint());
+        assertThat(builtSize).isLessThan(buildingSize);
+        assertThat(deserializedSize).isLessThan(buildingSize);
+        // only lazily deserialized cells pay for references kept as indexes
+        assertThat(cellSize).isLessThan(lazyCellSize);
+    }
+
+    /**
+     * Builder stores allocate nothing only when C2 of HotSpot scalar-replaces temporary objects
+     */
+    private static boolean hasEscapeAnalysis() {
+        if (!System.getProperty("java.vm.name", "").contains("Server VM")
+                || System.getProperty("java.vm.info", "").contains("interpreted")) {
+            return false;
+        }
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (hotSpot == null) {
+            return false;
+        }
+        try {
+            return Boolean.parseBoolean(hotSpot.getVMOption("UseCompiler").getValue())
+                    && Boolean.parseBoolean(hotSpot.getVMOption("DoEscapeAnalysis").getValue())
+                    && (!Boolean.parseBoolean(hotSpot.getVMOption("TieredCompilation").getValue())
+                    || Integer.parseInt(hotSpot.getVMOption("TieredStopAtLevel").getValue()) == 4);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testCellBuilderStoresWithoutGarbage() {
+        assumeTrue(hasEscapeAnalysis());
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        Address address = Address.of("0:3333333333333333333333333333333333333333333333333333333333333333");
+        CellBuilder cb = CellBuilder.beginCell();
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        for (int round = 0; round < 20; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10_000; i++) {
+                cb.reset().storeUint(i, 32).storeCoins(1_000_000_000L + i).storeAddress(address).storeInt(-i, 16);
+            }
+            allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        }
+        log.info("allocated {} bytes per 10000 builds", allocated);
+        assertThat(allocated).isLessThan(10_000);
+    }
+
     @Test
     public void testCellMask() {
 //        log.info("min bits {} for int {}", Cell.calculateMinimumBits(6), 6);
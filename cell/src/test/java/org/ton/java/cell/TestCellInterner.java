@@ -0,0 +1,93 @@
+package org.ton.java.cell;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestCellInterner {
+
+    private static Cell buildTree(int value) {
+        Cell code = CellBuilder.beginCell().storeUint(0xFF00F4A4L, 32).endCell();
+        Cell data = CellBuilder.beginCell().storeUint(value, 32).storeRef(code).endCell();
+        return CellBuilder.beginCell().storeUint(1, 2).storeRef(code).storeRef(data).endCell();
+    }
+
+    @Test
+    public void testCellInternerFromBoc() {
+        CellInterner interner = CellInterner.weak();
+        byte[] boc = buildTree(1).toBoc();
+
+        Cell c1 = Cell.fromBoc(boc, interner);
+        Cell c2 = Cell.fromBoc(boc, interner);
+        assertThat(c2).isSameAs(c1);
+        assertThat(interner.getMisses()).isEqualTo(3);
+        assertThat(interner.getHits()).isEqualTo(3);
+        assertThat(interner.getBytesSaved()).isGreaterThan(3 * 32);
+
+        Cell c3 = Cell.fromBoc(buildTree(2).toBoc(), interner);
+        assertThat(c3).isNotSameAs(c1);
+        assertThat(c3.getRefs().get(0)).isSameAs(c1.getRefs().get(0));
+        assertThat(c3.getRefs().get(1).getRefs().get(0)).isSameAs(c1.getRefs().get(0));
+        log.info("hits {}, misses {}, saved {} bytes", interner.getHits(), interner.getMisses(), interner.getBytesSaved());
+    }
+
+    @Test
+    public void testCellInternerEndCell() {
+        CellInterner interner = CellInterner.lru(100);
+        Cell code = CellBuilder.beginCell().storeUint(0xFF00F4A4L, 32).endCell();
+        Cell c1 = CellBuilder.beginCell().storeUint(7, 8).storeRef(code).endCell(interner);
+        Cell c2 = CellBuilder.beginCell().storeUint(7, 8).storeRef(code).endCell(interner);
+        Cell c3 = CellBuilder.beginCell().storeUint(8, 8).storeRef(code).endCell(interner);
+
+        assertThat(c2).isSameAs(c1);
+        assertThat(c3.getRefs().get(0)).isSameAs(c1.getRefs().get(0));
+        assertThat(c3.getHash()).isEqualTo(CellBuilder.beginCell().storeUint(8, 8).storeRef(code).endCell().getHash());
+        assertThat(interner.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCellInternerTreeKeepsInput() {
+        CellInterner interner = CellInterner.weak();
+        Cell canonical = interner.internTree(buildTree(1));
+
+        Cell tree = buildTree(2);
+        Cell code = tree.refAt(0);
+        Cell data = tree.refAt(1);
+        Cell interned = interner.internTree(tree);
+
+        assertThat(interned).isNotSameAs(tree);
+        assertThat(interned.getHash()).isEqualTo(tree.getHash());
+        assertThat(interned.refAt(0)).isSameAs(canonical.refAt(0));
+        assertThat(interned.refAt(1).refAt(0)).isSameAs(canonical.refAt(0));
+        // the given tree still references its own cells
+        assertThat(tree.refAt(0)).isSameAs(code);
+        assertThat(tree.refAt(1)).isSameAs(data);
+        assertThat(data.refAt(0)).isSameAs(code);
+        // a duplicate of a canonical tree is resolved at its root, refs are not visited
+        long hits = interner.getHits();
+        long saved = interner.getBytesSaved();
+        Cell duplicate = buildTree(2);
+        assertThat(interner.internTree(duplicate)).isSameAs(interned);
+        assertThat(interner.getHits()).isEqualTo(hits + 1);
+        assertThat(interner.getBytesSaved()).isEqualTo(saved + duplicate.bits.getUsedBytes() + 32 + 2);
+    }
+
+    @Test
+    public void testCellInternerLruEviction() {
+        CellInterner interner = CellInterner.lru(2);
+        for (int i = 0; i < 10; i++) {
+            interner.intern(CellBuilder.beginCell().storeUint(i, 8).endCell());
+        }
+        assertThat(interner.size()).isEqualTo(2);
+        assertThat(interner.getMisses()).isEqualTo(10);
+
+        Cell last = CellBuilder.beginCell().storeUint(9, 8).endCell();
+        assertThat(interner.intern(last)).isNotSameAs(last);
+        assertThat(interner.getHits()).isEqualTo(1);
+    }
+}
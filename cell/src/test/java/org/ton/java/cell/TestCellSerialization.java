@@ -38,7 +38,7 @@ public class TestCellSerialization {
         log.info(Utils.bytesToHex(c2.toBoc()));
         log.info(Utils.bytesToHex(c2.toBoc(false)));
         log.info(Utils.bytesToHex(c2.toBoc(true, true)));
-        assertThat(Utils.bytesToHex(c3.toBoc(true, true))).isEqualTo("b5ee9c72c1010301000c0005040302020d020101020c02000155296aa6ad");
+        assertThat(Utils.bytesToHex(c3.toBoc(true, true))).isEqualTo("b5ee9c72c1010301000c0005090c02020d020101020c02000155b647f116");
     }
 
     @Test
@@ -123,9 +123,8 @@ public class TestCellSerialization {
         log.info("c1 hex        {}", c1.bitStringToHex());
         assertThat(c1.bitStringToHex()).isEqualTo("8000002_");
 
-        log.info("hashes " + c1.hashes.size());
-        log.info("hashes(1) " + c1.hashes.get(0));
-        log.info("depth " + c1.depths.size());
+        log.info("hash(0) " + Utils.bytesToHex(c1.getHash(0)));
+        log.info("depth " + c1.getDepth());
         log.info("hash old " + Utils.bytesToHex(c1.hash()));
         log.info("hash new " + Utils.bytesToHex(c1.getHash()));
 
@@ -200,9 +199,9 @@ public class TestCellSerialization {
         log.info("serializedCell2 hex {}", Utils.bytesToHex(serializedCell1));
         Cell dc2 = CellBuilder.beginCell().fromBoc(serializedCell2).endCell();
         assertThat(CellSlice.beginParse(dc2).loadRef().bits.toString()).isEqualTo(c2.bits.toString());
-        assertThat(dc2.refs.get(1).bits.toString()).isEqualTo(c4.bits.toString());
-        assertThat(dc2.refs.get(0).refs.get(0).bits.toString()).isEqualTo(c3.bits.toString());
-        assertThat(dc2.refs.get(0).refs.get(0).refs.get(0).bits.toString()).isEqualTo(c5.bits.toString());
+        assertThat(dc2.refAt(1).bits.toString()).isEqualTo(c4.bits.toString());
+        assertThat(dc2.refAt(0).refAt(0).bits.toString()).isEqualTo(c3.bits.toString());
+        assertThat(dc2.refAt(0).refAt(0).refAt(0).bits.toString()).isEqualTo(c5.bits.toString());
     }
 
     @Test
@@ -260,4 +259,37 @@ public class TestCellSerialization {
         log.info("int {}", CellSlice.beginParse(c).loadUint(7));
         assertThat(CellSlice.beginParse(c).loadUint(7)).isEqualTo(42);
     }
+
+    @Test
+    public void testCellHashesAndDepths() {
+        Cell c1 = CellBuilder.beginCell().storeUint(42, 7).endCell();
+        Cell c2 = CellBuilder.beginCell().storeUint(12, 8).storeRef(c1).endCell();
+        Cell c3 = CellBuilder.beginCell().storeUint(13, 8).storeRef(c1).storeRef(c2).endCell();
+        assertThat(c1.getDepth()).isEqualTo(0);
+        assertThat(c3.getDepth()).isEqualTo(2);
+
+        Cell parsed = Cell.fromBoc(c3.toBoc());
+        assertThat(parsed.getDepth()).isEqualTo(2);
+        assertThat(Utils.bytesToHex(parsed.hash())).isEqualTo("6c2f0317132aad2b120968921bac0e3788b7588cc6ff470946e3ada3430d3338");
+
+        // builder keeps writing into the returned cell, hash follows its content
+        CellBuilder cb = CellBuilder.beginCell().storeUint(42, 7);
+        assertThat(Utils.bytesToHex(cb.endCell().hash())).isEqualTo("9184089c2c7fe2f12874575da31cf5d15ea91a3b7b5e41e910d4ccf935bf0a76");
+        Cell c4 = cb.storeUint(0, 1).endCell();
+        assertThat(c4.hash()).isEqualTo(CellBuilder.beginCell().storeUint(84, 8).endCell().hash());
+    }
+
+    @Test
+    public void testCellSerializationDeduplicatesEqualCells() {
+        Cell leaf = CellBuilder.beginCell().storeUint(5, 3).endCell();
+        Cell middle = CellBuilder.beginCell().storeUint(7, 8).storeRef(leaf).endCell();
+        Cell root = CellBuilder.beginCell().storeUint(1, 1).storeRef(middle).storeRef(leaf).storeRef(middle).storeRef(leaf).endCell();
+
+        byte[] boc = root.toBoc(true, true);
+        assertThat(boc[6]).isEqualTo((byte) 3); // number of cells
+        Cell parsed = Cell.fromBoc(boc);
+        assertThat(parsed.getHash()).isEqualTo(root.getHash());
+        assertThat(parsed.getRefs().get(0)).isSameAs(parsed.getRefs().get(2));
+        assertThat(Utils.bytesToHex(parsed.toBoc(true, true))).isEqualTo(Utils.bytesToHex(boc));
+    }
 }
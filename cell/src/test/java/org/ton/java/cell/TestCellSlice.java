@@ -143,6 +143,35 @@ public class TestCellSlice {
         cs4.endParse();
     }
 
+    @Test
+    public void testCellSliceLongFromBoc() {
+        Cell c = CellBuilder.beginCell()
+                .storeUint(0xFFFFFFFFL, 32)
+                .storeInt(-15, 5)
+                .storeUint(Long.MAX_VALUE, 64)
+                .storeInt(-69L, 64)
+                .storeUint(7, 3)
+                .endCell();
+
+        CellSlice cs = CellSlice.beginParse(c);
+
+        assertThat(cs.preloadUintLong(32)).isEqualTo(0xFFFFFFFFL);
+        assertThat(cs.loadUintLong(32)).isEqualTo(0xFFFFFFFFL);
+        assertThat(cs.preloadIntLong(5)).isEqualTo(-15);
+        assertThat(cs.loadIntLong(5)).isEqualTo(-15);
+        assertThat(cs.loadUintLong(64)).isEqualTo(Long.MAX_VALUE);
+        assertThat(cs.preloadUint(64).longValue()).isEqualTo(-69);
+        assertThat(cs.loadIntLong(64)).isEqualTo(-69);
+        assertThat(cs.loadUintLong(0)).isEqualTo(0);
+        assertThat(cs.loadUintLong(3)).isEqualTo(7);
+        cs.endParse();
+
+        assertThrows(Error.class, () -> CellBuilder.beginCell().storeUint(-1L, 8));
+        assertThrows(Error.class, () -> CellBuilder.beginCell().storeUint(256L, 8));
+        assertThrows(Error.class, () -> CellBuilder.beginCell().storeInt(128L, 8));
+        assertThrows(Error.class, () -> CellSlice.beginParse(c).loadUintLong(300));
+    }
+
     @Test
     public void testCellSliceEmpty() {
         Cell c1 = CellBuilder.beginCell().endCell();
@@ -166,6 +195,24 @@ public class TestCellSlice {
         assertThrows(Error.class, () -> cs.skipBits(6).loadBits(2));
     }
 
+    @Test
+    public void testCellSliceCloneIsIndependent() {
+        Cell c1 = CellBuilder.beginCell().storeUint(0xA5, 8).storeUint(0x3C, 8).endCell();
+        CellSlice cs = CellSlice.beginParse(c1);
+        CellSlice cloned = cs.clone();
+
+        assertThat(cs.preloadBitAt(1)).isTrue();
+        assertThat(cs.preloadBitAt(2)).isFalse();
+        assertThat(cs.loadUint(8).intValue()).isEqualTo(0xA5);
+        assertThat(cloned.getRestBits()).isEqualTo(16);
+
+        BitString bits = cloned.loadBits(8);
+        bits.writeUint(0xFF, 8);
+        assertThat(bits.toHex()).isEqualTo("A5FF");
+        assertThat(cs.loadUint(8).intValue()).isEqualTo(0x3C);
+        assertThat(CellSlice.beginParse(c1).loadUint(16).intValue()).isEqualTo(0xA53C);
+    }
+
     @Test
     public void testCellSliceSnakeString() {
         String result = "123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789_123456789";
@@ -194,6 +241,36 @@ public class TestCellSlice {
         assertThat(s).isEqualTo(result);
     }
 
+    @Test
+    public void testCellSliceSnakeStringUtf8() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("Привет, TON \uD83D\uDC8E ");
+        }
+        String result = sb.toString();
+        Cell c1 = CellBuilder.beginCell()
+                .storeUint(1, 8)
+                .storeSnakeString(result).endCell();
+        CellSlice cs = CellSlice.beginParse(c1);
+        cs.loadUint(8);
+        assertThat(cs.loadSnakeString()).isEqualTo(result);
+        assertThat(cs.loadSnakeString()).isEqualTo(result);
+
+        Cell notSnake = CellBuilder.beginCell().storeRef(c1).storeRef(c1).endCell();
+        assertThat(CellSlice.beginParse(notSnake).loadSnakeString()).isNull();
+    }
+
+    @Test
+    public void testCellSliceLoadSlice() {
+        Cell c = CellBuilder.beginCell().storeUint(5, 3).storeUint(0xABCDEF, 24).storeString("тон").endCell();
+        CellSlice cs = CellSlice.beginParse(c);
+        assertThat(cs.loadUint(3).intValue()).isEqualTo(5);
+        assertThat(cs.clone().loadSlice(20)).isEqualTo(new int[]{0xAB, 0xCD, 0xE0});
+        assertThat(cs.clone().loadBytes(12)).isEqualTo(new byte[]{(byte) 0xAB, (byte) 0xC0});
+        assertThat(cs.loadSlice(24)).isEqualTo(new int[]{0xAB, 0xCD, 0xEF});
+        assertThat(cs.loadString(cs.getRestBits())).isEqualTo("тон");
+    }
+
     @Test
     public void testCellSliceSkipBitsOverflow() {
         Cell c1 = CellBuilder.beginCell().storeBits(Arrays.asList(false, false, true, true)).endCell();
@@ -410,6 +487,36 @@ public class TestCellSlice {
         assertThat(iRef).isEqualTo(7);
     }
 
+    @Test
+    public void testDictLookup() {
+        int dictKeySize = 100;
+        TonHashMapE x = new TonHashMapE(dictKeySize);
+        for (int i = 0; i < 300; i++) {
+            x.elements.put(BigInteger.valueOf(i * 7919L).shiftLeft(i % 80), BigInteger.valueOf(i));
+        }
+
+        Cell dict = x.serialize(
+                k -> CellBuilder.beginCell().storeUint((BigInteger) k, dictKeySize).endCell().getBits(),
+                v -> CellBuilder.beginCell().storeUint((BigInteger) v, 16).endCell()
+        );
+
+        for (Map.Entry<Object, Object> entry : x.elements.entrySet()) {
+            BitString key = CellBuilder.beginCell().storeUint((BigInteger) entry.getKey(), dictKeySize).endCell().getBits();
+            CellSlice value = TonHashMapE.lookup(CellSlice.beginParse(dict), dictKeySize, key);
+            assertThat(value).isNotNull();
+            assertThat(value.loadUint(16)).isEqualTo(entry.getValue());
+            assertThat(key.getUsedBits()).isEqualTo(dictKeySize);
+        }
+
+        for (long absent : new long[]{1, 7918, 7920, 1L << 40}) {
+            BitString key = CellBuilder.beginCell().storeUint(absent, dictKeySize).endCell().getBits();
+            assertThat(TonHashMapE.lookup(CellSlice.beginParse(dict), dictKeySize, key)).isNull();
+        }
+        BitString key = CellBuilder.beginCell().storeUint(7919 * 2, dictKeySize).endCell().getBits();
+        assertThat(TonHashMapE.lookup(CellSlice.beginParse(new TonHashMapE(dictKeySize).serialize(null, null)), dictKeySize, key)).isNull();
+        assertThat(TonHashMap.lookup(CellSlice.beginParse(dict).loadRef(), dictKeySize, key).loadUint(16).longValue()).isEqualTo(1);
+    }
+
     @Test
     public void testCellSliceWith2DictsAndPreload() {
         int keySizeX = 10;
@@ -427,7 +534,7 @@ public class TestCellSlice {
                 v -> CellBuilder.beginCell().storeUint((byte) v, 8).endCell()
         );
 
-        log.info("cell dict X bits length: {}, refs.size {}", dictX.bits.getUsedBits(), dictX.refs.size());
+        log.info("cell dict X bits length: {}, refs.size {}", dictX.bits.getUsedBits(), dictX.refCount());
 
         int keySizeY = 64;
         TonHashMapE y = new TonHashMapE(keySizeY);
@@ -441,7 +548,7 @@ public class TestCellSlice {
                 v -> CellBuilder.beginCell().storeUint((byte) v, 8).endCell()
         );
 
-        log.info("cell dict Y bits length: {}, refs.size {}", dictX.bits.getUsedBits(), dictY.refs.size());
+        log.info("cell dict Y bits length: {}, refs.size {}", dictX.bits.getUsedBits(), dictY.refCount());
 
         Cell cell = CellBuilder.beginCell()
                 .storeDict(dictX)
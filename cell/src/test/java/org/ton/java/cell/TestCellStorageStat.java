@@ -0,0 +1,120 @@
+package org.ton.java.cell;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.ton.java.tlb.types.SizeLimitsConfigV2;
+import org.ton.java.tlb.types.StorageUsed;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestCellStorageStat {
+
+    private static final int CODE_CELLS = 3;
+    private static final int CODE_BITS = 16 + 2 * 256;
+    private static final int STATE_BITS = 5 + CODE_BITS + 32 + 256;
+
+    /**
+     * Code with two method bodies, 3 cells. Every call builds new instances equal by hash.
+     */
+    private static Cell buildCode() {
+        Cell recvInternal = CellBuilder.beginCell().storeBytes(filled(32, 0x11)).endCell();
+        Cell recvExternal = CellBuilder.beginCell().storeBytes(filled(32, 0x22)).endCell();
+        return CellBuilder.beginCell().storeUint(0xFF00, 16).storeRef(recvInternal).storeRef(recvExternal).endCell();
+    }
+
+    /**
+     * StateInit-like tree: 5 bits of flags, code and data with seqno and public key, 5 cells
+     */
+    private static Cell buildAccountState(Cell code, long seqno) {
+        Cell data = CellBuilder.beginCell().storeUint(seqno, 32).storeBytes(filled(32, (int) seqno)).endCell();
+        return CellBuilder.beginCell()
+                .storeUint(0, 2)
+                .storeBit(true).storeRef(code)
+                .storeBit(true).storeRef(data)
+                .storeBit(false)
+                .endCell();
+    }
+
+    /**
+     * Message with 6 bits of header and body of the given number of full cells in a snake chain
+     */
+    private static Cell buildMessage(int bodyCells) {
+        Cell body = null;
+        for (int i = bodyCells; i > 0; i--) {
+            CellBuilder cb = CellBuilder.beginCell().storeBytes(filled(127, i)).storeUint(i, 7);
+            body = (body == null) ? cb.endCell() : cb.storeRef(body).endCell();
+        }
+        return CellBuilder.beginCell().storeUint(0x18, 6).storeRef(body).endCell();
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    @Test
+    public void testCellStorageStatSharedCode() {
+        CellStorageStat stat = new CellStorageStat();
+        assertThat(stat.addUsedStorage(buildAccountState(buildCode(), 1))).isTrue();
+        assertThat(stat.getCells()).isEqualTo(CODE_CELLS + 2);
+        assertThat(stat.getBits()).isEqualTo(STATE_BITS);
+        assertThat(stat.getMaxDepth()).isEqualTo(2);
+
+        // code of the second state is built anew, but it is equal by hash and counted once
+        assertThat(stat.addUsedStorage(buildAccountState(buildCode(), 2))).isTrue();
+        assertThat(stat.getCells()).isEqualTo(CODE_CELLS + 4);
+        assertThat(stat.getBits()).isEqualTo(2 * STATE_BITS - CODE_BITS);
+        assertThat(stat.addUsedStorage(buildAccountState(buildCode(), 1))).isTrue();
+        assertThat(stat.addUsedStorage(buildCode())).isTrue();
+        assertThat(stat.getCells()).isEqualTo(CODE_CELLS + 4);
+
+        StorageUsed storageUsed = stat.toStorageUsed();
+        assertThat(storageUsed.getCellsUsed()).isEqualTo(BigInteger.valueOf(CODE_CELLS + 4));
+        assertThat(storageUsed.getBitsUsed()).isEqualTo(BigInteger.valueOf(2 * STATE_BITS - CODE_BITS));
+        assertThat(storageUsed.getPublicCellsUsed()).isEqualTo(BigInteger.ZERO);
+        assertThat(stat.toStorageUsedShort().getBits()).isEqualTo(BigInteger.valueOf(2 * STATE_BITS - CODE_BITS));
+
+        // the root of an outgoing message is not counted
+        CellStorageStat message = new CellStorageStat();
+        assertThat(message.addUsedStorage(buildMessage(3), true)).isTrue();
+        assertThat(message.getCells()).isEqualTo(3);
+        assertThat(message.getBits()).isEqualTo(3 * 1023);
+        assertThat(message.getMaxDepth()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCellStorageStatLimits() {
+        SizeLimitsConfigV2 sizeLimits = SizeLimitsConfigV2.builder()
+                .maxMsgCells(1000)
+                .maxMsgBits(4 * 1023)
+                .maxAccStateCells(CODE_CELLS + 3)
+                .maxAccStateBits(1 << 20)
+                .build();
+
+        CellStorageStat message = CellStorageStat.forMessage(sizeLimits);
+        assertThat(message.addUsedStorage(buildMessage(10))).isFalse();
+        assertThat(message.isLimitExceeded()).isTrue();
+        // counting stops at the 4th cell of the body, the rest of the chain is not walked
+        assertThat(message.getCells()).isEqualTo(5);
+        assertThat(message.getBits()).isEqualTo(6 + 4 * 1023);
+        assertThat(message.addUsedStorage(CellBuilder.beginCell().endCell())).isFalse();
+
+        assertThat(CellStorageStat.forMessage(sizeLimits).addUsedStorage(buildMessage(10), true)).isFalse();
+        assertThat(CellStorageStat.forMessage(sizeLimits).addUsedStorage(buildMessage(4), true)).isTrue();
+
+        // the first state fits, the second one exceeds the limit with its data cell, after shared code is skipped
+        CellStorageStat state = CellStorageStat.forAccountState(sizeLimits);
+        assertThat(state.addUsedStorage(buildAccountState(buildCode(), 1))).isTrue();
+        assertThat(state.addUsedStorage(buildAccountState(buildCode(), 2))).isFalse();
+        assertThat(state.getCells()).isEqualTo(CODE_CELLS + 4);
+        assertThat(state.isLimitExceeded()).isTrue();
+    }
+}
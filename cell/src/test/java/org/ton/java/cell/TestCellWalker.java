@@ -0,0 +1,97 @@
+package org.ton.java.cell;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestCellWalker {
+
+    /**
+     * 1 -> (2 -> 4, 3 -> (4, 5))
+     */
+    private static Cell buildTree() {
+        Cell c4 = CellBuilder.beginCell().storeUint(4, 8).endCell();
+        Cell c5 = CellBuilder.beginCell().storeUint(5, 8).endCell();
+        Cell c2 = CellBuilder.beginCell().storeUint(2, 8).storeRef(c4).endCell();
+        Cell c3 = CellBuilder.beginCell().storeUint(3, 8).storeRef(c4).storeRef(c5).endCell();
+        return CellBuilder.beginCell().storeUint(1, 8).storeRef(c2).storeRef(c3).endCell();
+    }
+
+    private static List<String> walk(CellWalker walker, int skip, int stop) {
+        List<String> visited = new ArrayList<>();
+        walker.walk((cell, depth, index) -> {
+            int value = CellSlice.beginParse(cell).loadUint(8).intValue();
+            visited.add(value + ":" + depth + ":" + index);
+            if (value == stop) {
+                return CellVisitor.Action.STOP;
+            }
+            return (value == skip) ? CellVisitor.Action.SKIP_REFS : CellVisitor.Action.CONTINUE;
+        });
+        return visited;
+    }
+
+    @Test
+    public void testCellWalkerOrders() {
+        Cell root = buildTree();
+        assertThat(walk(CellWalker.of(root), 0, 0))
+                .containsExactly("1:0:-1", "2:1:0", "4:2:0", "3:1:1", "4:2:0", "5:2:1");
+        assertThat(walk(CellWalker.of(root).postOrder(), 0, 0))
+                .containsExactly("4:2:0", "2:1:0", "4:2:0", "5:2:1", "3:1:1", "1:0:-1");
+        assertThat(walk(CellWalker.of(root).breadthFirst(), 0, 0))
+                .containsExactly("1:0:-1", "2:1:0", "3:1:1", "4:2:0", "4:2:0", "5:2:1");
+        assertThat(walk(CellWalker.of(root).unique(), 0, 0))
+                .containsExactly("1:0:-1", "2:1:0", "4:2:0", "3:1:1", "5:2:1");
+        assertThat(walk(CellWalker.of(root).breadthFirst().unique().reversedRefs(), 0, 0))
+                .containsExactly("1:0:-1", "3:1:1", "2:1:0", "5:2:1", "4:2:0");
+        assertThat(walk(CellWalker.of(root).postOrder().unique().reversedRefs(), 0, 0))
+                .containsExactly("5:2:1", "4:2:0", "3:1:1", "2:1:0", "1:0:-1");
+    }
+
+    @Test
+    public void testCellWalkerSkipAndStop() {
+        Cell root = buildTree();
+        assertThat(walk(CellWalker.of(root), 3, 0))
+                .containsExactly("1:0:-1", "2:1:0", "4:2:0", "3:1:1");
+        assertThat(walk(CellWalker.of(root).breadthFirst(), 2, 0))
+                .containsExactly("1:0:-1", "2:1:0", "3:1:1", "4:2:0", "5:2:1");
+        assertThat(CellWalker.of(root).walk((cell, depth, index) -> CellVisitor.Action.CONTINUE)).isTrue();
+        assertThat(walk(CellWalker.of(root), 0, 4)).containsExactly("1:0:-1", "2:1:0", "4:2:0");
+        assertThat(walk(CellWalker.of(root).postOrder(), 0, 2)).containsExactly("4:2:0", "2:1:0");
+        assertThat(CellWalker.of(root).walk((cell, depth, index) -> CellVisitor.Action.STOP)).isFalse();
+    }
+
+    @Test
+    public void testCellWalkerDeepChain() {
+        Cell cell = CellBuilder.beginCell().storeUint(0, 8).endCell();
+        for (int i = 1; i < 20000; i++) {
+            cell = CellBuilder.beginCell().storeUint(i % 256, 8).storeRef(cell).endCell();
+        }
+        int[] count = new int[1];
+        CellWalker.of(cell).walk((c, depth, index) -> {
+            count[0]++;
+            return CellVisitor.Action.CONTINUE;
+        });
+        assertThat(count[0]).isEqualTo(20000);
+        String printed = cell.print();
+        assertThat(printed).startsWith("x{1F}\n x{1E}\n");
+        assertThat(printed.split("\n")).hasSize(20000);
+    }
+
+    @Test
+    public void testCellWalkerPrintAndBoc() {
+        Cell root = buildTree();
+        assertThat(root.print()).isEqualTo("x{01}\n x{02}\n  x{04}\n x{03}\n  x{04}\n  x{05}\n");
+        assertThat(root.print("  ")).startsWith("  x{01}\n   x{02}\n");
+        Cell loaded = Cell.fromBoc(root.toBoc());
+        assertThat(loaded.hash()).isEqualTo(root.hash());
+        assertThat(loaded.print()).isEqualTo(root.print());
+    }
+}
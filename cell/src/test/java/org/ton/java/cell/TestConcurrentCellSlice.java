@@ -14,6 +14,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 @RunWith(ConcurrentTestRunner.class)
 public class TestConcurrentCellSlice {
 
+    private static final Cell ROOT = CellBuilder.beginCell().storeUint(1, 8)
+            .storeRef(CellBuilder.beginCell().storeUint(2, 8).endCell())
+            .storeRef(CellBuilder.beginCell().storeUint(3, 8).storeRef(CellBuilder.beginCell().storeUint(4, 8).endCell()).endCell())
+            .endCell();
+    private static final Cell SHARED = Cell.fromBocLazy(ROOT.toBoc());
+
+    @Test
+    @ThreadCount(6)
+    public void testConcurrentSharedCell() {
+        assertThat(SHARED.hashCode()).isEqualTo(ROOT.hashCode());
+        assertThat(SHARED).isEqualTo(ROOT);
+        assertThat(SHARED.refCount()).isEqualTo(2);
+        CellSlice cs = CellSlice.beginParse(SHARED.refAt(1));
+        assertThat(cs.loadUint(8).longValue()).isEqualTo(3);
+        assertThat(CellSlice.beginParse(cs.loadRef()).loadUint(8).longValue()).isEqualTo(4);
+        assertThat(SHARED.getBits().readUint(8).longValue()).isEqualTo(1);
+    }
+
     @Test
     @ThreadCount(6)
     public void testConcurrentCellSlice() {
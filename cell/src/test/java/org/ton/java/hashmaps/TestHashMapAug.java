@@ -5,9 +5,16 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.ton.java.bitstring.BitString;
 import org.ton.java.cell.*;
 
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
 
 
 @Slf4j
@@ -46,6 +53,98 @@ public class TestHashMapAug {
         log.info("Deserialized hashmap from cell {}", loadedDict);
 
         assertThat(loadedDict.elements.size()).isEqualTo(10);
+
+        DictIterator it = DictIterator.of(cell, 32);
+        for (long i = 1; i <= 10; i++) {
+            DictIterator.Entry entry = it.next();
+            assertThat(entry.getKey().readUint(32).longValue()).isEqualTo(i);
+            CellSlice extraAndValue = entry.getValue();
+            assertThat(extraAndValue.loadUint(32).longValue()).isEqualTo(i * 3 * i * 3);
+            assertThat(extraAndValue.loadUint(32).longValue()).isEqualTo(i * 3);
+        }
+        assertThat(it.hasNext()).isFalse();
+
+        DictBuilder builder = DictBuilder.beginDictAug(32, (left, right) -> CellBuilder.beginCell()
+                .storeUint(CellSlice.beginParse(left).loadUint(32).add(CellSlice.beginParse(right).loadUint(32)), 32)
+                .endCell());
+        for (long i = 1; i <= 10; i++) {
+            builder.storeEntry(CellBuilder.beginCell().storeUint(i, 32).endCell().getBits(),
+                    CellBuilder.beginCell().storeUint(i * 3 * i * 3, 32).endCell(),
+                    CellBuilder.beginCell().storeUint(i * 3, 32).endCell());
+        }
+        Cell builtCell = builder.endDictE();
+        TonHashMapAugE builtDict = CellSlice.beginParse(builtCell).loadDictAugE(32,
+                k -> k.readUint(32),
+                v -> CellSlice.beginParse(v).loadUint(32),
+                e -> CellSlice.beginParse(e).loadUint(32)
+        );
+        assertThat(builtDict.elements).isEqualTo(loadedDict.elements);
+        TonHashMapAugE parallelDict = CellSlice.beginParse(builtCell).loadDictAugE(32,
+                k -> k.readUint(32),
+                v -> CellSlice.beginParse(v).loadUint(32),
+                e -> CellSlice.beginParse(e).loadUint(32),
+                3
+        );
+        assertThat(parallelDict.elements).isEqualTo(loadedDict.elements);
+        CellSlice built = CellSlice.beginParse(builtCell);
+        built.loadMaybeRefX();
+        // root extra is the sum of extras of all leaves
+        assertThat(built.loadUint(32).longValue()).isEqualTo(9 * 385);
+    }
+
+    @Test
+    public void testHashMapAugIncrementalUpdates() {
+        BinaryOperator<Cell> sum = (left, right) -> CellBuilder.beginCell()
+                .storeUint(CellSlice.beginParse(left).loadUint(32).add(CellSlice.beginParse(right).loadUint(32)), 32)
+                .endCell();
+        DictAugUpdater updater = new DictAugUpdater(16, cs -> cs.loadUint(32), sum, 64);
+        TreeMap<Long, Long> entries = new TreeMap<>();
+        Cell root = null;
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            long key = random.nextInt(300);
+            BitString keyBits = CellBuilder.beginCell().storeUint(key, 16).endCell().getBits();
+            if (random.nextInt(4) == 0) {
+                entries.remove(key);
+                root = updater.delete(root, keyBits);
+            } else {
+                long value = random.nextInt(1000);
+                entries.put(key, value);
+                root = updater.set(root, keyBits,
+                        CellBuilder.beginCell().storeUint(value, 32).endCell(),
+                        CellBuilder.beginCell().storeUint(key, 16).endCell());
+            }
+
+            DictBuilder builder = DictBuilder.beginDictAug(16, sum);
+            for (Map.Entry<Long, Long> entry : entries.entrySet()) {
+                builder.storeEntry(entry.getKey(),
+                        CellBuilder.beginCell().storeUint(entry.getValue(), 32).endCell(),
+                        CellBuilder.beginCell().storeUint(entry.getKey(), 16).endCell());
+            }
+            Cell expected = builder.endDict();
+            if (expected == null) {
+                assertThat(root).isNull();
+                continue;
+            }
+            assertThat(root).isEqualTo(expected);
+            long total = entries.values().stream().mapToLong(Long::longValue).sum();
+            assertThat(CellSlice.beginParse(updater.getExtra(root)).loadUint(32).longValue()).isEqualTo(total);
+        }
+    }
+
+    @Test
+    public void testHashMapAugRejectsPlainUpdates() {
+        DictBuilder builder = DictBuilder.beginDictAug(16, (left, right) -> CellBuilder.beginCell()
+                .storeUint(CellSlice.beginParse(left).loadUint(32).add(CellSlice.beginParse(right).loadUint(32)), 32)
+                .endCell());
+        for (long i = 1; i <= 10; i++) {
+            builder.storeEntry(i, CellBuilder.beginCell().storeUint(i, 32).endCell(), CellBuilder.beginCell().storeUint(i, 16).endCell());
+        }
+        Cell root = builder.endDict();
+        BitString key = CellBuilder.beginCell().storeUint(100, 16).endCell().getBits();
+        Cell value = CellBuilder.beginCell().storeUint(100, 16).endCell();
+        assertThrows(Error.class, () -> TonHashMap.set(root, 16, key, value));
+        assertThrows(Error.class, () -> TonHashMap.delete(root, 16, CellBuilder.beginCell().storeUint(5, 16).endCell().getBits()));
     }
 
     @Test
@@ -10,9 +10,11 @@ import org.ton.java.bitstring.BitString;
 import org.ton.java.cell.*;
 
 import java.math.BigInteger;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
 
 @Slf4j
 @RunWith(JUnit4.class)
@@ -385,4 +387,222 @@ public class TestHashMapE {
 
         assertThat(loadedDictX.elements.size()).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHashMapEIterator() {
+        int dictKeySize = 16;
+        TonHashMapE x = new TonHashMapE(dictKeySize);
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        for (long i = 0; i < 500; i++) {
+            long key = (i * 7919) % 65536;
+            x.elements.put(key, i);
+            expected.put(key, i);
+        }
+
+        Cell dict = x.serialize(
+                k -> CellBuilder.beginCell().storeUint((Long) k, dictKeySize).endCell().getBits(),
+                v -> CellBuilder.beginCell().storeUint((Long) v, 32).endCell()
+        );
+        Cell root = CellSlice.beginParse(dict).loadMaybeRefX();
+
+        List<Long> keys = new ArrayList<>();
+        DictIterator it = DictIterator.of(root, dictKeySize);
+        while (it.hasNext()) {
+            DictIterator.Entry entry = it.next();
+            long key = entry.getKey().readUint(dictKeySize).longValue();
+            assertThat(entry.getValue().loadUint(32).longValue()).isEqualTo(expected.get(key));
+            keys.add(key);
+        }
+        assertThat(keys).containsExactlyElementsOf(expected.keySet());
+
+        List<Long> descending = DictIterator.of(root, dictKeySize).descending().stream()
+                .map(e -> e.getKey().readUint(dictKeySize).longValue())
+                .collect(Collectors.toList());
+        assertThat(descending).containsExactlyElementsOf(expected.descendingKeySet());
+
+        assertThat(DictIterator.min(root, dictKeySize).getKey().readUint(dictKeySize).longValue()).isEqualTo(expected.firstKey());
+        assertThat(DictIterator.max(root, dictKeySize).getKey().readUint(dictKeySize).longValue()).isEqualTo(expected.lastKey());
+        assertThat(DictIterator.min(null, dictKeySize)).isNull();
+
+        for (long key : new long[]{0, 1, 7919, 7920, 30000, expected.lastKey()}) {
+            DictIterator.Entry next = DictIterator.nextAfter(root, dictKeySize, key(key, dictKeySize));
+            Long higher = expected.higherKey(key);
+            if (higher == null) {
+                assertThat(next).isNull();
+            } else {
+                assertThat(next.getKey().readUint(dictKeySize).longValue()).isEqualTo(higher);
+            }
+        }
+
+        List<Long> range = DictIterator.of(root, dictKeySize).from(key(7919, dictKeySize)).to(key(40000, dictKeySize)).stream()
+                .map(e -> e.getKey().readUint(dictKeySize).longValue())
+                .collect(Collectors.toList());
+        assertThat(range).containsExactlyElementsOf(expected.subMap(7919L, true, 40000L, false).keySet());
+
+        BitString prefix = new BitString(5);
+        prefix.writeUint(0b10110, 5);
+        List<Long> withPrefix = DictIterator.of(root, dictKeySize).withPrefix(prefix).stream()
+                .map(e -> e.getKey().readUint(dictKeySize).longValue())
+                .collect(Collectors.toList());
+        assertThat(withPrefix).isNotEmpty();
+        assertThat(withPrefix).containsExactlyElementsOf(expected.subMap(0b10110L << 11, (0b10111L << 11)).keySet());
+    }
+
+    @Test
+    public void testHashMapEPersistentUpdates() {
+        int dictKeySize = 16;
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        Cell root = null;
+        for (long i = 0; i < 300; i++) {
+            long key = (i * 7919) % 65536;
+            Cell previous = root;
+            root = TonHashMap.set(root, dictKeySize, key(key, dictKeySize), CellBuilder.beginCell().storeUint(i, 32).endCell());
+            expected.put(key, i);
+            // only edges on the path to the key are new, at most one per key bit plus the new leaf
+            assertThat(newCells(previous, root)).isLessThanOrEqualTo(dictKeySize + 2);
+        }
+        assertDict(root, dictKeySize, expected);
+
+        TonHashMapE x = new TonHashMapE(dictKeySize);
+        x.elements.putAll(expected);
+        Cell serialized = x.serialize(
+                k -> key((Long) k, dictKeySize),
+                v -> CellBuilder.beginCell().storeUint((Long) v, 32).endCell()
+        );
+        Cell updated = TonHashMap.set(CellSlice.beginParse(serialized).loadMaybeRefX(), dictKeySize, key(7919, dictKeySize),
+                CellBuilder.beginCell().storeUint(5, 32).endCell());
+        expected.put(7919L, 5L);
+        assertDict(updated, dictKeySize, expected);
+
+        Cell replaced = TonHashMap.replace(root, dictKeySize, key(7919, dictKeySize), CellBuilder.beginCell().storeUint(5, 32).endCell());
+        assertDict(replaced, dictKeySize, expected);
+        assertThat(TonHashMap.replace(root, dictKeySize, key(1, dictKeySize), CellBuilder.beginCell().endCell())).isSameAs(root);
+        assertThat(TonHashMap.delete(root, dictKeySize, key(1, dictKeySize))).isSameAs(root);
+
+        for (long i = 0; i < 300; i += 2) {
+            long key = (i * 7919) % 65536;
+            replaced = TonHashMap.delete(replaced, dictKeySize, key(key, dictKeySize));
+            expected.remove(key);
+        }
+        assertDict(replaced, dictKeySize, expected);
+
+        for (Long key : new ArrayList<>(expected.keySet())) {
+            replaced = TonHashMap.delete(replaced, dictKeySize, key(key, dictKeySize));
+        }
+        assertThat(replaced).isNull();
+    }
+
+    @Test
+    public void testHashMapEBulkBuilder() {
+        int dictKeySize = 16;
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        Cell updated = null;
+        for (long i = 0; i < 300; i++) {
+            long key = (i * 7919) % 65536;
+            expected.put(key, i);
+            updated = TonHashMap.set(updated, dictKeySize, key(key, dictKeySize), CellBuilder.beginCell().storeUint(i, 32).endCell());
+        }
+
+        DictBuilder builder = DictBuilder.beginDict(dictKeySize);
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            builder.storeEntry(key(entry.getKey(), dictKeySize), CellBuilder.beginCell().storeUint(entry.getValue(), 32).endCell());
+        }
+        Cell root = builder.endDict();
+        assertDict(root, dictKeySize, expected);
+        // the trie of a key set is unique and both write labels in the shortest form
+        assertThat(root.getHash()).isEqualTo(updated.getHash());
+
+        DictBuilder e = DictBuilder.beginDict(dictKeySize);
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            e.storeEntry(key(entry.getKey(), dictKeySize), CellBuilder.beginCell().storeUint(entry.getValue(), 32).endCell());
+        }
+        TonHashMap loaded = CellSlice.beginParse(e.endDictE()).loadDictE(dictKeySize,
+                k -> k.readUint(dictKeySize).longValue(),
+                v -> CellSlice.beginParse(v).loadUint(32).longValue());
+        assertThat(loaded.elements).isEqualTo(expected);
+
+        assertThat(DictBuilder.beginDict(dictKeySize).endDict()).isNull();
+        assertThat(DictBuilder.beginDict(dictKeySize).endDictE().getBits().getUsedBits()).isEqualTo(1);
+        DictBuilder unsorted = DictBuilder.beginDict(dictKeySize).storeEntry(key(2, dictKeySize), CellBuilder.beginCell().endCell());
+        assertThrows(Error.class, () -> unsorted.storeEntry(key(1, dictKeySize), CellBuilder.beginCell().endCell()));
+        assertThrows(Error.class, () -> unsorted.storeEntry(key(2, dictKeySize), CellBuilder.beginCell().endCell()));
+    }
+
+    @Test
+    public void testHashMapEBulkBuilderLarge() {
+        int dictKeySize = 64;
+        int n = 10000;
+        DictBuilder builder = DictBuilder.beginDict(dictKeySize);
+        for (long i = 0; i < n; i++) {
+            builder.storeEntry(key(i * 1000003, dictKeySize), CellBuilder.beginCell().storeUint(i, 16).endCell());
+        }
+        Cell root = builder.endDict();
+        assertThat(builder.getCount()).isEqualTo(n);
+        assertThat(TonHashMap.lookup(root, dictKeySize, key(4321 * 1000003L, dictKeySize)).loadUint(16).longValue()).isEqualTo(4321);
+        assertThat(DictIterator.of(root, dictKeySize).stream().count()).isEqualTo(n);
+    }
+
+    @Test
+    public void testHashMapEParallelDeserialization() {
+        int dictKeySize = 32;
+        DictBuilder builder = DictBuilder.beginDict(dictKeySize);
+        for (long i = 0; i < 5000; i++) {
+            builder.storeEntry(i * 858993, CellBuilder.beginCell().storeUint(i, 16).endCell());
+        }
+        Cell dict = Cell.fromBocLazy(builder.endDictE().toBoc());
+
+        TonHashMap sequential = CellSlice.beginParse(dict).loadDictE(dictKeySize,
+                k -> k.readUint(dictKeySize),
+                v -> CellSlice.beginParse(v).loadUint(16));
+        for (int splitDepth : new int[]{0, 1, 4, 20}) {
+            TonHashMapE parallel = CellSlice.beginParse(dict).loadDictE(dictKeySize,
+                    k -> k.readUint(dictKeySize),
+                    v -> CellSlice.beginParse(v).loadUint(16),
+                    splitDepth);
+            assertThat(parallel.elements).isEqualTo(sequential.elements);
+            assertThat(new ArrayList<>(parallel.elements.keySet())).containsExactlyElementsOf(sequential.elements.keySet());
+        }
+        assertThat(CellSlice.beginParse(DictBuilder.beginDict(dictKeySize).endDictE())
+                .loadDictE(dictKeySize, k -> k, v -> v, 4).elements).isEmpty();
+    }
+
+    private static int newCells(Cell previous, Cell root) {
+        Set<Cell> old = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Cell> stack = new ArrayDeque<>();
+        if (previous != null) {
+            stack.push(previous);
+        }
+        while (!stack.isEmpty()) {
+            Cell c = stack.pop();
+            if (old.add(c)) {
+                stack.addAll(c.getRefs());
+            }
+        }
+        int count = 0;
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Cell c = stack.pop();
+            if (!old.contains(c)) {
+                count++;
+                stack.addAll(c.getRefs());
+            }
+        }
+        return count;
+    }
+
+    private static void assertDict(Cell root, int keySize, TreeMap<Long, Long> expected) {
+        List<Long> keys = new ArrayList<>();
+        DictIterator it = DictIterator.of(root, keySize);
+        while (it.hasNext()) {
+            DictIterator.Entry entry = it.next();
+            long key = entry.getKey().readUint(keySize).longValue();
+            assertThat(entry.getValue().loadUint(32).longValue()).isEqualTo(expected.get(key));
+            keys.add(key);
+        }
+        assertThat(keys).containsExactlyElementsOf(expected.keySet());
+    }
+
+    private static BitString key(long key, int keySize) {
+        return CellBuilder.beginCell().storeUint(key, keySize).endCell().getBits();
+    }
+}
@@ -0,0 +1,88 @@
+package org.ton.java.hashmaps;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.ton.java.cell.*;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@Slf4j
+@RunWith(JUnit4.class)
+public class TestLongHashMap {
+
+    @Test
+    public void testLongHashMapPutGetRemove() {
+        TonLongHashMap x = new TonLongHashMap(16);
+        x.put(300, "c");
+        x.put(100, "a");
+        x.put(200, "b");
+        assertThat(x.put(200, "bb")).isEqualTo("b");
+        assertThat(x.size()).isEqualTo(3);
+        assertThat(x.keyAt(0)).isEqualTo(100);
+        assertThat(x.keyAt(2)).isEqualTo(300);
+        assertThat(x.get(200)).isEqualTo("bb");
+        assertThat(x.get(201)).isNull();
+        assertThat(x.remove(100)).isEqualTo("a");
+        assertThat(x.containsKey(100)).isFalse();
+        assertThat(x.size()).isEqualTo(2);
+        assertThrows(Error.class, () -> x.put(65536, "d"));
+        log.info("long hashmap {}", x);
+    }
+
+    @Test
+    public void testLongHashMapSerialization() {
+        int dictKeySize = 32;
+        TonHashMap expected = new TonHashMap(dictKeySize);
+        TonLongHashMap x = new TonLongHashMap(dictKeySize);
+        for (long i = 0; i < 1000; i++) {
+            long key = (i * 2654435761L) & 0xFFFFFFFFL;
+            x.put(key, i);
+            expected.elements.put(key, i);
+        }
+
+        Cell cell = x.serialize(v -> CellBuilder.beginCell().storeUint((Long) v, 16).endCell());
+        TonHashMap loaded = CellSlice.beginParse(cell).loadDict(dictKeySize,
+                k -> k.readUint(dictKeySize).longValue(),
+                v -> CellSlice.beginParse(v).loadUint(16).longValue());
+        assertThat(loaded.elements).isEqualTo(expected.elements);
+
+        Cell serialized = expected.serialize(
+                k -> CellBuilder.beginCell().storeUint((Long) k, dictKeySize).endCell().getBits(),
+                v -> CellBuilder.beginCell().storeUint((Long) v, 16).endCell());
+        TonLongHashMap loadedLong = CellSlice.beginParse(serialized).loadDictLong(dictKeySize,
+                v -> CellSlice.beginParse(v).loadUint(16).longValue());
+        assertThat(loadedLong.size()).isEqualTo(1000);
+        for (int i = 0; i < loadedLong.size(); i++) {
+            assertThat(loadedLong.valueAt(i)).isEqualTo(expected.elements.get(loadedLong.keyAt(i)));
+            if (i > 0) {
+                assertThat(loadedLong.keyAt(i)).isGreaterThan(loadedLong.keyAt(i - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testLongHashMapEUint64Keys() {
+        TonLongHashMapE x = new TonLongHashMapE(64);
+        x.put(-1L, 1L);
+        x.put(0, 2L);
+        x.put(Long.MAX_VALUE, 3L);
+        x.put(Long.MIN_VALUE, 4L);
+        assertThat(x.keyAt(0)).isEqualTo(0);
+        assertThat(x.keyAt(3)).isEqualTo(-1L);
+
+        Cell cell = x.serialize(v -> CellBuilder.beginCell().storeUint((Long) v, 8).endCell());
+        TonLongHashMapE loaded = CellSlice.beginParse(cell).loadDictLongE(64, v -> CellSlice.beginParse(v).loadUint(8).longValue());
+        assertThat(loaded.toString()).isEqualTo(x.toString());
+
+        TonHashMap big = CellSlice.beginParse(cell).loadDictE(64, k -> k.readUint(64), v -> CellSlice.beginParse(v).loadUint(8).longValue());
+        assertThat(big.elements.get(new BigInteger("18446744073709551615"))).isEqualTo(1L);
+
+        TonLongHashMapE empty = new TonLongHashMapE(64);
+        assertThat(CellSlice.beginParse(empty.serialize(v -> null)).loadDictLongE(64, v -> v).isEmpty()).isTrue();
+    }
+}
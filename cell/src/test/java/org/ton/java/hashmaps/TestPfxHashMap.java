@@ -7,6 +7,7 @@ import org.junit.runners.JUnit4;
 import org.ton.java.cell.Cell;
 import org.ton.java.cell.CellBuilder;
 import org.ton.java.cell.CellSlice;
+import org.ton.java.cell.DictIterator;
 import org.ton.java.cell.TonPfxHashMap;
 import org.ton.java.utils.Utils;
 
@@ -74,5 +75,13 @@ public class TestPfxHashMap {
 
         assertThat(Utils.bytesToHex(cell.toBoc())).isEqualTo(Utils.bytesToHex(cell.toBoc()));
         assertThat(dex.elements.size()).isEqualTo(4);
+
+        DictIterator it = DictIterator.ofPfx(cell, dictKeySize);
+        for (long i = 1; i <= 4; i++) {
+            DictIterator.Entry entry = it.next();
+            assertThat(entry.getKey().readUint(dictKeySize).longValue()).isEqualTo(i * 100);
+            assertThat(entry.getValue().loadUint(3).longValue()).isEqualTo(i);
+        }
+        assertThat(it.hasNext()).isFalse();
     }
 }
\ No newline at end of file